@@ -0,0 +1,138 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.example.UserProfileVO;
+import com.example.translate.handler.TranslateHandler;
+import com.example.translate.handler.impl.CacheDictTranslateHandler;
+import com.example.translate.handler.impl.EnumTranslateHandler;
+import com.example.translate.handler.impl.RpcTranslateHandler;
+import com.example.translate.handler.impl.TableTranslateHandler;
+import com.example.translate.registry.TranslateHandlerRegistry;
+import com.example.translate.spi.DictCacheProvider;
+import com.example.translate.spi.MockRpcTranslateClient;
+import com.example.translate.spi.RpcTranslateClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 基准测试共享的数据与处理器装配。
+ * <p>
+ * 设计意图：遍历类基准只衡量执行器自身开销，因此缓存与 RPC 使用内存实现；
+ * 需要 I/O 的场景由各自的基准单独装配。
+ * </p>
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 全部命中的内存字典：code -> "{dictKey}:{code}"。
+     */
+    static DictCacheProvider inMemoryCache() {
+        return (dictKey, codes) -> {
+            Map<Object, Object> result = new HashMap<>(codes.size() * 2);
+            for (Object code : codes) {
+                result.put(code, dictKey + ":" + code);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * 带固定注入延迟的 Mock RPC 客户端。
+     */
+    static RpcTranslateClient latencyInjectedRpc(long latencyMicros) {
+        RpcTranslateClient mock = new MockRpcTranslateClient();
+        if (latencyMicros <= 0) {
+            return mock;
+        }
+        return (service, method, codes, param) -> {
+            LockSupport.parkNanos(latencyMicros * 1000L);
+            return mock.batchFetch(service, method, codes, param);
+        };
+    }
+
+    /**
+     * 内存处理器注册表：TABLE 只走缓存，不访问数据库。
+     */
+    static TranslateHandlerRegistry inMemoryRegistry() {
+        DictCacheProvider cache = inMemoryCache();
+        Map<TranslateType, TranslateHandler> handlers = new EnumMap<>(TranslateType.class);
+        handlers.put(TranslateType.ENUM, new EnumTranslateHandler());
+        handlers.put(TranslateType.CACHE, new CacheDictTranslateHandler(cache));
+        handlers.put(TranslateType.TABLE, new TableTranslateHandler(null, cache));
+        handlers.put(TranslateType.RPC, new RpcTranslateHandler(new MockRpcTranslateClient()));
+        return handlers::get;
+    }
+
+    static List<UserProfileVO> profiles(int size) {
+        List<UserProfileVO> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserProfileVO vo = new UserProfileVO();
+            vo.setStatus(i % 2);
+            vo.setDeptCode("d" + (i % 50));
+            vo.setOrgId((long) (i % 500));
+            vo.setRemoteCode("r" + (i % 200));
+            list.add(vo);
+        }
+        return list;
+    }
+
+    static void resetProfiles(Collection<UserProfileVO> profiles) {
+        for (UserProfileVO vo : profiles) {
+            vo.setStatusName(null);
+            vo.setDeptName(null);
+            vo.setOrgName(null);
+            vo.setRemoteName(null);
+        }
+    }
+
+    /**
+     * 构建满多叉树，节点数为 (fanout^(depth+1) - 1) / (fanout - 1)。
+     */
+    static OrgNodeVO tree(int depth, int fanout) {
+        int[] seq = {0};
+        return buildTree(depth, fanout, seq);
+    }
+
+    private static OrgNodeVO buildTree(int depth, int fanout, int[] seq) {
+        OrgNodeVO node = new OrgNodeVO(seq[0]++);
+        if (depth > 0) {
+            for (int i = 0; i < fanout; i++) {
+                node.getChildren().add(buildTree(depth - 1, fanout, seq));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * 构建单链深层结构，用于观察深度嵌套时的遍历开销。
+     */
+    static OrgNodeVO chain(int depth) {
+        OrgNodeVO root = new OrgNodeVO(0);
+        OrgNodeVO current = root;
+        for (int i = 1; i < depth; i++) {
+            OrgNodeVO child = new OrgNodeVO(i);
+            current.getChildren().add(child);
+            current = child;
+        }
+        return root;
+    }
+
+    static void resetTree(OrgNodeVO node) {
+        List<OrgNodeVO> stack = new ArrayList<>();
+        stack.add(node);
+        while (!stack.isEmpty()) {
+            OrgNodeVO current = stack.remove(stack.size() - 1);
+            current.reset();
+            stack.addAll(current.getChildren());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.example.UserStatus;
+
+/**
+ * 直接调用处理器时所需的注解元信息载体。
+ */
+final class BenchmarkMetas {
+
+    @TranslateField(type = TranslateType.ENUM, enumClass = UserStatus.class, target = "smallName")
+    private Integer small;
+
+    @TranslateField(type = TranslateType.ENUM, enumClass = LargeCodeEnum.class, target = "largeName")
+    private Integer large;
+
+    @TranslateField(type = TranslateType.TABLE, table = "org", keyColumn = "id", valueColumn = "name", target = "orgName")
+    private Long org;
+
+    @TranslateField(type = TranslateType.RPC, rpcService = "user-profile", rpcMethod = "batchName", target = "remoteName")
+    private String remote;
+
+    private BenchmarkMetas() {
+    }
+
+    static TranslateField of(String fieldName) {
+        try {
+            return BenchmarkMetas.class.getDeclaredField(fieldName).getAnnotation(TranslateField.class);
+        } catch (NoSuchFieldException ex) {
+            throw new IllegalArgumentException("unknown meta field: " + fieldName, ex);
+        }
+    }
+}
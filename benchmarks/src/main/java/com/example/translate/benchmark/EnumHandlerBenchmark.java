@@ -0,0 +1,73 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.handler.impl.EnumTranslateHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 枚举处理器：小枚举（2 个常量）与大枚举（256 个常量）的批量匹配成本。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumHandlerBenchmark {
+
+    @Param({"10", "1000"})
+    public int batchSize;
+
+    private final EnumTranslateHandler handler = new EnumTranslateHandler();
+    private TranslateField smallMeta;
+    private TranslateField largeMeta;
+    private List<Object> smallCodes;
+    private List<Object> largeCodes;
+    private TranslateContext context;
+
+    @Setup
+    public void setUp() {
+        smallMeta = BenchmarkMetas.of("small");
+        largeMeta = BenchmarkMetas.of("large");
+        SplittableRandom random = new SplittableRandom(42);
+        smallCodes = new ArrayList<>(batchSize);
+        largeCodes = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            smallCodes.add(random.nextInt(2));
+            largeCodes.add(random.nextInt(256));
+        }
+        context = TranslateContext.current();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TranslateContext.clear();
+    }
+
+    @Benchmark
+    public Object smallEnum() {
+        return handler.batchTranslate(smallCodes, smallMeta, context);
+    }
+
+    @Benchmark
+    public Object largeEnum() {
+        return handler.batchTranslate(largeCodes, largeMeta, context);
+    }
+}
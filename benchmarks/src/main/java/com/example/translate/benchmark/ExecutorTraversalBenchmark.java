@@ -0,0 +1,74 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.example.UserProfileVO;
+import com.example.translate.support.DefaultTranslateExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行器遍历开销：扁平 VO 集合。
+ * <p>
+ * 每次调用前清空目标字段（计入测量），保证每轮都完整执行收集、批量翻译与写回。
+ * 处理器全部为内存实现，结果反映执行器本身的 CPU 与分配成本。
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutorTraversalBenchmark {
+
+    private final DefaultTranslateExecutor executor =
+            new DefaultTranslateExecutor(BenchmarkFixtures.inMemoryRegistry());
+
+    @State(Scope.Thread)
+    public static class ListState {
+
+        @Param({"10", "1000", "50000"})
+        public int size;
+
+        List<UserProfileVO> profiles;
+
+        @Setup
+        public void setUp() {
+            profiles = BenchmarkFixtures.profiles(size);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SingleState {
+
+        List<UserProfileVO> holder;
+
+        @Setup
+        public void setUp() {
+            holder = BenchmarkFixtures.profiles(1);
+        }
+    }
+
+    @Benchmark
+    public Object translateList(ListState state) {
+        BenchmarkFixtures.resetProfiles(state.profiles);
+        return executor.translate(state.profiles);
+    }
+
+    @Benchmark
+    public Object translateSingleObject(SingleState state) {
+        BenchmarkFixtures.resetProfiles(state.holder);
+        return executor.translate(state.holder.get(0));
+    }
+}
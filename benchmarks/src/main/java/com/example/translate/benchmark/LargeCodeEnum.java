@@ -0,0 +1,287 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.spi.CodeEnum;
+
+/**
+ * 大枚举基准：256 个常量，用于对比小枚举的匹配成本。
+ * <p>
+ * 由脚本生成，常量名与描述均无业务含义。
+ * </p>
+ */
+public enum LargeCodeEnum implements CodeEnum<Integer> {
+
+    C0(0, "code-0"),
+    C1(1, "code-1"),
+    C2(2, "code-2"),
+    C3(3, "code-3"),
+    C4(4, "code-4"),
+    C5(5, "code-5"),
+    C6(6, "code-6"),
+    C7(7, "code-7"),
+    C8(8, "code-8"),
+    C9(9, "code-9"),
+    C10(10, "code-10"),
+    C11(11, "code-11"),
+    C12(12, "code-12"),
+    C13(13, "code-13"),
+    C14(14, "code-14"),
+    C15(15, "code-15"),
+    C16(16, "code-16"),
+    C17(17, "code-17"),
+    C18(18, "code-18"),
+    C19(19, "code-19"),
+    C20(20, "code-20"),
+    C21(21, "code-21"),
+    C22(22, "code-22"),
+    C23(23, "code-23"),
+    C24(24, "code-24"),
+    C25(25, "code-25"),
+    C26(26, "code-26"),
+    C27(27, "code-27"),
+    C28(28, "code-28"),
+    C29(29, "code-29"),
+    C30(30, "code-30"),
+    C31(31, "code-31"),
+    C32(32, "code-32"),
+    C33(33, "code-33"),
+    C34(34, "code-34"),
+    C35(35, "code-35"),
+    C36(36, "code-36"),
+    C37(37, "code-37"),
+    C38(38, "code-38"),
+    C39(39, "code-39"),
+    C40(40, "code-40"),
+    C41(41, "code-41"),
+    C42(42, "code-42"),
+    C43(43, "code-43"),
+    C44(44, "code-44"),
+    C45(45, "code-45"),
+    C46(46, "code-46"),
+    C47(47, "code-47"),
+    C48(48, "code-48"),
+    C49(49, "code-49"),
+    C50(50, "code-50"),
+    C51(51, "code-51"),
+    C52(52, "code-52"),
+    C53(53, "code-53"),
+    C54(54, "code-54"),
+    C55(55, "code-55"),
+    C56(56, "code-56"),
+    C57(57, "code-57"),
+    C58(58, "code-58"),
+    C59(59, "code-59"),
+    C60(60, "code-60"),
+    C61(61, "code-61"),
+    C62(62, "code-62"),
+    C63(63, "code-63"),
+    C64(64, "code-64"),
+    C65(65, "code-65"),
+    C66(66, "code-66"),
+    C67(67, "code-67"),
+    C68(68, "code-68"),
+    C69(69, "code-69"),
+    C70(70, "code-70"),
+    C71(71, "code-71"),
+    C72(72, "code-72"),
+    C73(73, "code-73"),
+    C74(74, "code-74"),
+    C75(75, "code-75"),
+    C76(76, "code-76"),
+    C77(77, "code-77"),
+    C78(78, "code-78"),
+    C79(79, "code-79"),
+    C80(80, "code-80"),
+    C81(81, "code-81"),
+    C82(82, "code-82"),
+    C83(83, "code-83"),
+    C84(84, "code-84"),
+    C85(85, "code-85"),
+    C86(86, "code-86"),
+    C87(87, "code-87"),
+    C88(88, "code-88"),
+    C89(89, "code-89"),
+    C90(90, "code-90"),
+    C91(91, "code-91"),
+    C92(92, "code-92"),
+    C93(93, "code-93"),
+    C94(94, "code-94"),
+    C95(95, "code-95"),
+    C96(96, "code-96"),
+    C97(97, "code-97"),
+    C98(98, "code-98"),
+    C99(99, "code-99"),
+    C100(100, "code-100"),
+    C101(101, "code-101"),
+    C102(102, "code-102"),
+    C103(103, "code-103"),
+    C104(104, "code-104"),
+    C105(105, "code-105"),
+    C106(106, "code-106"),
+    C107(107, "code-107"),
+    C108(108, "code-108"),
+    C109(109, "code-109"),
+    C110(110, "code-110"),
+    C111(111, "code-111"),
+    C112(112, "code-112"),
+    C113(113, "code-113"),
+    C114(114, "code-114"),
+    C115(115, "code-115"),
+    C116(116, "code-116"),
+    C117(117, "code-117"),
+    C118(118, "code-118"),
+    C119(119, "code-119"),
+    C120(120, "code-120"),
+    C121(121, "code-121"),
+    C122(122, "code-122"),
+    C123(123, "code-123"),
+    C124(124, "code-124"),
+    C125(125, "code-125"),
+    C126(126, "code-126"),
+    C127(127, "code-127"),
+    C128(128, "code-128"),
+    C129(129, "code-129"),
+    C130(130, "code-130"),
+    C131(131, "code-131"),
+    C132(132, "code-132"),
+    C133(133, "code-133"),
+    C134(134, "code-134"),
+    C135(135, "code-135"),
+    C136(136, "code-136"),
+    C137(137, "code-137"),
+    C138(138, "code-138"),
+    C139(139, "code-139"),
+    C140(140, "code-140"),
+    C141(141, "code-141"),
+    C142(142, "code-142"),
+    C143(143, "code-143"),
+    C144(144, "code-144"),
+    C145(145, "code-145"),
+    C146(146, "code-146"),
+    C147(147, "code-147"),
+    C148(148, "code-148"),
+    C149(149, "code-149"),
+    C150(150, "code-150"),
+    C151(151, "code-151"),
+    C152(152, "code-152"),
+    C153(153, "code-153"),
+    C154(154, "code-154"),
+    C155(155, "code-155"),
+    C156(156, "code-156"),
+    C157(157, "code-157"),
+    C158(158, "code-158"),
+    C159(159, "code-159"),
+    C160(160, "code-160"),
+    C161(161, "code-161"),
+    C162(162, "code-162"),
+    C163(163, "code-163"),
+    C164(164, "code-164"),
+    C165(165, "code-165"),
+    C166(166, "code-166"),
+    C167(167, "code-167"),
+    C168(168, "code-168"),
+    C169(169, "code-169"),
+    C170(170, "code-170"),
+    C171(171, "code-171"),
+    C172(172, "code-172"),
+    C173(173, "code-173"),
+    C174(174, "code-174"),
+    C175(175, "code-175"),
+    C176(176, "code-176"),
+    C177(177, "code-177"),
+    C178(178, "code-178"),
+    C179(179, "code-179"),
+    C180(180, "code-180"),
+    C181(181, "code-181"),
+    C182(182, "code-182"),
+    C183(183, "code-183"),
+    C184(184, "code-184"),
+    C185(185, "code-185"),
+    C186(186, "code-186"),
+    C187(187, "code-187"),
+    C188(188, "code-188"),
+    C189(189, "code-189"),
+    C190(190, "code-190"),
+    C191(191, "code-191"),
+    C192(192, "code-192"),
+    C193(193, "code-193"),
+    C194(194, "code-194"),
+    C195(195, "code-195"),
+    C196(196, "code-196"),
+    C197(197, "code-197"),
+    C198(198, "code-198"),
+    C199(199, "code-199"),
+    C200(200, "code-200"),
+    C201(201, "code-201"),
+    C202(202, "code-202"),
+    C203(203, "code-203"),
+    C204(204, "code-204"),
+    C205(205, "code-205"),
+    C206(206, "code-206"),
+    C207(207, "code-207"),
+    C208(208, "code-208"),
+    C209(209, "code-209"),
+    C210(210, "code-210"),
+    C211(211, "code-211"),
+    C212(212, "code-212"),
+    C213(213, "code-213"),
+    C214(214, "code-214"),
+    C215(215, "code-215"),
+    C216(216, "code-216"),
+    C217(217, "code-217"),
+    C218(218, "code-218"),
+    C219(219, "code-219"),
+    C220(220, "code-220"),
+    C221(221, "code-221"),
+    C222(222, "code-222"),
+    C223(223, "code-223"),
+    C224(224, "code-224"),
+    C225(225, "code-225"),
+    C226(226, "code-226"),
+    C227(227, "code-227"),
+    C228(228, "code-228"),
+    C229(229, "code-229"),
+    C230(230, "code-230"),
+    C231(231, "code-231"),
+    C232(232, "code-232"),
+    C233(233, "code-233"),
+    C234(234, "code-234"),
+    C235(235, "code-235"),
+    C236(236, "code-236"),
+    C237(237, "code-237"),
+    C238(238, "code-238"),
+    C239(239, "code-239"),
+    C240(240, "code-240"),
+    C241(241, "code-241"),
+    C242(242, "code-242"),
+    C243(243, "code-243"),
+    C244(244, "code-244"),
+    C245(245, "code-245"),
+    C246(246, "code-246"),
+    C247(247, "code-247"),
+    C248(248, "code-248"),
+    C249(249, "code-249"),
+    C250(250, "code-250"),
+    C251(251, "code-251"),
+    C252(252, "code-252"),
+    C253(253, "code-253"),
+    C254(254, "code-254"),
+    C255(255, "code-255");
+
+    private final Integer code;
+    private final String desc;
+
+    LargeCodeEnum(Integer code, String desc) {
+        this.code = code;
+        this.desc = desc;
+    }
+
+    @Override
+    public Integer getCode() {
+        return code;
+    }
+
+    @Override
+    public String getDesc() {
+        return desc;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.support.DefaultTranslateExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行器遍历开销：深层嵌套结构。
+ * <p>
+ * {@code tree} 为 3 叉满树（depth=6 时 1093 个节点），
+ * {@code chain} 为单链（深度即节点数），用于观察嵌套深度对遍历的影响。
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NestedTraversalBenchmark {
+
+    private final DefaultTranslateExecutor executor =
+            new DefaultTranslateExecutor(BenchmarkFixtures.inMemoryRegistry());
+
+    @State(Scope.Thread)
+    public static class TreeState {
+
+        @Param({"3", "6"})
+        public int treeDepth;
+
+        OrgNodeVO root;
+
+        @Setup
+        public void setUp() {
+            root = BenchmarkFixtures.tree(treeDepth, 3);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ChainState {
+
+        @Param({"100", "1000"})
+        public int chainDepth;
+
+        OrgNodeVO root;
+
+        @Setup
+        public void setUp() {
+            root = BenchmarkFixtures.chain(chainDepth);
+        }
+    }
+
+    @Benchmark
+    public Object translateTree(TreeState state) {
+        BenchmarkFixtures.resetTree(state.root);
+        return executor.translate(state.root);
+    }
+
+    @Benchmark
+    public Object translateChain(ChainState state) {
+        BenchmarkFixtures.resetTree(state.root);
+        return executor.translate(state.root);
+    }
+}
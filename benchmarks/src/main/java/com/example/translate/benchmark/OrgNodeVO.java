@@ -0,0 +1,46 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.example.UserStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 嵌套结构基准使用的组织树节点。
+ */
+public class OrgNodeVO {
+
+    @TranslateField(type = TranslateType.ENUM, enumClass = UserStatus.class, target = "statusName")
+    private Integer status;
+    private String statusName;
+
+    @TranslateField(type = TranslateType.CACHE, dictKey = "dept", target = "deptName")
+    private String deptCode;
+    private String deptName;
+
+    private final List<OrgNodeVO> children = new ArrayList<>();
+
+    public OrgNodeVO(int seq) {
+        this.status = seq % 2;
+        this.deptCode = "d" + (seq % 50);
+    }
+
+    public List<OrgNodeVO> getChildren() {
+        return children;
+    }
+
+    public String getStatusName() {
+        return statusName;
+    }
+
+    public String getDeptName() {
+        return deptName;
+    }
+
+    void reset() {
+        statusName = null;
+        deptName = null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.handler.impl.RpcTranslateHandler;
+import com.example.translate.spi.ResilientRpcTranslateClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RPC 处理器：注入固定下游延迟，对比直连客户端与容错装饰客户端的额外开销。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RpcTranslateBenchmark {
+
+    @Param({"0", "500"})
+    public long latencyMicros;
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    private RpcTranslateHandler plainHandler;
+    private RpcTranslateHandler resilientHandler;
+    private TranslateField meta;
+    private List<Object> codes;
+    private TranslateContext context;
+
+    @Setup
+    public void setUp() {
+        plainHandler = new RpcTranslateHandler(BenchmarkFixtures.latencyInjectedRpc(latencyMicros));
+        resilientHandler = new RpcTranslateHandler(
+                new ResilientRpcTranslateClient(BenchmarkFixtures.latencyInjectedRpc(latencyMicros)));
+        meta = BenchmarkMetas.of("remote");
+        codes = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            codes.add("r" + i);
+        }
+        context = TranslateContext.current();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TranslateContext.clear();
+    }
+
+    @Benchmark
+    public Object plainClient() {
+        return plainHandler.batchTranslate(codes, meta, context);
+    }
+
+    @Benchmark
+    public Object resilientClient() {
+        return resilientHandler.batchTranslate(codes, meta, context);
+    }
+}
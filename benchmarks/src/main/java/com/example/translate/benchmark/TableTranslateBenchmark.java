@@ -0,0 +1,92 @@
+package com.example.translate.benchmark;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.handler.impl.TableTranslateHandler;
+import com.example.translate.support.TableSnapshotSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表处理器：H2 内存库上的 IN 查询路径与快照路径。
+ * <p>
+ * 不配置缓存，{@code query} 每次都会访问数据库；{@code snapshot} 在首次加载后只读内存。
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableTranslateBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    private TableTranslateHandler queryHandler;
+    private TableTranslateHandler snapshotHandler;
+    private TranslateField meta;
+    private List<Object> keys;
+    private TranslateContext context;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bench_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE org (id BIGINT PRIMARY KEY, name VARCHAR(64))");
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{i, "org-" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO org (id, name) VALUES (?, ?)", rows);
+
+        queryHandler = new TableTranslateHandler(jdbcTemplate, null);
+        snapshotHandler = new TableTranslateHandler(jdbcTemplate, null);
+        snapshotHandler.enableSnapshot(new TableSnapshotSpec("org", "id", "name"));
+        meta = BenchmarkMetas.of("org");
+
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            keys.add((long) random.nextInt(ROWS));
+        }
+        context = TranslateContext.current();
+        snapshotHandler.batchTranslate(keys, meta, context);
+    }
+
+    @TearDown
+    public void tearDown() {
+        TranslateContext.clear();
+    }
+
+    @Benchmark
+    public Object query() {
+        return queryHandler.batchTranslate(keys, meta, context);
+    }
+
+    @Benchmark
+    public Object snapshot() {
+        return snapshotHandler.batchTranslate(keys, meta, context);
+    }
+}
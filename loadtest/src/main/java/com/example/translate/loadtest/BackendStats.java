@@ -0,0 +1,43 @@
+package com.example.translate.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 模拟下游的调用计数：调用次数、请求键数量与注入失败次数。
+ */
+public final class BackendStats {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder keys = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    void recordCall(int keyCount) {
+        calls.increment();
+        keys.add(keyCount);
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    public long keys() {
+        return keys.sum();
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * 预热结束后清零，保证报告只统计测量阶段。
+     */
+    public void reset() {
+        calls.reset();
+        keys.reset();
+        failures.reset();
+    }
+}
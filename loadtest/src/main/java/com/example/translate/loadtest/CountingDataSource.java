@@ -0,0 +1,43 @@
+package com.example.translate.loadtest;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 统计连接获取次数并注入耗时的数据源包装。
+ * <p>
+ * 设计意图：表翻译每次查询获取一次连接，连接次数即下游查询次数；
+ * 注入耗时用于模拟网络往返，嵌入式库本身几乎没有延迟。
+ * </p>
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    private final LatencyModel latency;
+    private final BackendStats stats = new BackendStats();
+
+    public CountingDataSource(DataSource target, LatencyModel latency) {
+        super(target);
+        this.latency = latency == null ? LatencyModel.none() : latency;
+    }
+
+    public BackendStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        stats.recordCall(0);
+        latency.pause();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        stats.recordCall(0);
+        latency.pause();
+        return super.getConnection(username, password);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.translate.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 模拟下游耗时分布：主体为 [min, max] 均匀分布，按概率叠加长尾。
+ * <p>
+ * 设计意图：真实缓存/RPC 的问题多出在尾部而非均值，
+ * 用"主体 + 长尾概率"两个参数即可复现 p99 抖动，又便于在场景中直观配置。
+ * </p>
+ */
+public final class LatencyModel {
+
+    private static final LatencyModel NONE = new LatencyModel(0L, 0L, 0D, 0L);
+
+    private final long minNanos;
+    private final long maxNanos;
+    private final double tailProbability;
+    private final long tailNanos;
+
+    private LatencyModel(long minNanos, long maxNanos, double tailProbability, long tailNanos) {
+        this.minNanos = minNanos;
+        this.maxNanos = maxNanos;
+        this.tailProbability = tailProbability;
+        this.tailNanos = tailNanos;
+    }
+
+    public static LatencyModel none() {
+        return NONE;
+    }
+
+    public static LatencyModel fixed(Duration latency) {
+        return uniform(latency, latency);
+    }
+
+    public static LatencyModel uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = Math.max(minNanos, max.toNanos());
+        return new LatencyModel(minNanos, maxNanos, 0D, 0L);
+    }
+
+    /**
+     * 在当前分布上叠加长尾。
+     *
+     * @param probability 命中长尾的概率（0~1）
+     * @param tail 长尾耗时
+     * @return 新的分布
+     */
+    public LatencyModel withTail(double probability, Duration tail) {
+        return new LatencyModel(minNanos, maxNanos, probability, tail.toNanos());
+    }
+
+    /**
+     * 采样一次耗时（纳秒）。
+     */
+    public long sampleNanos() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (tailProbability > 0D && random.nextDouble() < tailProbability) {
+            return tailNanos;
+        }
+        if (maxNanos == minNanos) {
+            return minNanos;
+        }
+        return random.nextLong(minNanos, maxNanos + 1);
+    }
+
+    /**
+     * 按采样耗时阻塞当前线程。
+     */
+    public void pause() {
+        long nanos = sampleNanos();
+        if (nanos > 0L) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (this == NONE) {
+            return "none";
+        }
+        String body = minNanos == maxNanos
+                ? Duration.ofNanos(minNanos).toString()
+                : Duration.ofNanos(minNanos) + ".." + Duration.ofNanos(maxNanos);
+        return tailProbability > 0D
+                ? body + " +" + (tailProbability * 100) + "%@" + Duration.ofNanos(tailNanos)
+                : body;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.translate.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 单线程耗时采样缓冲；各线程结束后合并计算分位数。
+ * <p>
+ * 设计意图：压测线程只写自己的数组，避免共享结构的竞争干扰被测对象。
+ * </p>
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int size;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size << 1);
+        }
+        samples[size++] = nanos;
+    }
+
+    void reset() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 合并多个缓冲为升序数组。
+     */
+    static long[] merge(List<LatencyRecorder> recorders) {
+        int total = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.size;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * 最近秩法求分位数。
+     *
+     * @param sorted 升序样本
+     * @param quantile 分位（0~1）
+     * @return 样本值；无样本时为 0
+     */
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    static List<LatencyRecorder> create(int count) {
+        List<LatencyRecorder> recorders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            recorders.add(new LatencyRecorder());
+        }
+        return recorders;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.translate.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 压测入口。
+ * <p>
+ * 用法：{@code java -jar target/loadtest.jar [场景名...] [--duration=10s] [--warmup=2s]
+ * [--threads=16] [--out=results] [--baseline=results/baseline.csv]}。
+ * 存在回归时以退出码 1 结束，便于接入流水线。
+ * </p>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Set<String> selected = new HashSet<>();
+        Duration duration = null;
+        Duration warmup = null;
+        Integer threads = null;
+        Path out = Paths.get("results");
+        Path baseline = null;
+        for (String arg : args) {
+            if (arg.startsWith("--duration=")) {
+                duration = parseDuration(arg.substring("--duration=".length()));
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = parseDuration(arg.substring("--warmup=".length()));
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--out=")) {
+                out = Paths.get(arg.substring("--out=".length()));
+            } else if (arg.startsWith("--baseline=")) {
+                baseline = Paths.get(arg.substring("--baseline=".length()));
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("unknown option: " + arg);
+            } else {
+                selected.add(arg);
+            }
+        }
+
+        LoadTestRunner runner = new LoadTestRunner();
+        List<ScenarioResult> results = new ArrayList<>();
+        for (ScenarioSpec spec : Scenarios.defaults()) {
+            if (!selected.isEmpty() && !selected.contains(spec.getName())) {
+                continue;
+            }
+            if (duration != null) {
+                spec.setDuration(duration);
+            }
+            if (warmup != null) {
+                spec.setWarmup(warmup);
+            }
+            if (threads != null) {
+                spec.setThreads(threads);
+            }
+            System.out.printf("running %s (threads=%d, page=%d, duration=%s)%n",
+                    spec.getName(), spec.getThreads(), spec.getPageSize(), spec.getDuration());
+            results.add(runner.run(spec));
+        }
+
+        String report = RegressionReport.markdown(results);
+        System.out.println();
+        System.out.print(report);
+
+        Files.createDirectories(out);
+        RegressionReport.writeCsv(out.resolve("latest.csv"), results);
+        Files.writeString(out.resolve("latest.md"), report, StandardCharsets.UTF_8);
+
+        if (baseline != null && Files.exists(baseline)) {
+            Map<String, ScenarioResult> before = RegressionReport.readCsv(baseline);
+            List<String> regressions = RegressionReport.compare(results, before);
+            if (regressions.isEmpty()) {
+                System.out.println("\nno regression against " + baseline);
+            } else {
+                System.out.println("\nregressions against " + baseline + ":");
+                regressions.forEach(line -> System.out.println("  " + line));
+                System.exit(1);
+            }
+        }
+    }
+
+    private static Duration parseDuration(String text) {
+        String value = text.trim().toLowerCase();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(text);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.translate.loadtest;
+
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.example.UserProfileVO;
+import com.example.translate.handler.TranslateHandler;
+import com.example.translate.handler.impl.CacheDictTranslateHandler;
+import com.example.translate.handler.impl.EnumTranslateHandler;
+import com.example.translate.handler.impl.RpcTranslateHandler;
+import com.example.translate.handler.impl.TableTranslateHandler;
+import com.example.translate.spi.ResilientRpcTranslateClient;
+import com.example.translate.spi.RpcTranslateClient;
+import com.example.translate.support.DefaultTranslateExecutor;
+import com.example.translate.support.TableSnapshotSpec;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按场景装配模拟下游并以多线程闭环方式驱动执行器。
+ * <p>
+ * 设计意图：直接调用 {@link DefaultTranslateExecutor#translate(Object)}，
+ * 与 {@code TranslateResponseBodyAdvice} 的调用路径一致（翻译后清理上下文），
+ * 但不引入 Servlet 栈，测得的耗时只包含翻译本身。
+ * </p>
+ */
+public class LoadTestRunner {
+
+    private static final AtomicLong DB_SEQ = new AtomicLong();
+
+    /**
+     * 运行单个场景。
+     *
+     * @param spec 场景配置
+     * @return 测量结果
+     * @throws InterruptedException 等待压测线程时被中断
+     */
+    public ScenarioResult run(ScenarioSpec spec) throws InterruptedException {
+        Objects.requireNonNull(spec, "spec");
+        DriverManagerDataSource h2 = new DriverManagerDataSource(
+                "jdbc:h2:mem:loadtest_" + DB_SEQ.incrementAndGet() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(h2);
+        createOrgTable(setup, spec.getKeySpace());
+
+        CountingDataSource db = new CountingDataSource(h2, spec.getDbLatency());
+        SimulatedDictCacheProvider cache = new SimulatedDictCacheProvider(
+                spec.getCacheLatency(), spec.getCacheFailureRate(), spec.getCacheHitRatio());
+        SimulatedRpcTranslateClient rpc = new SimulatedRpcTranslateClient(
+                spec.getRpcLatency(), spec.getRpcFailureRate(), spec.getRpcHitRatio());
+
+        RpcTranslateClient client = rpc;
+        if (spec.getRpcPolicy() != null) {
+            ResilientRpcTranslateClient resilient = new ResilientRpcTranslateClient(rpc);
+            resilient.setDefaultPolicy(spec.getRpcPolicy());
+            client = resilient;
+        }
+
+        // TABLE 不挂缓存，让数据库访问次数直接反映批量与合并效果
+        TableTranslateHandler table = new TableTranslateHandler(new JdbcTemplate(db), null);
+        if (spec.isTableSnapshot()) {
+            table.enableSnapshot(new TableSnapshotSpec("org", "id", "name"));
+        }
+
+        Map<TranslateType, TranslateHandler> handlers = new EnumMap<>(TranslateType.class);
+        handlers.put(TranslateType.ENUM, new EnumTranslateHandler());
+        handlers.put(TranslateType.CACHE, new CacheDictTranslateHandler(cache));
+        handlers.put(TranslateType.TABLE, table);
+        handlers.put(TranslateType.RPC, new RpcTranslateHandler(client));
+        DefaultTranslateExecutor executor = new DefaultTranslateExecutor(handlers::get);
+        executor.setTranslateTimeout(spec.getTranslateTimeout());
+
+        int threads = Math.max(1, spec.getThreads());
+        List<LatencyRecorder> recorders = LatencyRecorder.create(threads);
+        LongAdder requests = new LongAdder();
+        LongAdder errors = new LongAdder();
+        LongAdder degraded = new LongAdder();
+        LongAdder targets = new LongAdder();
+
+        long startNanos = System.nanoTime();
+        long measureStart = startNanos + spec.getWarmup().toNanos();
+        long end = measureStart + spec.getDuration().toNanos();
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            LatencyRecorder recorder = recorders.get(i);
+            Thread worker = new Thread(() -> {
+                try {
+                    drive(executor, spec, measureStart, end, recorder, requests, errors, degraded, targets);
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-" + spec.getName() + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        // 预热结束时清零下游计数；跨越边界的调用可能被部分计入，误差可忽略
+        long untilMeasure = measureStart - System.nanoTime();
+        if (untilMeasure > 0) {
+            TimeUnit.NANOSECONDS.sleep(untilMeasure);
+        }
+        cache.getStats().reset();
+        rpc.getStats().reset();
+        db.getStats().reset();
+        done.await();
+
+        long[] sorted = LatencyRecorder.merge(recorders);
+        double seconds = spec.getDuration().toNanos() / 1_000_000_000D;
+        ScenarioResult result = new ScenarioResult(spec.getName());
+        result.setRequests(requests.sum());
+        result.setErrors(errors.sum());
+        result.setThroughput(requests.sum() / seconds);
+        result.setP50Micros(toMicros(LatencyRecorder.percentile(sorted, 0.50D)));
+        result.setP99Micros(toMicros(LatencyRecorder.percentile(sorted, 0.99D)));
+        result.setP999Micros(toMicros(LatencyRecorder.percentile(sorted, 0.999D)));
+        result.setMaxMicros(sorted.length == 0 ? 0L : toMicros(sorted[sorted.length - 1]));
+        long targetCount = targets.sum();
+        result.setDegradedRatio(targetCount == 0 ? 0D : degraded.sum() / (double) targetCount);
+        result.setCache(cache.getStats());
+        result.setRpc(rpc.getStats());
+        result.setDbQueries(db.getStats().calls());
+        return result;
+    }
+
+    private void drive(DefaultTranslateExecutor executor,
+                       ScenarioSpec spec,
+                       long measureStart,
+                       long end,
+                       LatencyRecorder recorder,
+                       LongAdder requests,
+                       LongAdder errors,
+                       LongAdder degraded,
+                       LongAdder targets) {
+        while (true) {
+            List<UserProfileVO> page = page(spec);
+            long begin = System.nanoTime();
+            if (begin >= end) {
+                return;
+            }
+            boolean failed = false;
+            try {
+                executor.translate(page);
+            } catch (RuntimeException ex) {
+                failed = true;
+            } finally {
+                TranslateContext.clear();
+            }
+            long elapsed = System.nanoTime() - begin;
+            if (begin < measureStart) {
+                continue;
+            }
+            recorder.record(elapsed);
+            requests.increment();
+            if (failed) {
+                errors.increment();
+            }
+            targets.add(page.size() * 4L);
+            degraded.add(countDegraded(page));
+        }
+    }
+
+    private List<UserProfileVO> page(ScenarioSpec spec) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int keySpace = Math.max(1, spec.getKeySpace());
+        List<UserProfileVO> page = new ArrayList<>(spec.getPageSize());
+        for (int i = 0; i < spec.getPageSize(); i++) {
+            UserProfileVO vo = new UserProfileVO();
+            vo.setStatus(random.nextInt(2));
+            vo.setDeptCode("d" + random.nextInt(keySpace));
+            vo.setOrgId((long) random.nextInt(keySpace));
+            vo.setRemoteCode("r" + random.nextInt(keySpace));
+            page.add(vo);
+        }
+        return page;
+    }
+
+    /**
+     * 统计未被真正翻译的目标字段：为空或回填了原始值。
+     */
+    private long countDegraded(List<UserProfileVO> page) {
+        long count = 0;
+        for (UserProfileVO vo : page) {
+            count += isDegraded(vo.getStatusName(), vo.getStatus());
+            count += isDegraded(vo.getDeptName(), vo.getDeptCode());
+            count += isDegraded(vo.getOrgName(), vo.getOrgId());
+            count += isDegraded(vo.getRemoteName(), vo.getRemoteCode());
+        }
+        return count;
+    }
+
+    private int isDegraded(Object target, Object raw) {
+        return target == null || target.equals(raw) || target.equals(String.valueOf(raw)) ? 1 : 0;
+    }
+
+    private void createOrgTable(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.execute("CREATE TABLE org (id BIGINT PRIMARY KEY, name VARCHAR(64))");
+        List<Object[]> batch = new ArrayList<>(rows);
+        for (long i = 0; i < rows; i++) {
+            batch.add(new Object[]{i, "org-" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO org (id, name) VALUES (?, ?)", batch);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
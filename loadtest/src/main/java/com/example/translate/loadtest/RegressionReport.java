@@ -0,0 +1,96 @@
+package com.example.translate.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 结果输出与基线比对。
+ * <p>
+ * 设计意图：CSV 作为机器可读的基线格式，Markdown 作为人工阅读的报告；
+ * 吞吐下降或 p99 上升超过阈值即判定为回归，阈值偏宽以容忍笔记本上的噪声。
+ * </p>
+ */
+final class RegressionReport {
+
+    static final double MAX_THROUGHPUT_DROP = 0.15D;
+    static final double MAX_P99_INCREASE = 0.30D;
+
+    private RegressionReport() {
+    }
+
+    static void writeCsv(Path file, List<ScenarioResult> results) throws IOException {
+        List<String> lines = new ArrayList<>(results.size() + 1);
+        lines.add(ScenarioResult.CSV_HEADER);
+        for (ScenarioResult result : results) {
+            lines.add(result.toCsv());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    static Map<String, ScenarioResult> readCsv(Path file) throws IOException {
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (!line.isEmpty()) {
+                ScenarioResult result = ScenarioResult.fromCsv(line);
+                results.put(result.getScenario(), result);
+            }
+        }
+        return results;
+    }
+
+    static String markdown(List<ScenarioResult> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("| scenario | req/s | p50 ms | p99 ms | p999 ms | max ms | errors | degraded "
+                + "| cache calls (keys/call) | rpc calls (keys/call) | db queries |\n");
+        sb.append("| --- | ---: | ---: | ---: | ---: | ---: | ---: | ---: | ---: | ---: | ---: |\n");
+        for (ScenarioResult r : results) {
+            sb.append(String.format(Locale.ROOT,
+                    "| %s | %.1f | %.2f | %.2f | %.2f | %.2f | %d | %.2f%% | %d (%.1f) | %d (%.1f) | %d |%n",
+                    r.getScenario(), r.getThroughput(),
+                    r.getP50Micros() / 1000D, r.getP99Micros() / 1000D,
+                    r.getP999Micros() / 1000D, r.getMaxMicros() / 1000D,
+                    r.getErrors(), r.getDegradedRatio() * 100,
+                    r.getCacheCalls(), perCall(r.getCacheKeys(), r.getCacheCalls()),
+                    r.getRpcCalls(), perCall(r.getRpcKeys(), r.getRpcCalls()),
+                    r.getDbQueries()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 与基线比对，返回回归描述；为空表示无回归。
+     */
+    static List<String> compare(List<ScenarioResult> current, Map<String, ScenarioResult> baseline) {
+        List<String> regressions = new ArrayList<>();
+        for (ScenarioResult now : current) {
+            ScenarioResult before = baseline.get(now.getScenario());
+            if (before == null) {
+                continue;
+            }
+            if (before.getThroughput() > 0
+                    && now.getThroughput() < before.getThroughput() * (1 - MAX_THROUGHPUT_DROP)) {
+                regressions.add(String.format(Locale.ROOT, "%s: throughput %.1f -> %.1f req/s",
+                        now.getScenario(), before.getThroughput(), now.getThroughput()));
+            }
+            if (before.getP99Micros() > 0
+                    && now.getP99Micros() > before.getP99Micros() * (1 + MAX_P99_INCREASE)) {
+                regressions.add(String.format(Locale.ROOT, "%s: p99 %.2f -> %.2f ms",
+                        now.getScenario(), before.getP99Micros() / 1000D, now.getP99Micros() / 1000D));
+            }
+        }
+        return regressions;
+    }
+
+    private static double perCall(long keys, long calls) {
+        return calls == 0 ? 0D : keys / (double) calls;
+    }
+}
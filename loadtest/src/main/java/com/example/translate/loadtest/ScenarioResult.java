@@ -0,0 +1,192 @@
+package com.example.translate.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 单个场景的测量结果。
+ * <p>
+ * 耗时单位为微秒；下游计数只包含测量阶段。
+ * </p>
+ */
+public class ScenarioResult {
+
+    static final String CSV_HEADER = "scenario,requests,errors,throughput,p50Us,p99Us,p999Us,maxUs,"
+            + "degradedRatio,cacheCalls,cacheKeys,cacheFailures,rpcCalls,rpcKeys,rpcFailures,dbQueries";
+
+    private final String scenario;
+    private long requests;
+    private long errors;
+    private double throughput;
+    private long p50Micros;
+    private long p99Micros;
+    private long p999Micros;
+    private long maxMicros;
+    private double degradedRatio;
+    private long cacheCalls;
+    private long cacheKeys;
+    private long cacheFailures;
+    private long rpcCalls;
+    private long rpcKeys;
+    private long rpcFailures;
+    private long dbQueries;
+
+    public ScenarioResult(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public void setErrors(long errors) {
+        this.errors = errors;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public void setThroughput(double throughput) {
+        this.throughput = throughput;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public void setP50Micros(long p50Micros) {
+        this.p50Micros = p50Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public void setP99Micros(long p99Micros) {
+        this.p99Micros = p99Micros;
+    }
+
+    public long getP999Micros() {
+        return p999Micros;
+    }
+
+    public void setP999Micros(long p999Micros) {
+        this.p999Micros = p999Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public void setMaxMicros(long maxMicros) {
+        this.maxMicros = maxMicros;
+    }
+
+    public double getDegradedRatio() {
+        return degradedRatio;
+    }
+
+    public void setDegradedRatio(double degradedRatio) {
+        this.degradedRatio = degradedRatio;
+    }
+
+    public long getCacheCalls() {
+        return cacheCalls;
+    }
+
+    public long getCacheKeys() {
+        return cacheKeys;
+    }
+
+    public long getCacheFailures() {
+        return cacheFailures;
+    }
+
+    public void setCache(BackendStats stats) {
+        this.cacheCalls = stats.calls();
+        this.cacheKeys = stats.keys();
+        this.cacheFailures = stats.failures();
+    }
+
+    public long getRpcCalls() {
+        return rpcCalls;
+    }
+
+    public long getRpcKeys() {
+        return rpcKeys;
+    }
+
+    public long getRpcFailures() {
+        return rpcFailures;
+    }
+
+    public void setRpc(BackendStats stats) {
+        this.rpcCalls = stats.calls();
+        this.rpcKeys = stats.keys();
+        this.rpcFailures = stats.failures();
+    }
+
+    public long getDbQueries() {
+        return dbQueries;
+    }
+
+    public void setDbQueries(long dbQueries) {
+        this.dbQueries = dbQueries;
+    }
+
+    String toCsv() {
+        return String.join(",",
+                scenario,
+                Long.toString(requests),
+                Long.toString(errors),
+                String.format(Locale.ROOT, "%.1f", throughput),
+                Long.toString(p50Micros),
+                Long.toString(p99Micros),
+                Long.toString(p999Micros),
+                Long.toString(maxMicros),
+                String.format(Locale.ROOT, "%.4f", degradedRatio),
+                Long.toString(cacheCalls),
+                Long.toString(cacheKeys),
+                Long.toString(cacheFailures),
+                Long.toString(rpcCalls),
+                Long.toString(rpcKeys),
+                Long.toString(rpcFailures),
+                Long.toString(dbQueries));
+    }
+
+    static ScenarioResult fromCsv(String line) {
+        String[] cols = line.split(",");
+        if (cols.length < 16) {
+            throw new IllegalArgumentException("malformed result line: " + line);
+        }
+        ScenarioResult result = new ScenarioResult(cols[0]);
+        result.requests = Long.parseLong(cols[1]);
+        result.errors = Long.parseLong(cols[2]);
+        result.throughput = Double.parseDouble(cols[3]);
+        result.p50Micros = Long.parseLong(cols[4]);
+        result.p99Micros = Long.parseLong(cols[5]);
+        result.p999Micros = Long.parseLong(cols[6]);
+        result.maxMicros = Long.parseLong(cols[7]);
+        result.degradedRatio = Double.parseDouble(cols[8]);
+        result.cacheCalls = Long.parseLong(cols[9]);
+        result.cacheKeys = Long.parseLong(cols[10]);
+        result.cacheFailures = Long.parseLong(cols[11]);
+        result.rpcCalls = Long.parseLong(cols[12]);
+        result.rpcKeys = Long.parseLong(cols[13]);
+        result.rpcFailures = Long.parseLong(cols[14]);
+        result.dbQueries = Long.parseLong(cols[15]);
+        return result;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.translate.loadtest;
+
+import com.example.translate.spi.RpcServicePolicy;
+
+import java.time.Duration;
+
+/**
+ * 压测场景配置。
+ * <p>
+ * 设计意图：一个场景描述一组下游行为与并发形态，
+ * 运行器据此装配模拟下游与执行器，便于在同一台机器上复现对比。
+ * </p>
+ */
+public class ScenarioSpec {
+
+    // 场景名称，报告与基线比对按此匹配
+    private final String name;
+    // 并发客户端线程数
+    private int threads = 16;
+    // 预热时长，期间的统计会被清零
+    private Duration warmup = Duration.ofSeconds(2);
+    // 测量时长
+    private Duration duration = Duration.ofSeconds(10);
+    // 每次请求翻译的 VO 数量
+    private int pageSize = 50;
+    // 原始值取值空间，越小重复率越高
+    private int keySpace = 1000;
+    // 字典缓存耗时分布
+    private LatencyModel cacheLatency = LatencyModel.none();
+    // 字典缓存失败率（0~1）
+    private double cacheFailureRate;
+    // 字典缓存命中率（0~1）
+    private double cacheHitRatio = 1D;
+    // RPC 耗时分布
+    private LatencyModel rpcLatency = LatencyModel.none();
+    // RPC 失败率（0~1）
+    private double rpcFailureRate;
+    // RPC 返回命中率（0~1）
+    private double rpcHitRatio = 1D;
+    // 每次数据库连接注入的耗时
+    private LatencyModel dbLatency = LatencyModel.none();
+    // TABLE 是否启用快照模式
+    private boolean tableSnapshot;
+    // RPC 容错策略；为空时直连模拟客户端
+    private RpcServicePolicy rpcPolicy;
+    // 单次响应翻译预算；为空时不限制
+    private Duration translateTimeout;
+
+    public ScenarioSpec(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public void setWarmup(Duration warmup) {
+        this.warmup = warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public void setDuration(Duration duration) {
+        this.duration = duration;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getKeySpace() {
+        return keySpace;
+    }
+
+    public void setKeySpace(int keySpace) {
+        this.keySpace = keySpace;
+    }
+
+    public LatencyModel getCacheLatency() {
+        return cacheLatency;
+    }
+
+    public void setCacheLatency(LatencyModel cacheLatency) {
+        this.cacheLatency = cacheLatency;
+    }
+
+    public double getCacheFailureRate() {
+        return cacheFailureRate;
+    }
+
+    public void setCacheFailureRate(double cacheFailureRate) {
+        this.cacheFailureRate = cacheFailureRate;
+    }
+
+    public double getCacheHitRatio() {
+        return cacheHitRatio;
+    }
+
+    public void setCacheHitRatio(double cacheHitRatio) {
+        this.cacheHitRatio = cacheHitRatio;
+    }
+
+    public LatencyModel getRpcLatency() {
+        return rpcLatency;
+    }
+
+    public void setRpcLatency(LatencyModel rpcLatency) {
+        this.rpcLatency = rpcLatency;
+    }
+
+    public double getRpcFailureRate() {
+        return rpcFailureRate;
+    }
+
+    public void setRpcFailureRate(double rpcFailureRate) {
+        this.rpcFailureRate = rpcFailureRate;
+    }
+
+    public double getRpcHitRatio() {
+        return rpcHitRatio;
+    }
+
+    public void setRpcHitRatio(double rpcHitRatio) {
+        this.rpcHitRatio = rpcHitRatio;
+    }
+
+    public LatencyModel getDbLatency() {
+        return dbLatency;
+    }
+
+    public void setDbLatency(LatencyModel dbLatency) {
+        this.dbLatency = dbLatency;
+    }
+
+    public boolean isTableSnapshot() {
+        return tableSnapshot;
+    }
+
+    public void setTableSnapshot(boolean tableSnapshot) {
+        this.tableSnapshot = tableSnapshot;
+    }
+
+    public RpcServicePolicy getRpcPolicy() {
+        return rpcPolicy;
+    }
+
+    public void setRpcPolicy(RpcServicePolicy rpcPolicy) {
+        this.rpcPolicy = rpcPolicy;
+    }
+
+    public Duration getTranslateTimeout() {
+        return translateTimeout;
+    }
+
+    public void setTranslateTimeout(Duration translateTimeout) {
+        this.translateTimeout = translateTimeout;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.translate.loadtest;
+
+import com.example.translate.spi.RpcServicePolicy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 内置压测场景。
+ * <p>
+ * 设计意图：覆盖"快下游""长尾""不稳定下游""大分页"与"快照表"几类典型形态，
+ * 各场景只改变与其主题相关的参数，便于对比单一因素的影响。
+ * </p>
+ */
+final class Scenarios {
+
+    private Scenarios() {
+    }
+
+    static List<ScenarioSpec> defaults() {
+        List<ScenarioSpec> scenarios = new ArrayList<>();
+
+        ScenarioSpec fast = new ScenarioSpec("fast-backends");
+        fast.setCacheLatency(LatencyModel.uniform(micros(100), micros(300)));
+        fast.setRpcLatency(LatencyModel.uniform(Duration.ofMillis(1), Duration.ofMillis(2)));
+        fast.setDbLatency(LatencyModel.fixed(micros(200)));
+        scenarios.add(fast);
+
+        ScenarioSpec tail = new ScenarioSpec("rpc-long-tail");
+        tail.setCacheLatency(LatencyModel.uniform(micros(100), micros(300)));
+        tail.setRpcLatency(LatencyModel.uniform(Duration.ofMillis(1), Duration.ofMillis(2))
+                .withTail(0.02D, Duration.ofMillis(150)));
+        tail.setDbLatency(LatencyModel.fixed(micros(200)));
+        RpcServicePolicy hedged = new RpcServicePolicy();
+        hedged.setHedgeEnabled(true);
+        hedged.setMaxConcurrentCalls(64);
+        tail.setRpcPolicy(hedged);
+        scenarios.add(tail);
+
+        ScenarioSpec flaky = new ScenarioSpec("flaky-backends");
+        flaky.setCacheLatency(LatencyModel.uniform(micros(100), micros(300)));
+        flaky.setCacheFailureRate(0.05D);
+        flaky.setCacheHitRatio(0.95D);
+        flaky.setRpcLatency(LatencyModel.uniform(Duration.ofMillis(1), Duration.ofMillis(5)));
+        flaky.setRpcFailureRate(0.10D);
+        flaky.setDbLatency(LatencyModel.fixed(micros(200)));
+        RpcServicePolicy guarded = new RpcServicePolicy();
+        guarded.setTimeout(Duration.ofMillis(50));
+        guarded.setMaxConcurrentCalls(64);
+        flaky.setRpcPolicy(guarded);
+        flaky.setTranslateTimeout(Duration.ofMillis(100));
+        scenarios.add(flaky);
+
+        ScenarioSpec largePages = new ScenarioSpec("large-pages");
+        largePages.setThreads(8);
+        largePages.setPageSize(1000);
+        largePages.setKeySpace(20_000);
+        largePages.setCacheLatency(LatencyModel.uniform(micros(200), micros(500)));
+        largePages.setRpcLatency(LatencyModel.uniform(Duration.ofMillis(2), Duration.ofMillis(4)));
+        largePages.setDbLatency(LatencyModel.fixed(micros(500)));
+        RpcServicePolicy split = new RpcServicePolicy();
+        split.setMaxBatchSize(200);
+        split.setMaxConcurrentCalls(64);
+        largePages.setRpcPolicy(split);
+        scenarios.add(largePages);
+
+        ScenarioSpec snapshot = new ScenarioSpec("table-snapshot");
+        snapshot.setCacheLatency(LatencyModel.uniform(micros(100), micros(300)));
+        snapshot.setRpcLatency(LatencyModel.uniform(Duration.ofMillis(1), Duration.ofMillis(2)));
+        snapshot.setDbLatency(LatencyModel.fixed(Duration.ofMillis(2)));
+        snapshot.setTableSnapshot(true);
+        scenarios.add(snapshot);
+
+        return scenarios;
+    }
+
+    private static Duration micros(long micros) {
+        return Duration.ofNanos(micros * 1000L);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.translate.loadtest;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 模拟下游的公共逻辑：注入耗时、按概率失败、按命中率返回部分结果。
+ * <p>
+ * 设计意图：命中与否由 code 的哈希决定而非随机，
+ * 同一个 code 在不同请求中表现一致，便于观察缓存与合并行为。
+ * </p>
+ */
+abstract class SimulatedBackend {
+
+    private final String name;
+    private final LatencyModel latency;
+    private final double failureRate;
+    private final double hitRatio;
+    private final BackendStats stats = new BackendStats();
+
+    SimulatedBackend(String name, LatencyModel latency, double failureRate, double hitRatio) {
+        this.name = name;
+        this.latency = latency == null ? LatencyModel.none() : latency;
+        this.failureRate = failureRate;
+        this.hitRatio = hitRatio;
+    }
+
+    public BackendStats getStats() {
+        return stats;
+    }
+
+    Map<Object, Object> fetch(String namespace, Collection<Object> codes) {
+        stats.recordCall(codes == null ? 0 : codes.size());
+        latency.pause();
+        if (failureRate > 0D && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            stats.recordFailure();
+            throw new IllegalStateException("simulated " + name + " failure");
+        }
+        if (codes == null || codes.isEmpty()) {
+            return Map.of();
+        }
+        Map<Object, Object> result = new HashMap<>(codes.size() * 2);
+        for (Object code : codes) {
+            if (code != null && isHit(code)) {
+                result.put(code, namespace + ":" + code);
+            }
+        }
+        return result;
+    }
+
+    private boolean isHit(Object code) {
+        if (hitRatio >= 1D) {
+            return true;
+        }
+        return Math.floorMod(code.hashCode(), 1000) < hitRatio * 1000;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.translate.loadtest;
+
+import com.example.translate.spi.DictCacheProvider;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 带耗时分布与失败率的字典缓存模拟实现。
+ */
+public class SimulatedDictCacheProvider extends SimulatedBackend implements DictCacheProvider {
+
+    public SimulatedDictCacheProvider(LatencyModel latency, double failureRate, double hitRatio) {
+        super("cache", latency, failureRate, hitRatio);
+    }
+
+    @Override
+    public Map<Object, Object> getBatch(String dictKey, Collection<Object> codes) {
+        return fetch(dictKey, codes);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.translate.loadtest;
+
+import com.example.translate.spi.RpcTranslateClient;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 带耗时分布与失败率的 RPC 客户端模拟实现。
+ */
+public class SimulatedRpcTranslateClient extends SimulatedBackend implements RpcTranslateClient {
+
+    public SimulatedRpcTranslateClient(LatencyModel latency, double failureRate, double hitRatio) {
+        super("rpc", latency, failureRate, hitRatio);
+    }
+
+    @Override
+    public Map<Object, Object> batchFetch(String service, String method, Collection<Object> codes, String param) {
+        return fetch(service + "." + method, codes);
+    }
+}
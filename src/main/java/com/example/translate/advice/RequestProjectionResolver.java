@@ -0,0 +1,72 @@
+package com.example.translate.advice;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 默认的字段投影解析：先读查询参数，再读请求头，值以逗号分隔。
+ * <p>
+ * 设计意图：覆盖 {@code ?fields=id,name,statusText} 与 {@code X-Fields} 两种常见约定；
+ * 参数与请求头都缺失时不限制，保持未改造客户端的行为不变。
+ * </p>
+ */
+public class RequestProjectionResolver implements TranslateProjectionResolver {
+
+    public static final String DEFAULT_PARAMETER = "fields";
+    public static final String DEFAULT_HEADER = "X-Fields";
+
+    private final String parameter;
+    private final String header;
+
+    public RequestProjectionResolver() {
+        this(DEFAULT_PARAMETER, DEFAULT_HEADER);
+    }
+
+    /**
+     * @param parameter 查询参数名；为空时不读参数
+     * @param header 请求头名；为空时不读请求头
+     */
+    public RequestProjectionResolver(String parameter, String header) {
+        this.parameter = parameter;
+        this.header = header;
+    }
+
+    @Override
+    public Set<String> resolve(ServerHttpRequest request) {
+        String raw = null;
+        if (parameter != null && !parameter.isEmpty() && request.getURI().getRawQuery() != null) {
+            List<String> values = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().get(parameter);
+            if (values != null && !values.isEmpty()) {
+                raw = URLDecoder.decode(String.join(",", values), StandardCharsets.UTF_8);
+            }
+        }
+        if (raw == null && header != null && !header.isEmpty()) {
+            List<String> values = request.getHeaders().get(header);
+            if (values != null && !values.isEmpty()) {
+                raw = String.join(",", values);
+            }
+        }
+        return parse(raw);
+    }
+
+    private Set<String> parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        for (String part : raw.split(",")) {
+            String field = part.trim();
+            if (!field.isEmpty()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.translate.advice;
+
+import com.example.translate.context.RequestLookupMemo;
+import com.example.translate.context.TranslateContext;
+import org.springframework.ui.ModelMap;
+import org.springframework.web.context.request.AsyncWebRequestInterceptor;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 为每个请求开启请求级查询记忆，并在请求结束时清理翻译上下文。
+ * <p>
+ * 设计意图：同一请求内 Controller 手工翻译与响应切面翻译共享查询结果；
+ * 记忆挂在线程绑定的 {@link TranslateContext} 上，必须在请求结束时
+ * 调用 {@link TranslateContext#clear()}，否则线程复用会使记忆残留到下一个请求。
+ * 基于 {@link WebRequest} 实现，不依赖 Servlet API；异步请求在释放请求线程时清理，
+ * 异步派发时重新开启。
+ * </p>
+ */
+public class TranslateContextInterceptor implements AsyncWebRequestInterceptor {
+
+    private final int maxEntries;
+
+    public TranslateContextInterceptor() {
+        this(RequestLookupMemo.DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries 每个请求的记忆条目上限
+     * @throws IllegalArgumentException 上限不为正数时抛出
+     */
+    public TranslateContextInterceptor(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void preHandle(WebRequest request) {
+        TranslateContext.current().enableLookupMemo(maxEntries);
+    }
+
+    @Override
+    public void postHandle(WebRequest request, ModelMap model) {
+    }
+
+    @Override
+    public void afterCompletion(WebRequest request, Exception ex) {
+        TranslateContext.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(WebRequest request) {
+        // 请求线程归还线程池，异步派发在其他线程重新进入 preHandle
+        TranslateContext.clear();
+    }
+}
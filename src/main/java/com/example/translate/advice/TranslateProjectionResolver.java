@@ -0,0 +1,24 @@
+package com.example.translate.advice;
+
+import org.springframework.http.server.ServerHttpRequest;
+
+import java.util.Set;
+
+/**
+ * 从请求中解析客户端需要的字段投影。
+ * <p>
+ * 设计意图：稀疏字段的约定（参数名、请求头、语法）因接口而异，
+ * 由业务按需实现；切面只负责把结果放入 {@code TranslateContext}。
+ * </p>
+ */
+@FunctionalInterface
+public interface TranslateProjectionResolver {
+
+    /**
+     * 解析字段投影。
+     *
+     * @param request 当前请求
+     * @return 请求的字段或路径；null 或空集合表示不限制
+     */
+    Set<String> resolve(ServerHttpRequest request);
+}
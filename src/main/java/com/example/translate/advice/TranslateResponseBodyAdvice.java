@@ -10,6 +10,8 @@ import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+import java.util.Set;
+
 /**
  * 在响应体写出前触发翻译。
  * <p>
@@ -21,9 +23,19 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 public class TranslateResponseBodyAdvice implements ResponseBodyAdvice<Object> {
 
     private final TranslateExecutor executor;
+    private final TranslateProjectionResolver projectionResolver;
 
     public TranslateResponseBodyAdvice(TranslateExecutor executor) {
+        this(executor, null);
+    }
+
+    /**
+     * @param executor 翻译执行器
+     * @param projectionResolver 字段投影解析；为 null 时翻译全部声明
+     */
+    public TranslateResponseBodyAdvice(TranslateExecutor executor, TranslateProjectionResolver projectionResolver) {
         this.executor = executor;
+        this.projectionResolver = projectionResolver;
     }
 
     @Override
@@ -41,9 +53,25 @@ public class TranslateResponseBodyAdvice implements ResponseBodyAdvice<Object> {
                                   ServerHttpRequest request,
                                   ServerHttpResponse response) {
         // 遵循 TranslateContext 的全局与请求级开关。
-        if (!TranslateContext.current().isEnabled()) {
+        TranslateContext context = TranslateContext.current();
+        if (!context.isEnabled()) {
             return body;
         }
-        return executor.translate(body);
+        // 业务已显式设置投影时不覆盖；由切面设置的投影在翻译后撤销，避免残留到复用线程
+        boolean ownsProjection = false;
+        if (projectionResolver != null && !context.hasProjection()) {
+            Set<String> fields = projectionResolver.resolve(request);
+            if (fields != null && !fields.isEmpty()) {
+                context.setProjection(fields);
+                ownsProjection = true;
+            }
+        }
+        try {
+            return executor.translate(body);
+        } finally {
+            if (ownsProjection) {
+                context.setProjection(null);
+            }
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.example.translate.annotation;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
+import java.lang.annotation.Repeatable;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
@@ -11,11 +12,13 @@ import java.lang.annotation.Target;
  * <p>
  * 设计意图：让翻译规则贴近数据模型声明，同时保持业务层完全无感知。
  * 该注解只声明“翻译意图”，自身不触发任何翻译逻辑。
+ * 同一字段可重复标注，以便把一个原值翻译到多个目标字段。
  * </p>
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
+@Repeatable(TranslateFields.class)
 public @interface TranslateField {
 
     /**
@@ -101,6 +104,14 @@ public @interface TranslateField {
      */
     String param() default "";
 
+    /**
+     * 自定义翻译类型标识，仅在 {@code type = CUSTOM} 时生效。
+     * <p>
+     * 设计意图：以字符串键扩展处理器，新增翻译方式无需修改 {@link TranslateType}。
+     * </p>
+     */
+    String customType() default "";
+
     /**
      * 翻译失败时使用的兜底值。
      * <p>
@@ -108,4 +119,13 @@ public @interface TranslateField {
      * </p>
      */
     String fallback() default "";
+
+    /**
+     * 多值源字段（集合或数组）写入 {@code String} 类型目标时的分隔符。
+     * <p>
+     * 设计意图：标签、角色等多值字段逐元素参与批量翻译，
+     * 目标为 {@code String} 时按此拼接，其他类型目标写入 {@code List}。
+     * </p>
+     */
+    String separator() default ",";
 }
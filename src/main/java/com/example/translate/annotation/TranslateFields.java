@@ -0,0 +1,27 @@
+package com.example.translate.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link TranslateField} 的可重复容器注解。
+ * <p>
+ * 设计意图：允许同一原值字段声明多个翻译（如 userId -> userName、userAvatar），
+ * 业务代码直接重复标注 {@link TranslateField} 即可，无需显式使用本注解。
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface TranslateFields {
+
+    /**
+     * 同一字段上声明的全部翻译。
+     *
+     * @return 翻译声明
+     */
+    TranslateField[] value();
+}
@@ -27,5 +27,10 @@ public enum TranslateType {
     /**
      * RPC 翻译（外部服务）。
      */
-    RPC
+    RPC,
+
+    /**
+     * 自定义翻译，由 {@link TranslateField#customType()} 指定处理器。
+     */
+    CUSTOM
 }
@@ -0,0 +1,385 @@
+package com.example.translate.autoconfigure;
+
+import com.example.translate.advice.RequestProjectionResolver;
+import com.example.translate.advice.TranslateContextInterceptor;
+import com.example.translate.advice.TranslateProjectionResolver;
+import com.example.translate.advice.TranslateResponseBodyAdvice;
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.handler.TranslateHandler;
+import com.example.translate.handler.WarmStartTranslateHandler;
+import com.example.translate.handler.impl.CacheDictTranslateHandler;
+import com.example.translate.handler.impl.EnumTranslateHandler;
+import com.example.translate.handler.impl.RpcTranslateHandler;
+import com.example.translate.handler.impl.TableTranslateHandler;
+import com.example.translate.metrics.MicrometerTranslateMetrics;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.registry.DefaultTranslateHandlerRegistry;
+import com.example.translate.registry.TranslateHandlerRegistry;
+import com.example.translate.spi.DictCacheProvider;
+import com.example.translate.spi.ResilientRpcTranslateClient;
+import com.example.translate.spi.RpcServicePolicy;
+import com.example.translate.spi.RpcTranslateClient;
+import com.example.translate.spi.TierPolicy;
+import com.example.translate.support.DefaultTranslateExecutor;
+import com.example.translate.support.LocalLookupTier;
+import com.example.translate.support.TableSnapshotSpec;
+import com.example.translate.support.TieredLookup;
+import com.example.translate.support.TranslateExecutor;
+import com.example.translate.support.TranslationMemo;
+import com.example.translate.support.WarmStartStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 字段翻译的 Spring Boot 自动配置。
+ * <p>
+ * 设计意图：默认装配与手工配置等价的组件，所有 Bean 均可被业务覆盖；
+ * 各处理器按依赖是否存在及 {@code field-translate.*} 开关条件注册，
+ * 性能特性（快照、记忆、RPC 容错、翻译预算、启动预热、跨重启热点）通过配置开启。
+ * </p>
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration"
+})
+@ConditionalOnProperty(prefix = "field-translate", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(FieldTranslateProperties.class)
+public class FieldTranslateAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "field-translate.memo", name = "enabled")
+    public TranslationMemo translationMemo(FieldTranslateProperties properties,
+                                           ObjectProvider<DictCacheProvider> cacheProvider) {
+        TranslationMemo memo = new TranslationMemo(properties.getMemo().getMaxEntries());
+        memo.setTtl(properties.getMemo().getTtl());
+        cacheProvider.ifAvailable(provider -> provider.addRefreshListener(memo::invalidate));
+        return memo;
+    }
+
+    /**
+     * 自动配置创建的线程池随本 Bean 在容器关闭时关闭。
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TranslateThreadPools translateThreadPools() {
+        return new TranslateThreadPools();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "field-translate.enum", name = "enabled", matchIfMissing = true)
+    public EnumTranslateHandler enumTranslateHandler() {
+        return new EnumTranslateHandler();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(DictCacheProvider.class)
+    @ConditionalOnProperty(prefix = "field-translate.cache", name = "enabled", matchIfMissing = true)
+    public CacheDictTranslateHandler cacheDictTranslateHandler(DictCacheProvider cacheProvider,
+                                                               FieldTranslateProperties properties,
+                                                               ObjectProvider<TranslateMetrics> metrics,
+                                                               TranslateThreadPools threadPools) {
+        FieldTranslateProperties.Tiered cache = properties.getCache();
+        CacheDictTranslateHandler handler = new CacheDictTranslateHandler(cacheProvider,
+                localTier(cache, CacheDictTranslateHandler::cacheNamespace), null);
+        configureTiers(handler.getTieredLookup(), cache, properties, threadPools);
+        metrics.ifAvailable(handler::setMetrics);
+        return handler;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(RpcTranslateClient.class)
+    @ConditionalOnProperty(prefix = "field-translate.rpc", name = "enabled", matchIfMissing = true)
+    public RpcTranslateHandler rpcTranslateHandler(RpcTranslateClient client,
+                                                   FieldTranslateProperties properties,
+                                                   ObjectProvider<DictCacheProvider> cacheProvider,
+                                                   ObjectProvider<TranslateMetrics> metrics,
+                                                   TranslateThreadPools threadPools) {
+        FieldTranslateProperties.Rpc rpc = properties.getRpc();
+        FieldTranslateProperties.Resilience resilience = rpc.getResilience();
+        RpcTranslateClient effective = client;
+        if (resilience.isEnabled() && !(client instanceof ResilientRpcTranslateClient)) {
+            ResilientRpcTranslateClient resilient =
+                    new ResilientRpcTranslateClient(client, threadPools.rpcExecutor(resilience.getExecutor()));
+            resilient.setDefaultPolicy(resilience.getDefaultPolicy());
+            metrics.ifAvailable(resilient::setMetrics);
+            for (Map.Entry<String, RpcServicePolicy> entry : resilience.getServices().entrySet()) {
+                resilient.setPolicy(entry.getKey(), entry.getValue());
+            }
+            effective = resilient;
+        }
+        DictCacheProvider cache = rpc.isUseCache() ? cacheProvider.getIfAvailable() : null;
+        RpcTranslateHandler handler = new RpcTranslateHandler(effective, cache,
+                localTier(rpc, RpcTranslateHandler::cacheNamespace));
+        configureTiers(handler.getTieredLookup(), rpc, properties, threadPools);
+        metrics.ifAvailable(handler::setMetrics);
+        return handler;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "field-translate.warm-start", name = "enabled")
+    public WarmStartStore warmStartStore(FieldTranslateProperties properties,
+                                         ObjectProvider<TranslateMetrics> metrics) {
+        FieldTranslateProperties.WarmStart warmStart = properties.getWarmStart();
+        Path file = warmStart.getFile() == null || warmStart.getFile().isEmpty()
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "field-translate-warm-start.bin")
+                : Paths.get(warmStart.getFile());
+        WarmStartStore store = new WarmStartStore(file);
+        store.setTtl(warmStart.getTtl());
+        store.setMaxAge(warmStart.getMaxAge());
+        store.setMaxKeysPerNamespace(warmStart.getMaxKeysPerNamespace());
+        TranslateMetrics translateMetrics = metrics.getIfAvailable();
+        store.setMetrics(translateMetrics);
+        try {
+            store.load();
+        } catch (IOException | RuntimeException ex) {
+            // 文件损坏或格式不符时按冷启动处理，下次保存时覆盖
+            if (translateMetrics != null) {
+                translateMetrics.recordError("warmstart.load", ex);
+            }
+        }
+        // 容器关闭时由推断的 close() 停止定期保存并做最后一次保存
+        store.start(warmStart.getSaveInterval());
+        return store;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TranslateHandlerRegistry translateHandlerRegistry(ObjectProvider<TranslateHandler> handlers,
+                                                             FieldTranslateProperties properties,
+                                                             ObjectProvider<WarmStartStore> warmStartStore,
+                                                             ObjectProvider<TranslateMetrics> metrics) {
+        // orderedStream 按 @Order / Ordered 排序，同类型处理器按此顺序串联
+        List<TranslateHandler> ordered = handlers.orderedStream().collect(Collectors.toList());
+        WarmStartStore store = warmStartStore.getIfAvailable();
+        if (store == null) {
+            return new DefaultTranslateHandlerRegistry(ordered);
+        }
+        FieldTranslateProperties.WarmStart warmStart = properties.getWarmStart();
+        return new DefaultTranslateHandlerRegistry(ordered, handler -> {
+            if (!warmStart.getTypes().contains(handler.type())) {
+                return handler;
+            }
+            WarmStartTranslateHandler decorated = new WarmStartTranslateHandler(handler, store);
+            decorated.setRefreshBatchSize(warmStart.getRefreshBatchSize());
+            metrics.ifAvailable(decorated::setMetrics);
+            return decorated;
+        });
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TranslateExecutor translateExecutor(TranslateHandlerRegistry registry,
+                                               FieldTranslateProperties properties,
+                                               ObjectProvider<TranslateMetrics> metrics,
+                                               ObjectProvider<TranslationMemo> memo,
+                                               TranslateThreadPools threadPools) {
+        DefaultTranslateExecutor executor = new DefaultTranslateExecutor(registry);
+        executor.setTranslateTimeout(properties.getTranslateTimeout());
+        FieldTranslateProperties.Traversal traversal = properties.getTraversal();
+        executor.setTraversalOrder(traversal.getOrder());
+        executor.setMaxTraversalDepth(traversal.getMaxDepth());
+        executor.setMaxTraversalObjects(traversal.getMaxObjects());
+        FieldTranslateProperties.Parallel parallel = properties.getParallel();
+        if (parallel.isEnabled()) {
+            executor.setParallelThreshold(parallel.getThreshold());
+        }
+        // 线程池同时用于同一批次内查询分组的并发发起，与大集合阈值无关
+        Executor pool = threadPools.parallelExecutor(parallel.getExecutor(), parallel.getParallelism());
+        if (parallel.getParallelism() > 0) {
+            executor.setParallelExecutor(pool, parallel.getParallelism());
+        } else {
+            executor.setParallelExecutor(pool);
+        }
+        executor.setConcurrentLookups(parallel.isConcurrentLookups());
+        metrics.ifAvailable(executor::setMetrics);
+        memo.ifAvailable(executor::setTranslationMemo);
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "field-translate.warm-up", name = "enabled")
+    public TranslateWarmUp translateWarmUp(TranslateExecutor executor,
+                                           FieldTranslateProperties properties,
+                                           BeanFactory beanFactory) {
+        FieldTranslateProperties.WarmUp warmUp = properties.getWarmUp();
+        List<String> basePackages = warmUp.getBasePackages();
+        if (basePackages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+            basePackages = AutoConfigurationPackages.get(beanFactory);
+        }
+        ClassLoader classLoader = beanFactory instanceof ConfigurableBeanFactory
+                ? ((ConfigurableBeanFactory) beanFactory).getBeanClassLoader()
+                : null;
+        TranslateWarmUp bean = new TranslateWarmUp(executor, new TranslateTypeScanner(classLoader), basePackages);
+        bean.setIterations(warmUp.getIterations());
+        return bean;
+    }
+
+    private static LocalLookupTier localTier(FieldTranslateProperties.Tiered properties,
+                                             Function<TranslateField, String> namespace) {
+        FieldTranslateProperties.Local local = properties.getLocal();
+        if (!local.isEnabled()) {
+            return null;
+        }
+        LocalLookupTier tier = new LocalLookupTier(namespace);
+        tier.setTtl(local.getTtl());
+        tier.setMaxEntriesPerNamespace(local.getMaxEntries());
+        return tier;
+    }
+
+    /**
+     * 接入共用的有界分层查询线程池，并按层名称应用配置的策略；
+     * 未配置批量大小时保留处理器已有的值（如表翻译的 batch-size）。
+     */
+    private static void configureTiers(TieredLookup lookup,
+                                       FieldTranslateProperties.Tiered properties,
+                                       FieldTranslateProperties root,
+                                       TranslateThreadPools threadPools) {
+        if (lookup == null) {
+            return;
+        }
+        lookup.setExecutor(threadPools.tierExecutor(root.getTierThreads()));
+        for (Map.Entry<String, TierPolicy> entry : properties.getTiers().entrySet()) {
+            TierPolicy configured = entry.getValue();
+            TierPolicy current = lookup.getPolicy(entry.getKey());
+            TierPolicy policy = new TierPolicy();
+            policy.setTimeout(configured == null ? null : configured.getTimeout());
+            int batchSize = configured == null ? 0 : configured.getBatchSize();
+            policy.setBatchSize(batchSize == 0 && current != null ? current.getBatchSize() : batchSize);
+            lookup.setPolicy(entry.getKey(), policy);
+        }
+    }
+
+    /**
+     * 表翻译依赖 spring-jdbc，单独放在类条件之后，避免缺少依赖时加载失败。
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(JdbcTemplate.class)
+    @ConditionalOnBean(JdbcTemplate.class)
+    @ConditionalOnProperty(prefix = "field-translate.table", name = "enabled", matchIfMissing = true)
+    static class TableHandlerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        TableTranslateHandler tableTranslateHandler(JdbcTemplate jdbcTemplate,
+                                                    FieldTranslateProperties properties,
+                                                    ObjectProvider<DictCacheProvider> cacheProvider,
+                                                    ObjectProvider<TranslateMetrics> metrics,
+                                                    ObjectProvider<TranslationMemo> memo,
+                                                    ObjectProvider<WarmStartStore> warmStartStore,
+                                                    TranslateThreadPools threadPools) {
+            FieldTranslateProperties.Table table = properties.getTable();
+            DictCacheProvider cache = table.isUseCache() ? cacheProvider.getIfAvailable() : null;
+            TableTranslateHandler handler = new TableTranslateHandler(jdbcTemplate, cache,
+                    localTier(table, TableTranslateHandler::cacheNamespace));
+            handler.setBatchSize(table.getBatchSize());
+            configureTiers(handler.getTieredLookup(), table, properties, threadPools);
+            metrics.ifAvailable(handler::setMetrics);
+            for (TableSnapshotSpec spec : table.getSnapshots()) {
+                handler.enableSnapshot(spec);
+            }
+            memo.ifAvailable(m -> handler.setRefreshListener(m::invalidate));
+            warmStartStore.ifAvailable(handler::setWarmStartStore);
+            if (table.isPreloadSnapshots() && !table.getSnapshots().isEmpty()) {
+                // 首次全量加载放到后台，不阻塞启动，也不落在请求线程上
+                threadPools.runInBackground(handler::preloadSnapshots);
+            }
+            return handler;
+        }
+    }
+
+    /**
+     * 存在 MeterRegistry 时接入 Micrometer。
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "field-translate.metrics", name = "enabled", matchIfMissing = true)
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        TranslateMetrics translateMetrics(MeterRegistry meterRegistry,
+                                          ObjectProvider<ObservationRegistry> observationRegistry,
+                                          FieldTranslateProperties properties) {
+            ObservationRegistry observations = properties.getMetrics().isObservations()
+                    ? observationRegistry.getIfAvailable()
+                    : null;
+            return new MicrometerTranslateMetrics(meterRegistry, observations);
+        }
+    }
+
+    /**
+     * Servlet Web 应用中注册响应体翻译切面，按配置为每个请求开启查询记忆。
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(ResponseBodyAdvice.class)
+    static class WebConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "field-translate.projection", name = "enabled")
+        TranslateProjectionResolver translateProjectionResolver(FieldTranslateProperties properties) {
+            FieldTranslateProperties.Projection projection = properties.getProjection();
+            return new RequestProjectionResolver(projection.getParameter(), projection.getHeader());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "field-translate.lookup-memo", name = "enabled")
+        TranslateContextInterceptor translateContextInterceptor(FieldTranslateProperties properties) {
+            return new TranslateContextInterceptor(properties.getLookupMemo().getMaxEntries());
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "field-translate.lookup-memo", name = "enabled")
+        WebMvcConfigurer translateContextInterceptorConfigurer(TranslateContextInterceptor interceptor) {
+            return new WebMvcConfigurer() {
+                @Override
+                public void addInterceptors(InterceptorRegistry registry) {
+                    registry.addWebRequestInterceptor(interceptor);
+                }
+            };
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        TranslateResponseBodyAdvice translateResponseBodyAdvice(TranslateExecutor executor,
+                                                                ObjectProvider<TranslateProjectionResolver> projectionResolver) {
+            return new TranslateResponseBodyAdvice(executor, projectionResolver.getIfAvailable());
+        }
+    }
+}
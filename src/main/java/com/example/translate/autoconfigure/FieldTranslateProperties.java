@@ -0,0 +1,801 @@
+package com.example.translate.autoconfigure;
+
+import com.example.translate.advice.RequestProjectionResolver;
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.context.RequestLookupMemo;
+import com.example.translate.spi.RpcServicePolicy;
+import com.example.translate.spi.TierPolicy;
+import com.example.translate.support.TableSnapshotSpec;
+import com.example.translate.support.TraversalOrder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 字段翻译的外部化配置，前缀 {@code field-translate}。
+ * <p>
+ * 设计意图：把执行器与各处理器的可调参数集中到配置文件，
+ * 各服务按需开启性能特性，无需改动代码。
+ * </p>
+ */
+@ConfigurationProperties(prefix = "field-translate")
+public class FieldTranslateProperties {
+
+    /**
+     * 总开关。
+     */
+    private boolean enabled = true;
+
+    /**
+     * 单次响应的翻译时间预算；为空表示不限制。
+     */
+    private Duration translateTimeout;
+
+    /**
+     * 分层查询线程池的线程数上限，各处理器共用；带超时或受翻译截止时间约束的层在其中执行。
+     */
+    private int tierThreads = 64;
+
+    private final Memo memo = new Memo();
+    private final Projection projection = new Projection();
+    private final LookupMemo lookupMemo = new LookupMemo();
+    private final Traversal traversal = new Traversal();
+    private final Parallel parallel = new Parallel();
+    private final WarmUp warmUp = new WarmUp();
+    private final WarmStart warmStart = new WarmStart();
+    private final Metrics metrics = new Metrics();
+    private final Handler enumHandler = new Handler();
+    private final Tiered cache = new Tiered();
+    private final Table table = new Table();
+    private final Rpc rpc = new Rpc();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTranslateTimeout() {
+        return translateTimeout;
+    }
+
+    public void setTranslateTimeout(Duration translateTimeout) {
+        this.translateTimeout = translateTimeout;
+    }
+
+    public int getTierThreads() {
+        return tierThreads;
+    }
+
+    public void setTierThreads(int tierThreads) {
+        this.tierThreads = tierThreads;
+    }
+
+    public Memo getMemo() {
+        return memo;
+    }
+
+    public Projection getProjection() {
+        return projection;
+    }
+
+    public LookupMemo getLookupMemo() {
+        return lookupMemo;
+    }
+
+    public Traversal getTraversal() {
+        return traversal;
+    }
+
+    public Parallel getParallel() {
+        return parallel;
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
+    public WarmStart getWarmStart() {
+        return warmStart;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 对应 {@code field-translate.enum.*}（{@code enum} 为关键字，故字段另名）。
+     */
+    public Handler getEnum() {
+        return enumHandler;
+    }
+
+    public Tiered getCache() {
+        return cache;
+    }
+
+    public Table getTable() {
+        return table;
+    }
+
+    public Rpc getRpc() {
+        return rpc;
+    }
+
+    /**
+     * 对象级结果记忆。
+     */
+    public static class Memo {
+
+        /**
+         * 是否启用。
+         */
+        private boolean enabled;
+
+        /**
+         * 最大条目数，达到后整体清空。
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * 条目存活时间；没有刷新通知的来源以此为最长延迟。
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    /**
+     * 对象图遍历。
+     */
+    public static class Traversal {
+
+        /**
+         * 访问顺序。
+         */
+        private TraversalOrder order = TraversalOrder.DEPTH_FIRST;
+
+        /**
+         * 最大深度（根对象为 0），超过的节点不再访问。
+         */
+        private int maxDepth = Integer.MAX_VALUE;
+
+        /**
+         * 单次翻译最多访问的对象数（含容器）。
+         */
+        private int maxObjects = Integer.MAX_VALUE;
+
+        public TraversalOrder getOrder() {
+            return order;
+        }
+
+        public void setOrder(TraversalOrder order) {
+            this.order = order;
+        }
+
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+
+        public void setMaxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+        }
+
+        public int getMaxObjects() {
+            return maxObjects;
+        }
+
+        public void setMaxObjects(int maxObjects) {
+            this.maxObjects = maxObjects;
+        }
+    }
+
+    /**
+     * 并行处理：大集合的任务收集与写回、同一批次内查询分组的并发发起。
+     */
+    public static class Parallel {
+
+        /**
+         * 是否启用大集合并行处理。
+         */
+        private boolean enabled;
+
+        /**
+         * 集合元素数达到该值时并行处理。
+         */
+        private int threshold = 10_000;
+
+        /**
+         * 执行并行分区与并发查询的线程类型；不配置且未配置并行度时使用公共 ForkJoinPool。
+         */
+        private ThreadType executor;
+
+        /**
+         * 并行度（最多同时处理的分区数减一）；0 表示按线程池推断，专用线程池取可用处理器数。
+         */
+        private int parallelism;
+
+        /**
+         * 同一批次内访问不同下游的查询分组是否并发发起（使用同一线程池），不受 enabled 影响。
+         */
+        private boolean concurrentLookups = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+
+        public ThreadType getExecutor() {
+            return executor;
+        }
+
+        public void setExecutor(ThreadType executor) {
+            this.executor = executor;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public boolean isConcurrentLookups() {
+            return concurrentLookups;
+        }
+
+        public void setConcurrentLookups(boolean concurrentLookups) {
+            this.concurrentLookups = concurrentLookups;
+        }
+    }
+
+    /**
+     * 启动预热：扫描可翻译类并提前构建类计划。
+     */
+    public static class WarmUp {
+
+        /**
+         * 是否启用。
+         */
+        private boolean enabled;
+
+        /**
+         * 扫描的基础包；为空时使用 Spring Boot 自动配置包（启动类所在包）。
+         */
+        private List<String> basePackages = new ArrayList<>();
+
+        /**
+         * 合成翻译轮数，0 表示只构建计划。
+         */
+        private int iterations;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getBasePackages() {
+            return basePackages;
+        }
+
+        public void setBasePackages(List<String> basePackages) {
+            this.basePackages = basePackages;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+
+    /**
+     * 跨重启保留的本地热点与表快照。
+     */
+    public static class WarmStart {
+
+        /**
+         * 是否启用。
+         */
+        private boolean enabled;
+
+        /**
+         * 本地文件路径；为空时使用临时目录下的 field-translate-warm-start.bin。
+         */
+        private String file;
+
+        /**
+         * 定期保存的间隔，关闭时另保存一次。
+         */
+        private Duration saveInterval = Duration.ofMinutes(5);
+
+        /**
+         * 新鲜条目的存活时间。
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * 条目的最大年龄，超过后不再读回或返回。
+         */
+        private Duration maxAge = Duration.ofDays(1);
+
+        /**
+         * 单个查询标识保留的最大 key 数量。
+         */
+        private int maxKeysPerNamespace = 10_000;
+
+        /**
+         * 单次后台刷新的最大 key 数量。
+         */
+        private int refreshBatchSize = 500;
+
+        /**
+         * 记录热点的翻译类型。
+         */
+        private List<TranslateType> types = new ArrayList<>(List.of(TranslateType.CACHE, TranslateType.TABLE, TranslateType.RPC));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        public Duration getSaveInterval() {
+            return saveInterval;
+        }
+
+        public void setSaveInterval(Duration saveInterval) {
+            this.saveInterval = saveInterval;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+
+        public void setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+
+        public int getMaxKeysPerNamespace() {
+            return maxKeysPerNamespace;
+        }
+
+        public void setMaxKeysPerNamespace(int maxKeysPerNamespace) {
+            this.maxKeysPerNamespace = maxKeysPerNamespace;
+        }
+
+        public int getRefreshBatchSize() {
+            return refreshBatchSize;
+        }
+
+        public void setRefreshBatchSize(int refreshBatchSize) {
+            this.refreshBatchSize = refreshBatchSize;
+        }
+
+        public List<TranslateType> getTypes() {
+            return types;
+        }
+
+        public void setTypes(List<TranslateType> types) {
+            this.types = types;
+        }
+    }
+
+    /**
+     * 稀疏字段投影：只翻译客户端请求的目标字段。
+     */
+    public static class Projection {
+
+        /**
+         * 是否从请求中解析投影。
+         */
+        private boolean enabled;
+
+        /**
+         * 查询参数名。
+         */
+        private String parameter = RequestProjectionResolver.DEFAULT_PARAMETER;
+
+        /**
+         * 请求头名，参数缺失时读取。
+         */
+        private String header = RequestProjectionResolver.DEFAULT_HEADER;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getParameter() {
+            return parameter;
+        }
+
+        public void setParameter(String parameter) {
+            this.parameter = parameter;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public void setHeader(String header) {
+            this.header = header;
+        }
+    }
+
+    /**
+     * 请求级查询记忆：Web 应用中由拦截器为每个请求开启，请求结束时清理。
+     */
+    public static class LookupMemo {
+
+        /**
+         * 是否启用。
+         */
+        private boolean enabled;
+
+        /**
+         * 每个请求的最大条目数，达到后不再写入。
+         */
+        private int maxEntries = RequestLookupMemo.DEFAULT_MAX_ENTRIES;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    /**
+     * 指标与链路埋点。
+     */
+    public static class Metrics {
+
+        /**
+         * 存在 MeterRegistry 时是否接入 Micrometer。
+         */
+        private boolean enabled = true;
+
+        /**
+         * 存在 ObservationRegistry 时是否为每个批次生成 Observation。
+         */
+        private boolean observations = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isObservations() {
+            return observations;
+        }
+
+        public void setObservations(boolean observations) {
+            this.observations = observations;
+        }
+    }
+
+    /**
+     * 单个处理器的开关。
+     */
+    public static class Handler {
+
+        /**
+         * 是否注册该处理器。
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * 以分层查询取值的处理器：本地缓存层开关与按层名称的访问策略。
+     */
+    public static class Tiered extends Handler {
+
+        private final Local local = new Local();
+
+        /**
+         * 按层名称（local、cache、jdbc、rpc）配置的超时与批量大小。
+         */
+        private Map<String, TierPolicy> tiers = new LinkedHashMap<>();
+
+        public Local getLocal() {
+            return local;
+        }
+
+        public Map<String, TierPolicy> getTiers() {
+            return tiers;
+        }
+
+        public void setTiers(Map<String, TierPolicy> tiers) {
+            this.tiers = tiers;
+        }
+    }
+
+    /**
+     * 分层查询的本地缓存层。
+     */
+    public static class Local {
+
+        /**
+         * 是否在最前面叠加进程内缓存层。
+         */
+        private boolean enabled;
+
+        /**
+         * 条目存活时间。
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+
+        /**
+         * 单个命名空间的最大条目数，达到上限时整体清空。
+         */
+        private int maxEntries = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    /**
+     * 表翻译。
+     */
+    public static class Table extends Tiered {
+
+        /**
+         * 单条 IN 查询的最大 key 数量。
+         */
+        private int batchSize = 500;
+
+        /**
+         * 使用 DictCacheProvider 作为查询前的缓存层。
+         */
+        private boolean useCache = true;
+
+        /**
+         * 全量驻留内存的快照表。
+         */
+        private List<TableSnapshotSpec> snapshots = new ArrayList<>();
+
+        /**
+         * 启动后在后台线程预加载快照；关闭时首次访问触发加载，加载完成前走 IN 查询。
+         */
+        private boolean preloadSnapshots = true;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public boolean isUseCache() {
+            return useCache;
+        }
+
+        public void setUseCache(boolean useCache) {
+            this.useCache = useCache;
+        }
+
+        public List<TableSnapshotSpec> getSnapshots() {
+            return snapshots;
+        }
+
+        public void setSnapshots(List<TableSnapshotSpec> snapshots) {
+            this.snapshots = snapshots;
+        }
+
+        public boolean isPreloadSnapshots() {
+            return preloadSnapshots;
+        }
+
+        public void setPreloadSnapshots(boolean preloadSnapshots) {
+            this.preloadSnapshots = preloadSnapshots;
+        }
+    }
+
+    /**
+     * RPC 翻译。
+     */
+    public static class Rpc extends Tiered {
+
+        /**
+         * 使用 DictCacheProvider 作为远程调用前的缓存层。
+         */
+        private boolean useCache;
+
+        private final Resilience resilience = new Resilience();
+
+        public boolean isUseCache() {
+            return useCache;
+        }
+
+        public void setUseCache(boolean useCache) {
+            this.useCache = useCache;
+        }
+
+        public Resilience getResilience() {
+            return resilience;
+        }
+    }
+
+    /**
+     * RPC 容错装饰（超时、隔离、熔断、对冲、拆批）。
+     */
+    public static class Resilience {
+
+        /**
+         * 是否用 ResilientRpcTranslateClient 包装 RpcTranslateClient。
+         */
+        private boolean enabled;
+
+        /**
+         * 执行下游调用的线程类型。
+         */
+        private ThreadType executor = ThreadType.PLATFORM;
+
+        /**
+         * 未单独配置的服务使用的策略。
+         */
+        private RpcServicePolicy defaultPolicy = new RpcServicePolicy();
+
+        /**
+         * 按服务标识覆盖的策略。
+         */
+        private Map<String, RpcServicePolicy> services = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public ThreadType getExecutor() {
+            return executor;
+        }
+
+        public void setExecutor(ThreadType executor) {
+            this.executor = executor;
+        }
+
+        public RpcServicePolicy getDefaultPolicy() {
+            return defaultPolicy;
+        }
+
+        public void setDefaultPolicy(RpcServicePolicy defaultPolicy) {
+            this.defaultPolicy = defaultPolicy;
+        }
+
+        public Map<String, RpcServicePolicy> getServices() {
+            return services;
+        }
+
+        public void setServices(Map<String, RpcServicePolicy> services) {
+            this.services = services;
+        }
+    }
+
+    /**
+     * 异步执行（RPC 容错调用、大集合并行处理）使用的线程类型。
+     */
+    public enum ThreadType {
+
+        /**
+         * 平台线程（RPC 为守护线程缓存池，并行处理为专用 ForkJoinPool）。
+         */
+        PLATFORM,
+
+        /**
+         * 虚拟线程；运行时 JDK 不支持时回退为平台线程。
+         */
+        VIRTUAL
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.translate.autoconfigure;
+
+import com.example.translate.annotation.NoneEnum;
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.annotation.TranslateFields;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.TypeVariable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+/**
+ * 原生镜像（GraalVM native-image）所需的反射提示。
+ * <p>
+ * 设计意图：执行器以反射读写字段、探测 Spring Data {@code Page}、ScopedValue 与虚拟线程，
+ * 这些固定入口在此统一登记；业务类型与控制器返回类型的提示由 {@link TranslateTypesAotProcessor}
+ * 在 AOT 阶段扫描后调用 {@link #registerTypes}、{@link #registerReturnTypes} 生成，无需手写。
+ * </p>
+ */
+public class TranslateRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ReflectionHints reflection = hints.reflection();
+        // 运行期按注解读取翻译声明
+        reflection.registerType(TranslateField.class, MemberCategory.INVOKE_DECLARED_METHODS);
+        reflection.registerType(TranslateFields.class, MemberCategory.INVOKE_DECLARED_METHODS);
+        reflection.registerType(TypeReference.of("org.springframework.data.domain.Page"),
+                type -> type.withMethod("getContent", List.of(), ExecutableMode.INVOKE));
+        reflection.registerType(TypeReference.of("java.lang.ScopedValue"),
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        reflection.registerType(TypeReference.of("java.lang.ScopedValue$Carrier"),
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        reflection.registerType(Executors.class,
+                type -> type.withMethod("newVirtualThreadPerTaskExecutor", List.of(), ExecutableMode.INVOKE));
+    }
+
+    /**
+     * 为可翻译类型登记字段反射及引用的枚举类。
+     * <p>
+     * 覆盖类及其父类的全部字段（源字段、目标字段与需要遍历的嵌套字段）。
+     * 嵌套字段按泛型解析：数组元素、{@code List<ChildVO>}、{@code Map<K, V>} 的类型参数
+     * 位于指定包内时一并登记。
+     * </p>
+     *
+     * @param reflection 反射提示
+     * @param types 扫描到的可翻译类型
+     * @param basePackages 允许跟随嵌套字段登记的包
+     */
+    public static void registerTypes(ReflectionHints reflection, Collection<Class<?>> types, Collection<String> basePackages) {
+        TypeWalker walker = new TypeWalker(reflection, basePackages);
+        for (Class<?> type : types) {
+            walker.visit(ResolvableType.forClass(type), true);
+        }
+    }
+
+    /**
+     * 为控制器方法的返回类型登记字段反射。
+     * <p>
+     * 响应包装类型（如 {@code Result<T>}、分页 DTO）常位于扫描包之外且自身不含翻译注解，
+     * 执行器仍需反射遍历其字段；这里按声明的泛型登记包装类型本身、其类型参数，
+     * 以及由类型变量声明的字段（如 {@code T data}）解析出的实际类型。
+     * JDK 与 Spring 自身的类型（{@code ResponseEntity}、{@code Page} 等）只跟随其类型参数。
+     * </p>
+     *
+     * @param reflection 反射提示
+     * @param returnTypes 控制器方法的返回类型
+     * @param basePackages 允许跟随嵌套字段登记的包
+     */
+    public static void registerReturnTypes(ReflectionHints reflection,
+                                           Collection<ResolvableType> returnTypes,
+                                           Collection<String> basePackages) {
+        TypeWalker walker = new TypeWalker(reflection, basePackages);
+        for (ResolvableType returnType : returnTypes) {
+            walker.visit(returnType, true);
+        }
+    }
+
+    /**
+     * 沿字段与泛型参数遍历类型并登记提示。
+     * <p>
+     * 显式给出的类型（扫描结果、返回类型及其类型参数、由类型变量解析出的字段类型）总是登记；
+     * 经普通字段到达的类型只在扫描包内时登记，避免把第三方类型整体纳入镜像。
+     * </p>
+     */
+    private static final class TypeWalker {
+        private static final String[] SKIPPED_PREFIXES = {"java.", "javax.", "jdk.", "org.springframework."};
+
+        private final ReflectionHints reflection;
+        private final Collection<String> basePackages;
+        private final Set<Class<?>> registered = new HashSet<>();
+        private final Set<String> walked = new HashSet<>();
+
+        TypeWalker(ReflectionHints reflection, Collection<String> basePackages) {
+            this.reflection = reflection;
+            this.basePackages = basePackages;
+        }
+
+        void visit(ResolvableType type, boolean explicit) {
+            if (type == ResolvableType.NONE) {
+                return;
+            }
+            if (type.isArray()) {
+                visit(type.getComponentType(), explicit);
+                return;
+            }
+            Class<?> raw = type.resolve();
+            if (raw == null) {
+                return;
+            }
+            for (ResolvableType generic : type.getGenerics()) {
+                visit(generic, explicit);
+            }
+            if (skipped(raw) || (!explicit && !inPackages(raw)) || !walked.add(type.toString())) {
+                return;
+            }
+            Class<?> current = raw;
+            while (current != null && current != Object.class) {
+                if (registered.add(current)) {
+                    reflection.registerType(current, MemberCategory.DECLARED_FIELDS);
+                }
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        visitField(field, type);
+                    }
+                }
+                current = current.getSuperclass();
+            }
+        }
+
+        private void visitField(Field field, ResolvableType owner) {
+            TranslateField[] metas = field.getAnnotationsByType(TranslateField.class);
+            for (TranslateField meta : metas) {
+                Class<? extends Enum<?>> enumClass = meta.enumClass();
+                if (enumClass != null && enumClass != NoneEnum.class) {
+                    // getEnumConstants 依赖 values() 的反射调用
+                    reflection.registerType(enumClass, MemberCategory.INVOKE_PUBLIC_METHODS);
+                }
+            }
+            if (metas.length == 0) {
+                // 由类型变量声明的字段（如 Result<T> 的 T data）按所属类型的实际参数解析
+                visit(ResolvableType.forField(field, owner), field.getGenericType() instanceof TypeVariable);
+            }
+        }
+
+        private boolean inPackages(Class<?> type) {
+            String name = type.getName();
+            for (String basePackage : basePackages) {
+                if (name.startsWith(basePackage + ".")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean skipped(Class<?> type) {
+            if (type.isPrimitive() || type.isEnum() || type.isInterface() || type.isAnnotation()) {
+                return true;
+            }
+            String name = type.getName();
+            for (String prefix : SKIPPED_PREFIXES) {
+                if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.translate.autoconfigure;
+
+import com.example.translate.support.TieredLookup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 自动配置创建的翻译线程池（RPC 容错调用、分层查询、大集合并行处理、启动后台任务）及其生命周期。
+ * <p>
+ * 设计意图：线程池由本 Bean 持有并在容器关闭时通过 {@link #close()} 关闭，
+ * 而不是注册为 {@link ExecutorService} 类型的 Bean，避免干扰业务按类型注入线程池
+ * 或使 Spring Boot 默认的任务线程池退让。公共池不归本 Bean 所有，关闭时不处理。
+ * </p>
+ */
+public final class TranslateThreadPools implements AutoCloseable {
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+
+    private final List<ExecutorService> owned = new ArrayList<>();
+    private ExecutorService background;
+    private ExecutorService tierExecutor;
+    private boolean closed;
+
+    /**
+     * 创建 RPC 容错装饰使用的线程池。
+     *
+     * @param type 线程类型；虚拟线程不可用时回退为平台线程
+     * @return 新建线程池，由本对象负责关闭
+     */
+    public synchronized ExecutorService rpcExecutor(FieldTranslateProperties.ThreadType type) {
+        ExecutorService executor = type == FieldTranslateProperties.ThreadType.VIRTUAL ? virtualExecutor() : null;
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "translate-rpc-" + THREAD_SEQ.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return own(executor);
+    }
+
+    /**
+     * 返回各处理器分层查询共用的有界线程池，首次调用时创建。
+     * <p>
+     * 设计意图：带超时或受翻译截止时间约束的层在此执行，无法中断的慢调用会滞留线程，
+     * 线程数按上限封顶，耗尽时新提交被拒绝并按该层失败处理，线程数不随负载无限增长。
+     * </p>
+     *
+     * @param maxThreads 线程数上限，仅首次调用时生效
+     * @return 共用线程池，由本对象负责关闭
+     */
+    public synchronized ExecutorService tierExecutor(int maxThreads) {
+        if (tierExecutor == null) {
+            tierExecutor = own(TieredLookup.newBoundedExecutor(maxThreads));
+        }
+        return tierExecutor;
+    }
+
+    /**
+     * 创建大集合并行处理使用的线程池。
+     * <p>
+     * 未指定线程类型且未指定并行度时返回 {@link ForkJoinPool#commonPool()}；
+     * 平台线程使用专用 {@link ForkJoinPool}，虚拟线程每任务一个线程。
+     * </p>
+     *
+     * @param type        线程类型；为空表示平台线程
+     * @param parallelism 并行度；0 表示可用处理器数
+     * @return 线程池
+     */
+    public synchronized Executor parallelExecutor(FieldTranslateProperties.ThreadType type, int parallelism) {
+        if (type == null && parallelism == 0) {
+            return ForkJoinPool.commonPool();
+        }
+        if (type == FieldTranslateProperties.ThreadType.VIRTUAL) {
+            ExecutorService executor = virtualExecutor();
+            if (executor != null) {
+                return own(executor);
+            }
+        }
+        int effective = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return own(new ForkJoinPool(effective, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("translate-parallel-" + THREAD_SEQ.incrementAndGet());
+            return thread;
+        }, null, false));
+    }
+
+    /**
+     * 在单个后台守护线程中依次执行启动任务（如表快照预加载），不占用启动线程与请求线程。
+     *
+     * @param task 任务；异常由任务自行处理
+     */
+    public synchronized void runInBackground(Runnable task) {
+        if (background == null) {
+            background = own(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "translate-background-" + THREAD_SEQ.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+        background.execute(task);
+    }
+
+    /**
+     * 关闭本对象创建的线程池；进行中的任务收到中断。
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (ExecutorService executor : owned) {
+            executor.shutdownNow();
+        }
+        owned.clear();
+    }
+
+    private ExecutorService own(ExecutorService executor) {
+        if (closed) {
+            executor.shutdownNow();
+            throw new IllegalStateException("TranslateThreadPools already closed");
+        }
+        owned.add(executor);
+        return executor;
+    }
+
+    /**
+     * 以 release 17 编译，虚拟线程通过反射获取；运行时 JDK 不支持时返回 null。
+     */
+    private static ExecutorService virtualExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+}
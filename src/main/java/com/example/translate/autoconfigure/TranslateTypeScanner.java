@@ -0,0 +1,106 @@
+package com.example.translate.autoconfigure;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.annotation.TranslateFields;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 扫描指定包下声明了 {@link TranslateField} 的类。
+ * <p>
+ * 设计意图：注解在字段上，类元数据无法直接筛选，这里先列出包内全部具体类，
+ * 再加载类检查字段（含父类）；无法加载的类直接跳过。启动预热与 AOT 提示共用该扫描。
+ * </p>
+ */
+public final class TranslateTypeScanner {
+
+    private final ClassLoader classLoader;
+
+    /**
+     * @param classLoader 加载候选类的类加载器；为空时使用默认类加载器
+     */
+    public TranslateTypeScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader == null ? ClassUtils.getDefaultClassLoader() : classLoader;
+    }
+
+    /**
+     * 扫描包及其子包。
+     *
+     * @param basePackages 基础包名
+     * @return 包含可翻译字段的具体类，按扫描顺序排列
+     */
+    public Set<Class<?>> scan(Collection<String> basePackages) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        if (basePackages == null || basePackages.isEmpty()) {
+            return types;
+        }
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                // 不要求是组件，只排除接口、注解、抽象类与非静态内部类
+                return beanDefinition.getMetadata().isIndependent() && beanDefinition.getMetadata().isConcrete();
+            }
+        };
+        provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+        provider.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        for (String basePackage : basePackages) {
+            if (basePackage == null || basePackage.isBlank()) {
+                continue;
+            }
+            for (BeanDefinition candidate : provider.findCandidateComponents(basePackage.trim())) {
+                Class<?> type = load(candidate.getBeanClassName());
+                if (type != null && isTranslatable(type)) {
+                    types.add(type);
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * 判断类（含父类）是否声明了翻译注解。
+     *
+     * @param type 类型
+     * @return 是否包含可翻译字段
+     */
+    public static boolean isTranslatable(Class<?> type) {
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            try {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())
+                            && (field.isAnnotationPresent(TranslateField.class)
+                            || field.isAnnotationPresent(TranslateFields.class))) {
+                        return true;
+                    }
+                }
+            } catch (LinkageError ex) {
+                // 字段类型缺失时视为不可翻译
+                return false;
+            }
+            current = current.getSuperclass();
+        }
+        return false;
+    }
+
+    private Class<?> load(String className) {
+        if (className == null) {
+            return null;
+        }
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            // 依赖缺失的类不参与预热
+            return null;
+        }
+    }
+}
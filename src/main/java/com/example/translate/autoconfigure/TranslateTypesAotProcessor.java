@@ -0,0 +1,118 @@
+package com.example.translate.autoconfigure;
+
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AOT 阶段扫描可翻译类型并生成反射提示。
+ * <p>
+ * 设计意图：原生镜像中执行器的字段反射会因缺少提示而失败，这里在构建期复用
+ * {@link TranslateTypeScanner} 找出声明了翻译注解的类，自动登记字段与引用的枚举类。
+ * 扫描范围为 Spring Boot 自动配置包（启动类所在包）加上 {@code field-translate.warm-up.base-packages}；
+ * 控制器请求映射方法的返回类型（含 {@code Result<T>} 等响应包装与其类型参数）也一并登记。
+ * 通过 {@code META-INF/spring/aot.factories} 注册，只在 AOT 处理时实例化。
+ * </p>
+ */
+public class TranslateTypesAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    static final String BASE_PACKAGES_PROPERTY = "field-translate.warm-up.base-packages";
+
+    // 按名称匹配，不依赖 spring-web
+    private static final String REQUEST_MAPPING = "org.springframework.web.bind.annotation.RequestMapping";
+
+    private static final boolean BOOT_PRESENT = ClassUtils.isPresent(
+            "org.springframework.boot.context.properties.bind.Binder", TranslateTypesAotProcessor.class.getClassLoader());
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        List<String> basePackages = basePackages(beanFactory);
+        Set<Class<?>> types = basePackages.isEmpty()
+                ? Collections.emptySet()
+                : new TranslateTypeScanner(beanFactory.getBeanClassLoader()).scan(basePackages);
+        List<ResolvableType> returnTypes = controllerReturnTypes(beanFactory);
+        if (types.isEmpty() && returnTypes.isEmpty()) {
+            return null;
+        }
+        return (generationContext, beanFactoryInitializationCode) -> {
+            ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+            TranslateRuntimeHints.registerTypes(reflection, types, basePackages);
+            TranslateRuntimeHints.registerReturnTypes(reflection, returnTypes, basePackages);
+        };
+    }
+
+    /**
+     * 收集控制器请求映射方法的返回类型（含泛型），响应包装类型由此获得提示。
+     */
+    private List<ResolvableType> controllerReturnTypes(ConfigurableListableBeanFactory beanFactory) {
+        List<ResolvableType> returnTypes = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType;
+            try {
+                beanType = beanFactory.getType(beanName, false);
+            } catch (RuntimeException | LinkageError ex) {
+                continue;
+            }
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> userType = ClassUtils.getUserClass(beanType);
+            if (!AnnotatedElementUtils.hasAnnotation(userType, Controller.class)) {
+                continue;
+            }
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(userType, ReflectionUtils.USER_DECLARED_METHODS)) {
+                if (MergedAnnotations.from(method, SearchStrategy.TYPE_HIERARCHY).isPresent(REQUEST_MAPPING)) {
+                    returnTypes.add(ResolvableType.forMethodReturnType(method, userType));
+                }
+            }
+        }
+        return returnTypes;
+    }
+
+    private List<String> basePackages(ConfigurableListableBeanFactory beanFactory) {
+        Set<String> packages = new LinkedHashSet<>();
+        if (BOOT_PRESENT) {
+            // 缺少 Spring Boot 时不触碰其类，避免加载失败
+            packages.addAll(BootPackages.resolve(beanFactory));
+        }
+        return new ArrayList<>(packages);
+    }
+
+    private static final class BootPackages {
+
+        static List<String> resolve(ConfigurableListableBeanFactory beanFactory) {
+            List<String> packages = new ArrayList<>();
+            if (AutoConfigurationPackages.has(beanFactory)) {
+                packages.addAll(AutoConfigurationPackages.get(beanFactory));
+            }
+            if (beanFactory.containsBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME)) {
+                Environment environment = beanFactory.getBean(
+                        ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, Environment.class);
+                Binder.get(environment)
+                        .bind(BASE_PACKAGES_PROPERTY, Bindable.listOf(String.class))
+                        .ifBound(packages::addAll);
+            }
+            return packages;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.translate.autoconfigure;
+
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.support.DefaultTranslateExecutor;
+import com.example.translate.support.TranslateExecutor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 启动预热：在容器刷新完成前构建可翻译类的计划，并可选地执行合成翻译。
+ * <p>
+ * 设计意图：滚动发布后首批请求不再承担字段扫描、注解解析与枚举索引的初始化，
+ * 合成翻译让遍历与任务收集的热点路径在就绪前完成编译。
+ * 合成对象的源字段未必为空（基本类型、字段初始值），因此合成翻译只启用 ENUM 类型，
+ * CACHE、TABLE、RPC 与自定义类型一律跳过，不会访问下游，也不会写入跨重启热点等缓存。
+ * 合成翻译绑定独立的上下文执行，不改动也不清理启动线程已有的翻译上下文。
+ * 预热发生在所有单例创建之后、应用报告就绪之前；任何失败都只跳过对应类型。
+ * </p>
+ */
+public class TranslateWarmUp implements SmartInitializingSingleton {
+
+    private final TranslateExecutor executor;
+    private final TranslateTypeScanner scanner;
+    private final List<String> basePackages;
+    private int iterations;
+    private volatile Set<Class<?>> warmedTypes = Collections.emptySet();
+
+    /**
+     * @param executor 翻译执行器
+     * @param scanner 类型扫描器
+     * @param basePackages 扫描的基础包
+     */
+    public TranslateWarmUp(TranslateExecutor executor, TranslateTypeScanner scanner, Collection<String> basePackages) {
+        this.executor = executor;
+        this.scanner = scanner;
+        this.basePackages = basePackages == null ? Collections.emptyList() : new ArrayList<>(basePackages);
+    }
+
+    /**
+     * 设置合成翻译轮数；0 表示只构建计划。
+     *
+     * @param iterations 轮数
+     * @throws IllegalArgumentException 为负数时抛出
+     */
+    public void setIterations(int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("iterations must not be negative: " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * 已预热的类型，便于启动后核对扫描范围。
+     */
+    public Set<Class<?>> getWarmedTypes() {
+        return warmedTypes;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Set<Class<?>> warmed = new LinkedHashSet<>();
+        for (Class<?> type : scanner.scan(basePackages)) {
+            if (warmUp(type)) {
+                warmed.add(type);
+            }
+        }
+        warmedTypes = Collections.unmodifiableSet(warmed);
+        if (iterations > 0 && !warmed.isEmpty()) {
+            runSynthetic(warmed);
+        }
+    }
+
+    private boolean warmUp(Class<?> type) {
+        if (!(executor instanceof DefaultTranslateExecutor)) {
+            // 自定义执行器只参与合成翻译
+            return true;
+        }
+        try {
+            return ((DefaultTranslateExecutor) executor).warmUp(type);
+        } catch (RuntimeException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    private void runSynthetic(Set<Class<?>> types) {
+        List<Object> samples = new ArrayList<>(types.size());
+        for (Class<?> type : types) {
+            Object sample = instantiate(type);
+            if (sample != null) {
+                samples.add(sample);
+            }
+        }
+        if (samples.isEmpty()) {
+            return;
+        }
+        // 只启用纯内存的枚举翻译，其余类型的声明在任务收集阶段即被跳过；
+        // 在独立上下文中执行，启动线程已有的上下文保持不变
+        TranslateContext synthetic = TranslateContext.create();
+        synthetic.setEnabledTypes(TranslateType.ENUM);
+        try {
+            TranslateContext.runWith(synthetic, () -> {
+                for (int i = 0; i < iterations; i++) {
+                    // 每轮使用新列表，避免遍历状态跨轮复用
+                    executor.translate(new ArrayList<>(samples));
+                }
+            });
+        } catch (RuntimeException ex) {
+            // 合成翻译失败不影响启动
+        }
+    }
+
+    private Object instantiate(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            return BeanUtils.instantiateClass(constructor);
+        } catch (NoSuchMethodException | RuntimeException | LinkageError ex) {
+            // 没有无参构造的类型只构建计划
+            return null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.translate.context;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 请求级查询记忆：同一请求内多次 {@code translate} 调用共享已查到的翻译值。
+ * <p>
+ * 设计意图：业务在 Controller 中对中间对象手工翻译后，响应切面还会再翻译一次最终结果，
+ * 两次遍历互不知情。按“查询分组 + 原始值”记住处理器返回的值，后续调用只查询未命中的 key。
+ * 生命周期随 {@link TranslateContext}，{@link TranslateContext#clear()} 即丢弃；
+ * 只读快照共享同一实例，工作线程的查询结果对请求线程可见。
+ * </p>
+ * <p>
+ * 未命中与失败无法区分，因此只记住查到的值；条目数达到上限后不再写入，已有条目继续可用。
+ * </p>
+ */
+public final class RequestLookupMemo {
+
+    /**
+     * 默认条目上限。
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 50_000;
+
+    private final Map<Object, Map<Object, Object>> groups = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxEntries;
+
+    /**
+     * @param maxEntries 条目上限
+     * @throws IllegalArgumentException 上限不为正数时抛出
+     */
+    public RequestLookupMemo(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 获取某个查询分组已记住的值。
+     *
+     * @param groupKey 查询分组（由执行器按处理器与注解构造）
+     * @return 原始值到翻译值的只读视图；无记录时为空
+     */
+    public Map<Object, Object> group(Object groupKey) {
+        Map<Object, Object> group = groups.get(groupKey);
+        return group == null ? Collections.emptyMap() : Collections.unmodifiableMap(group);
+    }
+
+    /**
+     * 记住处理器返回的值，忽略 null。
+     *
+     * @param groupKey 查询分组
+     * @param values 原始值到翻译值的映射
+     */
+    public void remember(Object groupKey, Map<Object, Object> values) {
+        if (values == null || values.isEmpty() || size.get() >= maxEntries) {
+            return;
+        }
+        Map<Object, Object> group = groups.computeIfAbsent(groupKey, k -> new ConcurrentHashMap<>());
+        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
+            }
+            if (size.get() >= maxEntries) {
+                return;
+            }
+            if (group.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                size.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 已记住的条目数。
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return size.get();
+    }
+}
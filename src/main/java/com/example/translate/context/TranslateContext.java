@@ -1,18 +1,29 @@
 package com.example.translate.context;
 
+import com.example.translate.annotation.TranslateType;
+
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.Objects;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
- * 请求级翻译上下文，存储于 ThreadLocal。
+ * 请求级翻译上下文，默认存储于 ThreadLocal。
  * <p>
  * 设计意图：提供最小且框架无关的开关控制能力，
  * 使其可在任何 Web 栈中使用且不依赖 AOP。
  * 同时明确区分“全局开关”和“请求级开关”，
  * 以保证行为可预期且易测试。
  * </p>
+ * <p>
+ * 并行或虚拟线程中执行批量翻译时，先用 {@link #snapshot()} 取得只读快照，
+ * 再通过 {@link #callWith(TranslateContext, Supplier)} / {@link #wrap(Runnable)} 显式绑定到工作线程。
+ * 绑定方式由 {@link TranslateContextCarrier} 决定，支持时可切换为 ScopedValue。
+ * </p>
  */
 public final class TranslateContext {
 
@@ -27,12 +38,41 @@ public final class TranslateContext {
      */
     private static volatile boolean globalEnabled = true;
 
+    // 显式绑定的载体，优先于 ThreadLocal 中惰性创建的上下文
+    private static final TranslateContextCarrier CARRIER = TranslateContextCarrier.detect();
+
     private boolean enabled;
-    private final Set<String> enabledTypes;
 
-    private TranslateContext(boolean enabled, Set<String> enabledTypes) {
+    // 内置类型过滤：按 ordinal 置位；与自定义类型集合同时为空表示不过滤
+    private int typeMask;
+    private Set<String> customTypes;
+
+    // 翻译截止时间（System.nanoTime 基准），0 表示不限制
+    private long deadlineNanos;
+
+    // 客户端请求的字段投影（目标字段名），null 表示不限制
+    private Set<String> projection;
+
+    // 请求级查询记忆，null 表示未开启；快照与原上下文共享
+    private RequestLookupMemo lookupMemo;
+
+    // 只读快照，用于跨线程传递
+    private final boolean readOnly;
+
+    private TranslateContext(boolean enabled) {
         this.enabled = enabled;
-        this.enabledTypes = enabledTypes == null ? new HashSet<>() : new HashSet<>(enabledTypes);
+        this.customTypes = Collections.emptySet();
+        this.readOnly = false;
+    }
+
+    private TranslateContext(TranslateContext source) {
+        this.enabled = source.enabled;
+        this.typeMask = source.typeMask;
+        this.customTypes = source.customTypes;
+        this.deadlineNanos = source.deadlineNanos;
+        this.projection = source.projection;
+        this.lookupMemo = source.lookupMemo;
+        this.readOnly = true;
     }
 
     /**
@@ -44,19 +84,114 @@ public final class TranslateContext {
      * @return 当前线程上下文
      */
     public static TranslateContext current() {
+        TranslateContext bound = CARRIER.get();
+        if (bound != null) {
+            return bound;
+        }
         TranslateContext ctx = LOCAL.get();
         if (ctx == null) {
             // 使用全局策略创建默认上下文
-            ctx = new TranslateContext(globalEnabled, null);
+            ctx = new TranslateContext(globalEnabled);
             LOCAL.set(ctx);
         }
         return ctx;
     }
 
+    /**
+     * 创建不绑定到任何线程的新上下文，按全局开关初始化。
+     * <p>
+     * 设计意图：配合 {@link #callWith(TranslateContext, Supplier)} 以独立策略执行翻译，
+     * 不改动当前线程已有的上下文。
+     * </p>
+     *
+     * @return 新上下文
+     */
+    public static TranslateContext create() {
+        return new TranslateContext(globalEnabled);
+    }
+
+    /**
+     * 在绑定指定上下文的作用域内执行操作。
+     * <p>
+     * 设计意图：工作线程不继承请求线程的 ThreadLocal，
+     * 由提交方显式传入快照，作用域结束后自动解除绑定。
+     * </p>
+     *
+     * @param context 要绑定的上下文（通常为 {@link #snapshot()}）
+     * @param action 操作
+     * @param <T> 结果类型
+     * @return 操作结果
+     */
+    public static <T> T callWith(TranslateContext context, Supplier<T> action) {
+        if (context == null) {
+            return action.get();
+        }
+        return CARRIER.callWith(context, action);
+    }
+
+    /**
+     * 在绑定指定上下文的作用域内执行操作。
+     *
+     * @param context 要绑定的上下文
+     * @param action 操作
+     */
+    public static void runWith(TranslateContext context, Runnable action) {
+        callWith(context, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 捕获当前上下文的快照，返回在任意线程中以该快照执行的任务。
+     *
+     * @param action 原任务
+     * @return 绑定了快照的任务
+     */
+    public static Runnable wrap(Runnable action) {
+        TranslateContext snapshot = current().snapshot();
+        return () -> runWith(snapshot, action);
+    }
+
+    /**
+     * 捕获当前上下文的快照，返回在任意线程中以该快照执行的任务。
+     *
+     * @param action 原任务
+     * @param <T> 结果类型
+     * @return 绑定了快照的任务
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> action) {
+        TranslateContext snapshot = current().snapshot();
+        return () -> callWith(snapshot, action);
+    }
+
+    /**
+     * 生成只读快照。
+     * <p>
+     * 设计意图：快照不可修改，可安全地在多个工作线程间共享；
+     * 开关、类型过滤、字段投影与截止时间均按当前值固定。
+     * </p>
+     *
+     * @return 只读快照；当前已是快照时返回自身
+     */
+    public TranslateContext snapshot() {
+        return readOnly ? this : new TranslateContext(this);
+    }
+
+    /**
+     * 是否为只读快照。
+     *
+     * @return 是否只读
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     /**
      * 清理当前线程上下文。
      * <p>
      * 设计意图：避免线程池复用导致的 ThreadLocal 泄漏。
+     * 请求级查询记忆随上下文一并丢弃。
      * </p>
      */
     public static void clear() {
@@ -93,6 +228,7 @@ public final class TranslateContext {
      * @param enabled 是否启用
      */
     public void setEnabled(boolean enabled) {
+        checkWritable();
         this.enabled = enabled;
     }
 
@@ -112,16 +248,49 @@ public final class TranslateContext {
      * 设置当前线程允许的翻译类型集合。
      * <p>
      * 设计意图：为“仅开启部分翻译类型”预留空间。
-     * 空集合表示不做类型过滤。
+     * 空集合表示不做类型过滤。内置类型名转为位掩码，其余视为自定义类型标识。
      * </p>
      *
      * @param types 允许的类型标识集合
      */
     public void setEnabledTypes(Set<String> types) {
-        enabledTypes.clear();
+        checkWritable();
+        int mask = 0;
+        Set<String> custom = new HashSet<>();
+        if (types != null) {
+            for (String type : types) {
+                if (type == null) {
+                    continue;
+                }
+                TranslateType builtIn = builtInType(type);
+                if (builtIn != null) {
+                    mask |= bit(builtIn);
+                } else {
+                    custom.add(type);
+                }
+            }
+        }
+        this.typeMask = mask;
+        this.customTypes = custom.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(custom);
+    }
+
+    /**
+     * 设置当前线程允许的内置翻译类型。
+     *
+     * @param types 允许的类型；为空表示不做类型过滤
+     */
+    public void setEnabledTypes(TranslateType... types) {
+        checkWritable();
+        int mask = 0;
         if (types != null) {
-            enabledTypes.addAll(types);
+            for (TranslateType type : types) {
+                if (type != null) {
+                    mask |= bit(type);
+                }
+            }
         }
+        this.typeMask = mask;
+        this.customTypes = Collections.emptySet();
     }
 
     /**
@@ -133,7 +302,59 @@ public final class TranslateContext {
      * @return 允许的类型集合
      */
     public Set<String> getEnabledTypes() {
-        return Collections.unmodifiableSet(enabledTypes);
+        if (typeMask == 0 && customTypes.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> types = new LinkedHashSet<>();
+        for (TranslateType type : getEnabledTranslateTypes()) {
+            types.add(type.name());
+        }
+        types.addAll(customTypes);
+        return Collections.unmodifiableSet(types);
+    }
+
+    /**
+     * 获取允许的内置翻译类型。
+     *
+     * @return 允许的内置类型；未设置过滤时为空
+     */
+    public EnumSet<TranslateType> getEnabledTranslateTypes() {
+        EnumSet<TranslateType> types = EnumSet.noneOf(TranslateType.class);
+        for (TranslateType type : TranslateType.values()) {
+            if ((typeMask & bit(type)) != 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * 判断是否设置了类型过滤。
+     *
+     * @return 是否过滤
+     */
+    public boolean hasTypeFilter() {
+        return typeMask != 0 || !customTypes.isEmpty();
+    }
+
+    /**
+     * 判断某个内置翻译类型是否被允许。
+     * <p>
+     * 设计意图：执行器对每个声明都会调用，使用位运算避免字符串哈希。
+     * </p>
+     *
+     * @param type 内置类型
+     * @return 是否允许
+     */
+    public boolean isTypeEnabled(TranslateType type) {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (typeMask == 0 && customTypes.isEmpty()) {
+            // 未设置过滤，全部允许
+            return true;
+        }
+        return type != null && (typeMask & bit(type)) != 0;
     }
 
     /**
@@ -150,10 +371,214 @@ public final class TranslateContext {
         if (!isEnabled()) {
             return false;
         }
-        if (enabledTypes.isEmpty()) {
+        if (typeMask == 0 && customTypes.isEmpty()) {
             // 空集合表示不做过滤，全部允许
             return true;
         }
-        return Objects.nonNull(type) && enabledTypes.contains(type);
+        if (type == null) {
+            return false;
+        }
+        TranslateType builtIn = builtInType(type);
+        return builtIn != null ? (typeMask & bit(builtIn)) != 0 : customTypes.contains(type);
+    }
+
+    /**
+     * 设置当前线程翻译的截止时间。
+     * <p>
+     * 设计意图：为单次响应的翻译设置硬性时间预算，
+     * 到期仍未返回的查询直接使用 fallback，而不是阻塞响应。
+     * </p>
+     *
+     * @param timeout 从现在起的可用时长
+     */
+    public void setDeadlineAfter(Duration timeout) {
+        checkWritable();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        // 避免恰好为 0 时被误判为“未设置”
+        this.deadlineNanos = deadline == 0 ? 1 : deadline;
+    }
+
+    /**
+     * 清除截止时间。
+     */
+    public void clearDeadline() {
+        checkWritable();
+        this.deadlineNanos = 0;
+    }
+
+    /**
+     * 判断是否设置了截止时间。
+     *
+     * @return 是否设置
+     */
+    public boolean hasDeadline() {
+        return deadlineNanos != 0;
+    }
+
+    /**
+     * 获取距截止时间的剩余纳秒数。
+     *
+     * @return 剩余纳秒；未设置时返回 {@link Long#MAX_VALUE}，已超时返回 0
+     */
+    public long remainingNanos() {
+        if (deadlineNanos == 0) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * 判断是否已超过截止时间。
+     *
+     * @return 是否已超时
+     */
+    public boolean isDeadlineExceeded() {
+        return deadlineNanos != 0 && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 设置客户端请求的字段投影。
+     * <p>
+     * 设计意图：稀疏字段接口（如 {@code ?fields=id,name,statusText}）只需翻译被请求的目标字段，
+     * 其余声明不再访问下游。条目为自响应根起的字段路径（如 {@code items.statusText}），
+     * 集合、数组、Map 与分页不占路径段，{@code items[].statusText} 与 {@code items.statusText} 等价；
+     * 请求父路径（如 {@code items}）即请求其下的全部目标字段。
+     * </p>
+     *
+     * @param fields 请求的字段或路径；null 或空集合表示不限制
+     */
+    public void setProjection(Collection<String> fields) {
+        checkWritable();
+        if (fields == null || fields.isEmpty()) {
+            this.projection = null;
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            String name = field.trim().replace("[]", "");
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        this.projection = names.isEmpty() ? null : Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * 获取字段投影。
+     *
+     * @return 请求的字段路径；未设置时为空集合
+     */
+    public Set<String> getProjection() {
+        return projection == null ? Collections.emptySet() : projection;
+    }
+
+    /**
+     * 判断是否设置了字段投影。
+     *
+     * @return 是否设置
+     */
+    public boolean hasProjection() {
+        return projection != null;
+    }
+
+    /**
+     * 判断响应根对象上的目标字段是否在投影内。
+     *
+     * @param fieldName 目标字段名
+     * @return 未设置投影或字段被请求时返回 true
+     */
+    public boolean isFieldRequested(String fieldName) {
+        return isFieldRequested("", fieldName);
+    }
+
+    /**
+     * 判断指定路径下对象的目标字段是否在投影内：请求了该字段路径本身或其任一父路径。
+     *
+     * @param ownerPath 目标字段所属对象自响应根起的路径，根对象为空字符串
+     * @param fieldName 目标字段名
+     * @return 未设置投影或字段被请求时返回 true
+     */
+    public boolean isFieldRequested(String ownerPath, String fieldName) {
+        if (projection == null) {
+            return true;
+        }
+        int ownerLength = ownerPath == null ? 0 : ownerPath.length();
+        for (String requested : projection) {
+            int length = requested.length();
+            if (length <= ownerLength) {
+                // 请求了所属对象本身或其父路径
+                if (ownerPath.startsWith(requested) && (length == ownerLength || ownerPath.charAt(length) == '.')) {
+                    return true;
+                }
+            } else if (ownerLength == 0) {
+                if (requested.equals(fieldName)) {
+                    return true;
+                }
+            } else if (length == ownerLength + 1 + fieldName.length()
+                    && requested.startsWith(ownerPath)
+                    && requested.charAt(ownerLength) == '.'
+                    && requested.endsWith(fieldName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 为当前请求开启查询记忆。
+     * <p>
+     * 设计意图：需在请求开始时（如拦截器中）开启，并在请求结束时调用 {@link #clear()}，
+     * 否则线程复用会使记忆跨请求残留。已开启时保持原实例。
+     * </p>
+     *
+     * @return 查询记忆
+     */
+    public RequestLookupMemo enableLookupMemo() {
+        return enableLookupMemo(RequestLookupMemo.DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * 为当前请求开启查询记忆。
+     *
+     * @param maxEntries 条目上限
+     * @return 查询记忆
+     */
+    public RequestLookupMemo enableLookupMemo(int maxEntries) {
+        checkWritable();
+        if (lookupMemo == null) {
+            lookupMemo = new RequestLookupMemo(maxEntries);
+        }
+        return lookupMemo;
+    }
+
+    /**
+     * 获取请求级查询记忆。
+     *
+     * @return 查询记忆；未开启时为 null
+     */
+    public RequestLookupMemo getLookupMemo() {
+        return lookupMemo;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("TranslateContext snapshot is read-only");
+        }
+    }
+
+    private static int bit(TranslateType type) {
+        return 1 << type.ordinal();
+    }
+
+    private static TranslateType builtInType(String name) {
+        for (TranslateType type : TranslateType.values()) {
+            if (type.name().equals(name)) {
+                return type;
+            }
+        }
+        return null;
     }
 }
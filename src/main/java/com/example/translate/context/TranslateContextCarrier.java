@@ -0,0 +1,150 @@
+package com.example.translate.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+/**
+ * 上下文载体：决定 {@link TranslateContext#callWith(TranslateContext, Supplier)} 如何把上下文绑定到当前线程。
+ * <p>
+ * 设计意图：默认以 ThreadLocal 绑定并在作用域结束时恢复原值；
+ * 运行在提供 {@code java.lang.ScopedValue} 的 JDK 上且设置
+ * {@code -Dfield-translate.context.carrier=scoped-value} 时改用 ScopedValue，
+ * 绑定随作用域自动失效，虚拟线程下无需维护 ThreadLocal 副本。
+ * 本库以 release 17 编译，ScopedValue 通过方法句柄访问，不可用时回退为 ThreadLocal。
+ * </p>
+ */
+public interface TranslateContextCarrier {
+
+    /**
+     * 选择载体的系统属性名。
+     */
+    String CARRIER_PROPERTY = "field-translate.context.carrier";
+
+    /**
+     * 获取当前作用域绑定的上下文。
+     *
+     * @return 绑定的上下文；未绑定时为 null
+     */
+    TranslateContext get();
+
+    /**
+     * 在绑定上下文的作用域内执行操作。
+     *
+     * @param context 上下文
+     * @param action 操作
+     * @param <T> 结果类型
+     * @return 操作结果
+     */
+    <T> T callWith(TranslateContext context, Supplier<T> action);
+
+    /**
+     * 按系统属性选择载体。
+     *
+     * @return 载体实例
+     */
+    static TranslateContextCarrier detect() {
+        if ("scoped-value".equals(System.getProperty(CARRIER_PROPERTY))) {
+            TranslateContextCarrier scoped = ScopedValueCarrier.create();
+            if (scoped != null) {
+                return scoped;
+            }
+        }
+        return new ThreadLocalCarrier();
+    }
+
+    /**
+     * ThreadLocal 载体：绑定后恢复进入作用域前的值，支持嵌套。
+     */
+    final class ThreadLocalCarrier implements TranslateContextCarrier {
+
+        private final ThreadLocal<TranslateContext> bound = new ThreadLocal<>();
+
+        @Override
+        public TranslateContext get() {
+            return bound.get();
+        }
+
+        @Override
+        public <T> T callWith(TranslateContext context, Supplier<T> action) {
+            TranslateContext previous = bound.get();
+            bound.set(context);
+            try {
+                return action.get();
+            } finally {
+                if (previous == null) {
+                    bound.remove();
+                } else {
+                    bound.set(previous);
+                }
+            }
+        }
+    }
+
+    /**
+     * ScopedValue 载体，仅在运行时 JDK 提供该 API 时创建。
+     */
+    final class ScopedValueCarrier implements TranslateContextCarrier {
+
+        private final Object scopedValue;
+        private final MethodHandle isBound;
+        private final MethodHandle get;
+        private final MethodHandle where;
+        private final MethodHandle run;
+
+        private ScopedValueCarrier(Object scopedValue,
+                                   MethodHandle isBound,
+                                   MethodHandle get,
+                                   MethodHandle where,
+                                   MethodHandle run) {
+            this.scopedValue = scopedValue;
+            this.isBound = isBound;
+            this.get = get;
+            this.where = where;
+            this.run = run;
+        }
+
+        static TranslateContextCarrier create() {
+            try {
+                Class<?> type = Class.forName("java.lang.ScopedValue");
+                Class<?> carrierType = Class.forName("java.lang.ScopedValue$Carrier");
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Object scopedValue = lookup.findStatic(type, "newInstance", MethodType.methodType(type)).invoke();
+                return new ScopedValueCarrier(
+                        scopedValue,
+                        lookup.findVirtual(type, "isBound", MethodType.methodType(boolean.class)),
+                        lookup.findVirtual(type, "get", MethodType.methodType(Object.class)),
+                        lookup.findStatic(type, "where", MethodType.methodType(carrierType, type, Object.class)),
+                        lookup.findVirtual(carrierType, "run", MethodType.methodType(void.class, Runnable.class)));
+            } catch (Throwable ex) {
+                // 运行时 JDK 不提供 ScopedValue（或未开启预览特性）
+                return null;
+            }
+        }
+
+        @Override
+        public TranslateContext get() {
+            try {
+                return (boolean) isBound.invoke(scopedValue) ? (TranslateContext) get.invoke(scopedValue) : null;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("ScopedValue access failed", ex);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T callWith(TranslateContext context, Supplier<T> action) {
+            Object[] result = new Object[1];
+            Runnable task = () -> result[0] = action.get();
+            try {
+                run.invoke(where.invoke(scopedValue, context), task);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("ScopedValue binding failed", ex);
+            }
+            return (T) result[0];
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.translate.handler;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.support.NormalizedKeyMap;
+import com.example.translate.support.NumericKeys;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按顺序串联同一类型的多个处理器：前一个未命中的 key 才交给下一个。
+ * <p>
+ * 设计意图：如"本地缓存处理器 → RPC 处理器"，命中本地的 key 不再访问远端，
+ * 调用方仍只看到一个处理器。单个处理器的异常只影响其自身，剩余 key 继续向后传递。
+ * </p>
+ * <p>
+ * 仅当首个处理器支持同键多列合并时才参与合并；链中不支持合并的处理器按列逐个调用。
+ * </p>
+ */
+public class CompositeTranslateHandler implements MultiColumnTranslateHandler {
+
+    private final List<TranslateHandler> delegates;
+
+    /**
+     * @param delegates 按优先级排列的处理器，类型与自定义标识需一致
+     * @throws IllegalArgumentException 列表为空或类型不一致时抛出
+     */
+    public CompositeTranslateHandler(List<? extends TranslateHandler> delegates) {
+        if (delegates == null || delegates.isEmpty()) {
+            throw new IllegalArgumentException("Composite handler requires at least one delegate");
+        }
+        TranslateHandler first = delegates.get(0);
+        for (TranslateHandler delegate : delegates) {
+            if (delegate.type() != first.type() || !delegate.customType().equals(first.customType())) {
+                throw new IllegalArgumentException("Composite delegates must share type: "
+                        + first.type() + " vs " + delegate.type());
+            }
+        }
+        this.delegates = Collections.unmodifiableList(new ArrayList<>(delegates));
+    }
+
+    public List<TranslateHandler> getDelegates() {
+        return delegates;
+    }
+
+    @Override
+    public TranslateType type() {
+        return delegates.get(0).type();
+    }
+
+    @Override
+    public String customType() {
+        return delegates.get(0).customType();
+    }
+
+    /**
+     * 链中各处理器按相同标识查询，以首个处理器的查询标识为准。
+     */
+    @Override
+    public Object lookupKey(TranslateField meta) {
+        return delegates.get(0).lookupKey(meta);
+    }
+
+    @Override
+    public void warmUp(TranslateField meta) {
+        for (TranslateHandler delegate : delegates) {
+            try {
+                delegate.warmUp(meta);
+            } catch (RuntimeException ex) {
+                // 单个处理器预热失败不影响其他处理器
+            }
+        }
+    }
+
+    @Override
+    public Map<Object, Object> batchTranslate(Collection<Object> rawValues,
+                                              TranslateField meta,
+                                              TranslateContext context) {
+        Map<Object, Object> result = new HashMap<>();
+        Collection<Object> pending = rawValues;
+        for (TranslateHandler delegate : delegates) {
+            if (pending.isEmpty()) {
+                break;
+            }
+            Map<Object, Object> translated = safeBatchTranslate(delegate, pending, meta, context);
+            pending = collect(pending, translated, result);
+        }
+        return result;
+    }
+
+    @Override
+    public Object columnGroupKey(TranslateField meta) {
+        TranslateHandler first = delegates.get(0);
+        return first instanceof MultiColumnTranslateHandler
+                ? ((MultiColumnTranslateHandler) first).columnGroupKey(meta)
+                : null;
+    }
+
+    @Override
+    public Map<TranslateField, Map<Object, Object>> batchTranslateColumns(Collection<Object> rawValues,
+                                                                          List<TranslateField> metas,
+                                                                          TranslateContext context) {
+        Map<TranslateField, Map<Object, Object>> result = new LinkedHashMap<>();
+        Map<TranslateField, Collection<Object>> pending = new LinkedHashMap<>();
+        for (TranslateField meta : metas) {
+            result.put(meta, new HashMap<>());
+            pending.put(meta, rawValues);
+        }
+
+        for (TranslateHandler delegate : delegates) {
+            pending.values().removeIf(Collection::isEmpty);
+            if (pending.isEmpty()) {
+                break;
+            }
+            if (delegate instanceof MultiColumnTranslateHandler) {
+                // 合并调用：任一列缺失的 key 都需要再查一次，已命中的列不会被覆盖
+                List<TranslateField> pendingMetas = new ArrayList<>(pending.keySet());
+                Collection<Object> keys = union(pending.values());
+                Map<TranslateField, Map<Object, Object>> translated =
+                        safeBatchTranslateColumns((MultiColumnTranslateHandler) delegate, keys, pendingMetas, context);
+                for (TranslateField meta : pendingMetas) {
+                    Map<Object, Object> column = translated.get(meta);
+                    pending.put(meta, collect(pending.get(meta),
+                            column == null ? Collections.emptyMap() : column, result.get(meta)));
+                }
+            } else {
+                for (Map.Entry<TranslateField, Collection<Object>> entry : pending.entrySet()) {
+                    Map<Object, Object> translated = safeBatchTranslate(delegate, entry.getValue(), entry.getKey(), context);
+                    entry.setValue(collect(entry.getValue(), translated, result.get(entry.getKey())));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 把命中的结果并入 {@code result}，返回仍未命中的 key。
+     */
+    private Collection<Object> collect(Collection<Object> pending,
+                                       Map<Object, Object> translated,
+                                       Map<Object, Object> result) {
+        if (translated.isEmpty()) {
+            return pending;
+        }
+        NormalizedKeyMap<Object> normalized = null;
+        List<Object> misses = new ArrayList<>();
+        for (Object raw : pending) {
+            if (raw == null) {
+                continue;
+            }
+            Object value = translated.get(raw);
+            if (value == null && NumericKeys.isIntegral(raw)) {
+                // 下游返回的 key 类型可能与字段类型不同，按数值语义再查一次
+                if (normalized == null) {
+                    normalized = NormalizedKeyMap.of(translated);
+                }
+                value = normalized.get(raw);
+            }
+            if (value == null) {
+                misses.add(raw);
+            } else {
+                result.putIfAbsent(raw, value);
+            }
+        }
+        return misses;
+    }
+
+    private Collection<Object> union(Collection<Collection<Object>> groups) {
+        if (groups.size() == 1) {
+            return groups.iterator().next();
+        }
+        List<Object> keys = new ArrayList<>();
+        for (Collection<Object> group : groups) {
+            keys.addAll(group);
+        }
+        return NumericKeys.distinct(keys);
+    }
+
+    private Map<Object, Object> safeBatchTranslate(TranslateHandler delegate,
+                                                   Collection<Object> rawValues,
+                                                   TranslateField meta,
+                                                   TranslateContext context) {
+        try {
+            Map<Object, Object> translated = delegate.batchTranslate(rawValues, meta, context);
+            return translated == null ? Collections.emptyMap() : translated;
+        } catch (RuntimeException ex) {
+            // 单个处理器失败时剩余 key 交给下一个处理器
+            return Collections.emptyMap();
+        }
+    }
+
+    private Map<TranslateField, Map<Object, Object>> safeBatchTranslateColumns(MultiColumnTranslateHandler delegate,
+                                                                               Collection<Object> rawValues,
+                                                                               List<TranslateField> metas,
+                                                                               TranslateContext context) {
+        try {
+            Map<TranslateField, Map<Object, Object>> translated = delegate.batchTranslateColumns(rawValues, metas, context);
+            return translated == null ? Collections.emptyMap() : translated;
+        } catch (RuntimeException ex) {
+            // 单个处理器失败时剩余 key 交给下一个处理器
+            return Collections.emptyMap();
+        }
+    }
+}
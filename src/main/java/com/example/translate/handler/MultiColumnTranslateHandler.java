@@ -0,0 +1,46 @@
+package com.example.translate.handler;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 支持“同键多列”合并查询的处理器扩展接口。
+ * <p>
+ * 设计意图：多个翻译声明共享同一查询来源（如同表同键列、仅值列不同）时，
+ * 由执行器合并为一次批量访问，避免对相同的 key 重复查询。
+ * </p>
+ */
+public interface MultiColumnTranslateHandler extends TranslateHandler {
+
+    /**
+     * 返回可合并查询的分组标识。
+     * <p>
+     * 设计意图：分组标识相同的声明可以在一次查询中取回全部值列；
+     * 返回 {@code null} 表示该声明不参与合并。
+     * </p>
+     *
+     * @param meta 注解元信息
+     * @return 分组标识；不可合并时返回 {@code null}
+     */
+    Object columnGroupKey(TranslateField meta);
+
+    /**
+     * 对同一分组下的多个声明执行一次合并翻译。
+     * <p>
+     * 设计意图：按 key 一次取回多列，再按声明拆分结果，
+     * 保证执行器的写回逻辑与单列翻译完全一致。
+     * </p>
+     *
+     * @param rawValues 原始字段值集合
+     * @param metas 同一分组下的注解元信息（分组标识相同）
+     * @param context 当前翻译上下文（开关/策略）
+     * @return 注解元信息 -> (原值 -> 翻译值) 映射；缺失键表示翻译失败
+     */
+    Map<TranslateField, Map<Object, Object>> batchTranslateColumns(Collection<Object> rawValues,
+                                                                   List<TranslateField> metas,
+                                                                   TranslateContext context);
+}
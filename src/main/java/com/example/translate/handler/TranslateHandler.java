@@ -6,6 +6,7 @@ import com.example.translate.context.TranslateContext;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,6 +28,18 @@ public interface TranslateHandler {
      */
     TranslateType type();
 
+    /**
+     * 自定义类型标识，仅在 {@link #type()} 为 {@link TranslateType#CUSTOM} 时使用。
+     * <p>
+     * 设计意图：与注解的 {@code customType} 对应，由注册表按字符串键路由。
+     * </p>
+     *
+     * @return 自定义类型标识；内置类型返回空串
+     */
+    default String customType() {
+        return "";
+    }
+
     /**
      * 批量翻译入口。
      * <p>
@@ -45,6 +58,35 @@ public interface TranslateHandler {
                                        TranslateField meta,
                                        TranslateContext context);
 
+    /**
+     * 查询标识：决定如何取值的注解属性，不含目标字段、兜底方式与分隔符。
+     * <p>
+     * 设计意图：执行器按该标识合并整个响应内的任务，
+     * 多个字段、多个类只要查询标识相同就只查询一次。
+     * 返回值需实现 equals/hashCode；默认包含除 {@code target}、{@code fallback}、{@code separator} 外的全部属性，
+     * 只读取部分属性的处理器可覆盖以扩大合并范围。
+     * </p>
+     *
+     * @param meta 注解元信息
+     * @return 查询标识
+     */
+    default Object lookupKey(TranslateField meta) {
+        return List.of(meta.type(), meta.customType(), meta.enumClass(), meta.dictKey(),
+                meta.table(), meta.keyColumn(), meta.valueColumn(),
+                meta.rpcService(), meta.rpcMethod(), meta.param());
+    }
+
+    /**
+     * 启动预热：为声明提前准备内部结构（如枚举索引），避免首个请求承担初始化开销。
+     * <p>
+     * 设计意图：由执行器在构建类计划后调用，不得访问下游；默认不做任何事。
+     * </p>
+     *
+     * @param meta 注解元信息
+     */
+    default void warmUp(TranslateField meta) {
+    }
+
     /**
      * 单值翻译便捷方法。
      * <p>
@@ -0,0 +1,272 @@
+package com.example.translate.handler;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.support.NumericKeys;
+import com.example.translate.support.WarmStartStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * 以 {@link WarmStartStore} 保存热点 key 的处理器装饰：命中本地条目的 key 不再访问下游。
+ * <p>
+ * 设计意图：下游取得的结果记入本地存储并随其定期落盘；重启后读回的条目标记为过期，
+ * 照常返回给请求，同时由后台线程分批向下游刷新，新实例不会在启动瞬间把全部热点流量压到下游。
+ * 默认刷新线程为单个守护线程，刷新天然串行，流量平滑。
+ * </p>
+ * <p>
+ * 命名空间由翻译类型与处理器的查询标识组成，查询标识需在重启之间保持稳定的 {@code toString()}。
+ * </p>
+ */
+public class WarmStartTranslateHandler implements MultiColumnTranslateHandler {
+
+    private static final int DEFAULT_REFRESH_BATCH_SIZE = 500;
+    // 与执行器吞掉处理器异常时使用的阶段一致，装饰后错误计数不变
+    private static final String BATCH_STAGE = "executor.batch";
+    private static final String REFRESH_STAGE = "warmstart.refresh";
+
+    private final TranslateHandler delegate;
+    private final WarmStartStore store;
+    private final Executor refreshExecutor;
+
+    // 单次后台刷新的最大 key 数量
+    private volatile int refreshBatchSize = DEFAULT_REFRESH_BATCH_SIZE;
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+
+    public WarmStartTranslateHandler(TranslateHandler delegate, WarmStartStore store) {
+        this(delegate, store, RefreshThread.EXECUTOR);
+    }
+
+    /**
+     * @param delegate 被装饰的处理器
+     * @param store 本地存储
+     * @param refreshExecutor 执行后台刷新的线程池
+     * @throws IllegalArgumentException 参数为空时抛出
+     */
+    public WarmStartTranslateHandler(TranslateHandler delegate, WarmStartStore store, Executor refreshExecutor) {
+        if (delegate == null || store == null || refreshExecutor == null) {
+            throw new IllegalArgumentException("delegate, store and refreshExecutor must not be null");
+        }
+        this.delegate = delegate;
+        this.store = store;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public TranslateHandler getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 设置指标实现：请求路径上的下游异常按 {@code executor.batch} 统计，后台刷新失败按 {@code warmstart.refresh} 统计。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+    }
+
+    /**
+     * 设置单次后台刷新的最大 key 数量。
+     *
+     * @param refreshBatchSize 每批 key 数量，需为正数
+     * @throws IllegalArgumentException 不为正数时抛出
+     */
+    public void setRefreshBatchSize(int refreshBatchSize) {
+        if (refreshBatchSize <= 0) {
+            throw new IllegalArgumentException("refreshBatchSize must be positive: " + refreshBatchSize);
+        }
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    @Override
+    public TranslateType type() {
+        return delegate.type();
+    }
+
+    @Override
+    public String customType() {
+        return delegate.customType();
+    }
+
+    @Override
+    public Object lookupKey(TranslateField meta) {
+        return delegate.lookupKey(meta);
+    }
+
+    @Override
+    public void warmUp(TranslateField meta) {
+        delegate.warmUp(meta);
+    }
+
+    @Override
+    public Map<Object, Object> batchTranslate(Collection<Object> rawValues,
+                                              TranslateField meta,
+                                              TranslateContext context) {
+        if (rawValues == null || rawValues.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String namespace = namespace(meta);
+        List<Object> staleKeys = new ArrayList<>();
+        Map<Object, Object> result = new HashMap<>(store.get(namespace, rawValues, staleKeys));
+        List<Object> misses = misses(rawValues, result);
+        if (!misses.isEmpty()) {
+            Map<Object, Object> fetched = safeBatchTranslate(misses, meta, context, BATCH_STAGE);
+            store.put(namespace, fetched);
+            result.putAll(fetched);
+        }
+        scheduleRefresh(namespace, meta, staleKeys);
+        return result;
+    }
+
+    @Override
+    public Object columnGroupKey(TranslateField meta) {
+        return delegate instanceof MultiColumnTranslateHandler
+                ? ((MultiColumnTranslateHandler) delegate).columnGroupKey(meta)
+                : null;
+    }
+
+    @Override
+    public Map<TranslateField, Map<Object, Object>> batchTranslateColumns(Collection<Object> rawValues,
+                                                                          List<TranslateField> metas,
+                                                                          TranslateContext context) {
+        Map<TranslateField, Map<Object, Object>> result = new LinkedHashMap<>();
+        if (rawValues == null || rawValues.isEmpty() || metas == null || metas.isEmpty()) {
+            return result;
+        }
+        // 任一列未命中的 key 交给下游合并查询，已命中的列不会被覆盖
+        Map<TranslateField, String> namespaces = new LinkedHashMap<>();
+        Map<TranslateField, List<Object>> staleKeys = new HashMap<>();
+        List<Object> misses = new ArrayList<>();
+        for (TranslateField meta : metas) {
+            String namespace = namespace(meta);
+            List<Object> stale = new ArrayList<>();
+            Map<Object, Object> hits = new HashMap<>(store.get(namespace, rawValues, stale));
+            namespaces.put(meta, namespace);
+            staleKeys.put(meta, stale);
+            result.put(meta, hits);
+            misses.addAll(misses(rawValues, hits));
+        }
+        if (!misses.isEmpty()) {
+            List<Object> pending = NumericKeys.distinct(misses);
+            Map<TranslateField, Map<Object, Object>> fetched = safeBatchTranslateColumns(pending, metas, context, BATCH_STAGE);
+            for (TranslateField meta : metas) {
+                Map<Object, Object> column = fetched.get(meta);
+                if (column == null || column.isEmpty()) {
+                    continue;
+                }
+                store.put(namespaces.get(meta), column);
+                Map<Object, Object> hits = result.get(meta);
+                for (Map.Entry<Object, Object> entry : column.entrySet()) {
+                    hits.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        for (TranslateField meta : metas) {
+            scheduleRefresh(namespaces.get(meta), meta, staleKeys.get(meta));
+        }
+        return result;
+    }
+
+    private List<Object> misses(Collection<Object> rawValues, Map<Object, Object> hits) {
+        if (hits.isEmpty()) {
+            return rawValues instanceof List ? (List<Object>) rawValues : new ArrayList<>(rawValues);
+        }
+        List<Object> misses = new ArrayList<>();
+        for (Object raw : rawValues) {
+            if (raw != null && !hits.containsKey(raw)) {
+                misses.add(raw);
+            }
+        }
+        return misses;
+    }
+
+    private String namespace(TranslateField meta) {
+        return delegate.type() + ":" + delegate.customType() + ":" + delegate.lookupKey(meta);
+    }
+
+    /**
+     * 后台刷新过期条目：刷新在默认上下文中执行，不受请求的截止时间约束。
+     */
+    private void scheduleRefresh(String namespace, TranslateField meta, List<Object> staleKeys) {
+        if (staleKeys.isEmpty()) {
+            return;
+        }
+        int size = refreshBatchSize;
+        for (int i = 0; i < staleKeys.size(); i += size) {
+            List<Object> batch = new ArrayList<>(staleKeys.subList(i, Math.min(i + size, staleKeys.size())));
+            try {
+                refreshExecutor.execute(() -> refresh(namespace, meta, batch));
+            } catch (RuntimeException ex) {
+                // 线程池拒绝时保留过期条目，下次命中再尝试
+                metrics.recordError(REFRESH_STAGE, ex);
+                store.releaseRefresh(namespace, batch);
+            }
+        }
+    }
+
+    private void refresh(String namespace, TranslateField meta, List<Object> keys) {
+        try {
+            store.put(namespace, safeBatchTranslate(keys, meta, TranslateContext.current(), REFRESH_STAGE));
+        } finally {
+            // 下游未返回的 key 保持过期状态，下次命中再刷新
+            store.releaseRefresh(namespace, keys);
+        }
+    }
+
+    private Map<Object, Object> safeBatchTranslate(Collection<Object> rawValues,
+                                                   TranslateField meta,
+                                                   TranslateContext context,
+                                                   String stage) {
+        try {
+            Map<Object, Object> translated = delegate.batchTranslate(rawValues, meta, context);
+            return translated == null ? Collections.emptyMap() : translated;
+        } catch (RuntimeException ex) {
+            // 下游异常按未命中处理，已命中的本地条目照常返回
+            metrics.recordError(stage, ex);
+            return Collections.emptyMap();
+        }
+    }
+
+    private Map<TranslateField, Map<Object, Object>> safeBatchTranslateColumns(Collection<Object> rawValues,
+                                                                               List<TranslateField> metas,
+                                                                               TranslateContext context,
+                                                                               String stage) {
+        if (!(delegate instanceof MultiColumnTranslateHandler)) {
+            Map<TranslateField, Map<Object, Object>> result = new HashMap<>();
+            for (TranslateField meta : metas) {
+                result.put(meta, safeBatchTranslate(rawValues, meta, context, stage));
+            }
+            return result;
+        }
+        try {
+            Map<TranslateField, Map<Object, Object>> translated =
+                    ((MultiColumnTranslateHandler) delegate).batchTranslateColumns(rawValues, metas, context);
+            return translated == null ? Collections.emptyMap() : translated;
+        } catch (RuntimeException ex) {
+            // 下游异常按未命中处理，已命中的本地条目照常返回
+            metrics.recordError(stage, ex);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 默认刷新线程，首次使用时创建。
+     */
+    private static final class RefreshThread {
+        private static final Executor EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "translate-warm-start-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
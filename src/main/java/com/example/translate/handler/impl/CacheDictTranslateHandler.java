@@ -4,12 +4,18 @@ import com.example.translate.annotation.TranslateField;
 import com.example.translate.annotation.TranslateType;
 import com.example.translate.context.TranslateContext;
 import com.example.translate.handler.TranslateHandler;
+import com.example.translate.metrics.TranslateMetrics;
 import com.example.translate.spi.DictCacheProvider;
+import com.example.translate.spi.LookupTier;
 import com.example.translate.support.CacheKeySpec;
+import com.example.translate.support.DictCacheLookupTier;
+import com.example.translate.support.LocalLookupTier;
+import com.example.translate.support.TieredLookup;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,13 +24,80 @@ import java.util.Map;
  * 设计意图：把缓存访问委托给 {@link DictCacheProvider}，
  * 使框架对本地缓存/Redis 等实现保持无感知。
  * </p>
+ * <p>
+ * 访问顺序为"本地缓存 → {@link DictCacheProvider} → 数据源层"（见 {@link TieredLookup}），
+ * 数据源层查到的字典项回填前面的缓存层。
+ * </p>
  */
 public class CacheDictTranslateHandler implements TranslateHandler {
 
-    private final DictCacheProvider cacheProvider;
+    private final DictCacheLookupTier cacheTier;
+    private final TieredLookup lookup;
 
     public CacheDictTranslateHandler(DictCacheProvider cacheProvider) {
-        this.cacheProvider = cacheProvider;
+        this(cacheProvider, null, null);
+    }
+
+    /**
+     * @param cacheProvider 共享缓存层；为空时跳过
+     * @param localTier 本地缓存层，命名空间应使用 {@link #cacheNamespace(TranslateField)}；为空时跳过
+     * @param sources 缓存未命中时依次访问的数据源层；可为空
+     */
+    public CacheDictTranslateHandler(DictCacheProvider cacheProvider,
+                                     LocalLookupTier localTier,
+                                     List<? extends LookupTier> sources) {
+        this.cacheTier = cacheProvider == null
+                ? null
+                : new DictCacheLookupTier(cacheProvider, CacheDictTranslateHandler::cacheNamespace, "cache.get");
+        List<LookupTier> tiers = new ArrayList<>();
+        if (localTier != null) {
+            tiers.add(localTier);
+        }
+        if (cacheTier != null) {
+            tiers.add(cacheTier);
+        }
+        if (sources != null) {
+            for (LookupTier source : sources) {
+                if (source != null) {
+                    tiers.add(source);
+                }
+            }
+        }
+        this.lookup = tiers.isEmpty() ? null : new TieredLookup(tiers);
+    }
+
+    /**
+     * 字典在缓存层中的命名空间，即字典键；未指定时返回 {@code null}。
+     *
+     * @param meta 注解元信息
+     * @return 命名空间
+     */
+    public static String cacheNamespace(TranslateField meta) {
+        String dictKey = meta.dictKey();
+        return dictKey == null || dictKey.isEmpty() ? null : dictKey;
+    }
+
+    /**
+     * 分层查询，可按层名称（{@code local}、{@code cache} 及数据源层名称）设置超时与批量大小。
+     *
+     * @return 分层查询；没有任何层时返回 {@code null}
+     */
+    public TieredLookup getTieredLookup() {
+        return lookup;
+    }
+
+    /**
+     * 设置指标实现，用于统计被吞掉的异常。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        if (lookup != null) {
+            lookup.setMetrics(metrics);
+        }
+        if (cacheTier != null) {
+            cacheTier.setMetrics(metrics);
+        }
     }
 
     @Override
@@ -32,6 +105,14 @@ public class CacheDictTranslateHandler implements TranslateHandler {
         return TranslateType.CACHE;
     }
 
+    /**
+     * 只依赖字典键，同一字典的不同目标字段共享一次缓存访问。
+     */
+    @Override
+    public Object lookupKey(TranslateField meta) {
+        return meta.dictKey();
+    }
+
     @Override
     public Map<Object, Object> batchTranslate(Collection<Object> rawValues,
                                               TranslateField meta,
@@ -46,39 +127,14 @@ public class CacheDictTranslateHandler implements TranslateHandler {
             return Collections.emptyMap();
         }
 
-        if (cacheProvider == null) {
-            // 未配置缓存提供者，安全降级。
+        if (lookup == null) {
+            // 未配置任何层，安全降级。
             return Collections.emptyMap();
         }
 
-        Map<Object, Object> fromCache = safeGetBatch(dictKey, rawValues);
-        if (fromCache == null || fromCache.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        // 规范化结果，确保只返回请求的键。
-        Map<Object, Object> result = new HashMap<>();
-        for (Object rawValue : rawValues) {
-            if (rawValue == null) {
-                continue;
-            }
-            Object translated = fromCache.get(rawValue);
-            if (translated != null) {
-                result.put(rawValue, translated);
-            }
-        }
-        return result;
-    }
-
-    private Map<Object, Object> safeGetBatch(String dictKey, Collection<Object> rawValues) {
-        try {
-            // DictCacheProvider 负责选择 key 格式。
-            // CacheKeySpec 提供推荐规范以保持一致性。
-            return cacheProvider.getBatch(dictKey, rawValues);
-        } catch (RuntimeException ex) {
-            // 缓存未命中或异常不应影响主流程。
-            return Collections.emptyMap();
-        }
+        // 各层按规范化语义去重，并只返回请求的键
+        Map<Object, Object> result = lookup.lookup(rawValues, List.of(meta), context).get(meta);
+        return result == null ? Collections.emptyMap() : result;
     }
 
     /**
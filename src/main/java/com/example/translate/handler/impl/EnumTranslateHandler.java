@@ -5,6 +5,7 @@ import com.example.translate.annotation.TranslateType;
 import com.example.translate.context.TranslateContext;
 import com.example.translate.handler.TranslateHandler;
 import com.example.translate.spi.CodeEnum;
+import com.example.translate.support.NumericKeys;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -16,15 +17,36 @@ import java.util.Map;
  * <p>
  * 设计意图：使用 {@link TranslateField} 上声明的枚举元信息完成
  * code 到描述的映射，框架不绑定任何业务枚举实现。
+ * 每个枚举类首次使用（或预热）时建立一次索引，之后按哈希查找，不再逐个比较常量。
  * </p>
  */
 public class EnumTranslateHandler implements TranslateHandler {
 
+    private static final ClassValue<EnumIndex> INDEXES = new ClassValue<>() {
+        @Override
+        protected EnumIndex computeValue(Class<?> type) {
+            return new EnumIndex((Enum<?>[]) type.getEnumConstants());
+        }
+    };
+
     @Override
     public TranslateType type() {
         return TranslateType.ENUM;
     }
 
+    @Override
+    public Object lookupKey(TranslateField meta) {
+        return meta.enumClass();
+    }
+
+    @Override
+    public void warmUp(TranslateField meta) {
+        Class<? extends Enum<?>> enumClass = meta.enumClass();
+        if (enumClass != null && enumClass.isEnum()) {
+            INDEXES.get(enumClass);
+        }
+    }
+
     @Override
     public Map<Object, Object> batchTranslate(Collection<Object> rawValues,
                                               TranslateField meta,
@@ -34,22 +56,19 @@ public class EnumTranslateHandler implements TranslateHandler {
         }
 
         Class<? extends Enum<?>> enumClass = meta.enumClass();
-        if (enumClass == null || Enum.class.equals(enumClass)) {
+        if (enumClass == null || !enumClass.isEnum()) {
             // 未指定枚举类，安全降级。
             return Collections.emptyMap();
         }
 
         Map<Object, Object> result = new HashMap<>();
-        Enum<?>[] constants = enumClass.getEnumConstants();
-        if (constants == null || constants.length == 0) {
+        EnumIndex index = INDEXES.get(enumClass);
+        if (index.isEmpty()) {
             return result;
         }
 
-        for (Object rawValue : rawValues) {
-            if (rawValue == null) {
-                continue;
-            }
-            Object translated = resolveEnum(rawValue, constants);
+        for (Object rawValue : NumericKeys.distinct(rawValues)) {
+            Object translated = index.resolve(rawValue);
             if (translated != null) {
                 result.put(rawValue, translated);
             }
@@ -58,30 +77,46 @@ public class EnumTranslateHandler implements TranslateHandler {
         return result;
     }
 
-    private Object resolveEnum(Object rawValue, Enum<?>[] constants) {
-        for (Enum<?> constant : constants) {
-            // 优先使用 CodeEnum 约定的 code->desc 映射。
-            if (constant instanceof CodeEnum) {
-                Object code = ((CodeEnum<?>) constant).getCode();
-                if (rawValue.equals(code)) {
-                    return ((CodeEnum<?>) constant).getDesc();
+    /**
+     * 单个枚举类的查找索引，匹配规则与逐个比较常量一致：
+     * 实现 {@link CodeEnum} 的枚举按 code（数值按 long 语义）匹配描述，
+     * 其余枚举按名称（字符串）或序号（数值）匹配名称；重复 code 以先声明者为准。
+     */
+    private static final class EnumIndex {
+        private final Map<Object, Object> byCode = new HashMap<>();
+        private final Map<String, String> byName = new HashMap<>();
+        private final String[] byOrdinal;
+
+        EnumIndex(Enum<?>[] constants) {
+            Enum<?>[] values = constants == null ? new Enum<?>[0] : constants;
+            this.byOrdinal = new String[values.length];
+            for (Enum<?> constant : values) {
+                if (constant instanceof CodeEnum) {
+                    byCode.putIfAbsent(NumericKeys.normalize(((CodeEnum<?>) constant).getCode()),
+                            ((CodeEnum<?>) constant).getDesc());
+                    continue;
                 }
-                continue;
+                byName.put(constant.name(), constant.name());
+                byOrdinal[constant.ordinal()] = constant.name();
             }
+        }
 
-            // 兜底：按名称或序号字符串匹配。
+        boolean isEmpty() {
+            return byOrdinal.length == 0;
+        }
+
+        Object resolve(Object rawValue) {
+            if (!byCode.isEmpty()) {
+                return byCode.get(NumericKeys.normalize(rawValue));
+            }
             if (rawValue instanceof String) {
-                if (constant.name().equals(rawValue)) {
-                    return constant.name();
-                }
+                return byName.get(rawValue);
             }
             if (rawValue instanceof Number) {
                 int ordinal = ((Number) rawValue).intValue();
-                if (constant.ordinal() == ordinal) {
-                    return constant.name();
-                }
+                return ordinal >= 0 && ordinal < byOrdinal.length ? byOrdinal[ordinal] : null;
             }
+            return null;
         }
-        return null;
     }
 }
@@ -0,0 +1,182 @@
+package com.example.translate.handler.impl;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.spi.LookupTier;
+import com.example.translate.support.NormalizedKeyMap;
+import com.example.translate.support.NumericKeys;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 以数据库作为数据源层：同表同键列的多个值列在一条 IN 查询中一并取回。
+ * <p>
+ * 设计意图：单次查询的 key 数量由分层查询的层策略限制（{@code batchSize}），
+ * 标识符在拼接 SQL 前再次校验，拒绝不安全的注解值。
+ * 存在翻译截止时间时按剩余预算设置语句的查询超时，分层查询放弃等待后数据库也会终止查询。
+ * </p>
+ */
+public class JdbcLookupTier implements LookupTier {
+
+    public static final String NAME = "jdbc";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+
+    /**
+     * @param jdbcTemplate JdbcTemplate
+     * @throws IllegalArgumentException 参数为空时抛出
+     */
+    public JdbcLookupTier(JdbcTemplate jdbcTemplate) {
+        if (jdbcTemplate == null) {
+            throw new IllegalArgumentException("jdbcTemplate must not be null");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 设置指标实现，用于统计被吞掉的异常。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Map<TranslateField, Map<Object, Object>> lookup(Map<TranslateField, Collection<Object>> keys,
+                                                           TranslateContext context) {
+        Map<TranslateField, Map<Object, Object>> result = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        TranslateField first = keys.keySet().iterator().next();
+        String table = first.table();
+        String keyColumn = first.keyColumn();
+        List<String> valueColumns = new ArrayList<>();
+        List<Object> allKeys = new ArrayList<>();
+        for (Map.Entry<TranslateField, Collection<Object>> request : keys.entrySet()) {
+            TranslateField meta = request.getKey();
+            if (!TableTranslateHandler.isValidIdentifier(meta.table(), meta.keyColumn(), meta.valueColumn())
+                    || !table.equals(meta.table())
+                    || !keyColumn.equals(meta.keyColumn())) {
+                // 拒绝不安全的标识符或不同来源的声明，避免 SQL 注入与结果串用。
+                return result;
+            }
+            if (!valueColumns.contains(meta.valueColumn())) {
+                valueColumns.add(meta.valueColumn());
+            }
+            allKeys.addAll(request.getValue());
+        }
+        List<Object> uniqueKeys = NumericKeys.distinct(allKeys);
+        if (uniqueKeys.isEmpty()) {
+            return result;
+        }
+
+        // 每个 key 一条多列记录，列顺序与 valueColumns 一致。
+        NormalizedKeyMap<Object[]> rows = new NormalizedKeyMap<>(uniqueKeys.size());
+        safeQuery(table, keyColumn, valueColumns, uniqueKeys, rows, context);
+
+        // 按声明拆分为单列结果，以调用方传入的原值为键，屏蔽 JDBC 返回类型差异。
+        for (Map.Entry<TranslateField, Collection<Object>> request : keys.entrySet()) {
+            int index = valueColumns.indexOf(request.getKey().valueColumn());
+            Map<Object, Object> column = new HashMap<>();
+            for (Object raw : request.getValue()) {
+                Object[] row = rows.get(raw);
+                if (row != null && row[index] != null) {
+                    column.put(raw, row[index]);
+                }
+            }
+            result.put(request.getKey(), column);
+        }
+        return result;
+    }
+
+    private void safeQuery(String table,
+                           String keyColumn,
+                           List<String> valueColumns,
+                           List<Object> batch,
+                           NormalizedKeyMap<Object[]> rows,
+                           TranslateContext context) {
+        try {
+            String sql = buildSql(table, keyColumn, valueColumns, batch.size());
+            RowCallbackHandler handler = rs -> readRow(rs, keyColumn, valueColumns, rows);
+            int queryTimeout = queryTimeoutSeconds(context);
+            if (queryTimeout == 0) {
+                jdbcTemplate.query(sql, handler, batch.toArray());
+                return;
+            }
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql);
+                ps.setQueryTimeout(queryTimeout);
+                new ArgumentPreparedStatementSetter(batch.toArray()).setValues(ps);
+                return ps;
+            }, handler);
+        } catch (RuntimeException ex) {
+            // 查询失败不应影响主流程。
+            metrics.recordError("table.query", ex);
+        }
+    }
+
+    /**
+     * 剩余翻译预算向上取整到秒（JDBC 查询超时的精度）；没有截止时间时返回 0（不限制）。
+     */
+    private static int queryTimeoutSeconds(TranslateContext context) {
+        if (context == null || !context.hasDeadline()) {
+            return 0;
+        }
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(context.remainingNanos() + TimeUnit.SECONDS.toNanos(1) - 1);
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, seconds));
+    }
+
+    private String buildSql(String table, String keyColumn, List<String> valueColumns, int size) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("select ").append(keyColumn);
+        for (String valueColumn : valueColumns) {
+            sb.append(", ").append(valueColumn);
+        }
+        sb.append(" from ").append(table)
+                .append(" where ").append(keyColumn).append(" in (");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("?");
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+
+    private void readRow(ResultSet rs,
+                         String keyColumn,
+                         List<String> valueColumns,
+                         NormalizedKeyMap<Object[]> rows) throws SQLException {
+        Object key = rs.getObject(keyColumn);
+        if (key == null) {
+            return;
+        }
+        Object[] row = new Object[valueColumns.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = rs.getObject(valueColumns.get(i));
+        }
+        rows.put(key, row);
+    }
+}
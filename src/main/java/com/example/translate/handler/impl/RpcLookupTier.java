@@ -0,0 +1,85 @@
+package com.example.translate.handler.impl;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.spi.LookupTier;
+import com.example.translate.spi.RpcTranslateClient;
+import com.example.translate.support.NormalizedKeyMap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 以 {@link RpcTranslateClient} 作为数据源层，按声明的服务、方法与参数批量获取。
+ */
+public class RpcLookupTier implements LookupTier {
+
+    public static final String NAME = "rpc";
+
+    private final RpcTranslateClient client;
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+
+    /**
+     * @param client RPC 客户端
+     * @throws IllegalArgumentException 客户端为空时抛出
+     */
+    public RpcLookupTier(RpcTranslateClient client) {
+        if (client == null) {
+            throw new IllegalArgumentException("client must not be null");
+        }
+        this.client = client;
+    }
+
+    /**
+     * 设置指标实现，用于统计被吞掉的异常。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Map<TranslateField, Map<Object, Object>> lookup(Map<TranslateField, Collection<Object>> keys,
+                                                           TranslateContext context) {
+        Map<TranslateField, Map<Object, Object>> result = new LinkedHashMap<>();
+        for (Map.Entry<TranslateField, Collection<Object>> request : keys.entrySet()) {
+            TranslateField meta = request.getKey();
+            if (meta.rpcService() == null || meta.rpcService().isEmpty()) {
+                // 缺少路由信息，安全降级。
+                continue;
+            }
+            Map<Object, Object> fetched;
+            try {
+                // 客户端负责处理超时/重试并可返回部分结果。
+                fetched = client.batchFetch(meta.rpcService(), meta.rpcMethod(), request.getValue(), meta.param());
+            } catch (RuntimeException ex) {
+                // RPC 失败不应影响主流程。
+                metrics.recordError("rpc.fetch", ex);
+                continue;
+            }
+            if (fetched == null || fetched.isEmpty()) {
+                continue;
+            }
+            // 规范化结果，确保只返回请求的键，且不受远端返回的数值类型影响。
+            NormalizedKeyMap<Object> normalized = NormalizedKeyMap.of(fetched);
+            Map<Object, Object> column = new HashMap<>();
+            for (Object raw : request.getValue()) {
+                Object value = normalized.get(raw);
+                if (value != null) {
+                    column.put(raw, value);
+                }
+            }
+            result.put(meta, column);
+        }
+        return result;
+    }
+}
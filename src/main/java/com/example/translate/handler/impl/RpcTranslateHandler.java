@@ -4,11 +4,19 @@ import com.example.translate.annotation.TranslateField;
 import com.example.translate.annotation.TranslateType;
 import com.example.translate.context.TranslateContext;
 import com.example.translate.handler.TranslateHandler;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.spi.DictCacheProvider;
+import com.example.translate.spi.LookupTier;
 import com.example.translate.spi.RpcTranslateClient;
+import com.example.translate.support.DictCacheLookupTier;
+import com.example.translate.support.LocalLookupTier;
+import com.example.translate.support.RpcCacheKeySpec;
+import com.example.translate.support.TieredLookup;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,13 +25,78 @@ import java.util.Map;
  * 设计意图：将真实的 RPC 调用委托给 {@link RpcTranslateClient}，
  * 使框架与 Feign/Dubbo 等实现保持解耦。
  * </p>
+ * <p>
+ * 可在远程调用前叠加本地缓存与 {@link DictCacheProvider} 两层（见 {@link TieredLookup}），
+ * 远程查到的值回填前面的缓存层。
+ * </p>
  */
 public class RpcTranslateHandler implements TranslateHandler {
 
-    private final RpcTranslateClient client;
+    private final DictCacheLookupTier cacheTier;
+    private final RpcLookupTier rpcTier;
+    private final TieredLookup lookup;
 
     public RpcTranslateHandler(RpcTranslateClient client) {
-        this.client = client;
+        this(client, null, null);
+    }
+
+    /**
+     * @param client RPC 客户端；为空时只使用缓存层
+     * @param cacheProvider 共享缓存层，命名空间见 {@link RpcCacheKeySpec}；为空时跳过
+     * @param localTier 本地缓存层，命名空间应使用 {@link #cacheNamespace(TranslateField)}；为空时跳过
+     */
+    public RpcTranslateHandler(RpcTranslateClient client, DictCacheProvider cacheProvider, LocalLookupTier localTier) {
+        this.cacheTier = cacheProvider == null
+                ? null
+                : new DictCacheLookupTier(cacheProvider, RpcTranslateHandler::cacheNamespace, "rpc.cache");
+        this.rpcTier = client == null ? null : new RpcLookupTier(client);
+        List<LookupTier> tiers = new ArrayList<>();
+        if (localTier != null) {
+            tiers.add(localTier);
+        }
+        if (cacheTier != null) {
+            tiers.add(cacheTier);
+        }
+        if (rpcTier != null) {
+            tiers.add(rpcTier);
+        }
+        this.lookup = tiers.isEmpty() ? null : new TieredLookup(tiers);
+    }
+
+    /**
+     * RPC 结果在缓存层中的命名空间，见 {@link RpcCacheKeySpec}。
+     *
+     * @param meta 注解元信息
+     * @return 命名空间
+     */
+    public static String cacheNamespace(TranslateField meta) {
+        return RpcCacheKeySpec.namespace(meta.rpcService(), meta.rpcMethod(), meta.param());
+    }
+
+    /**
+     * 分层查询，可按层名称（{@code local}、{@code cache}、{@code rpc}）设置超时与批量大小。
+     *
+     * @return 分层查询；没有任何层时返回 {@code null}
+     */
+    public TieredLookup getTieredLookup() {
+        return lookup;
+    }
+
+    /**
+     * 设置指标实现，用于统计被吞掉的异常。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        if (lookup != null) {
+            lookup.setMetrics(metrics);
+        }
+        if (cacheTier != null) {
+            cacheTier.setMetrics(metrics);
+        }
+        if (rpcTier != null) {
+            rpcTier.setMetrics(metrics);
+        }
     }
 
     @Override
@@ -31,6 +104,11 @@ public class RpcTranslateHandler implements TranslateHandler {
         return TranslateType.RPC;
     }
 
+    @Override
+    public Object lookupKey(TranslateField meta) {
+        return List.of(meta.rpcService(), meta.rpcMethod(), meta.param());
+    }
+
     @Override
     public Map<Object, Object> batchTranslate(Collection<Object> rawValues,
                                               TranslateField meta,
@@ -38,48 +116,18 @@ public class RpcTranslateHandler implements TranslateHandler {
         if (rawValues == null || rawValues.isEmpty()) {
             return Collections.emptyMap();
         }
-        if (client == null) {
+        if (lookup == null) {
             // 未配置客户端，安全降级。
             return Collections.emptyMap();
         }
-
         String service = meta.rpcService();
-        String method = meta.rpcMethod();
-        String param = meta.param();
         if (service == null || service.isEmpty()) {
             // 缺少路由信息，安全降级。
             return Collections.emptyMap();
         }
 
-        Map<Object, Object> fetched = safeFetch(service, method, rawValues, param);
-        if (fetched == null || fetched.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        // 规范化结果，确保只返回请求的键。
-        Map<Object, Object> result = new HashMap<>();
-        for (Object rawValue : rawValues) {
-            if (rawValue == null) {
-                continue;
-            }
-            Object translated = fetched.get(rawValue);
-            if (translated != null) {
-                result.put(rawValue, translated);
-            }
-        }
-        return result;
-    }
-
-    private Map<Object, Object> safeFetch(String service,
-                                          String method,
-                                          Collection<Object> rawValues,
-                                          String param) {
-        try {
-            // 客户端负责处理超时/重试并可返回部分结果。
-            return client.batchFetch(service, method, rawValues, param);
-        } catch (RuntimeException ex) {
-            // RPC 失败不应影响主流程。
-            return Collections.emptyMap();
-        }
+        // 各层按规范化语义去重，避免重复 id 放大请求体，并只返回请求的键
+        Map<Object, Object> result = lookup.lookup(rawValues, List.of(meta), context).get(meta);
+        return result == null ? Collections.emptyMap() : result;
     }
 }
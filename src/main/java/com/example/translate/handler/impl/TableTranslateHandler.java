@@ -3,21 +3,34 @@ package com.example.translate.handler.impl;
 import com.example.translate.annotation.TranslateField;
 import com.example.translate.annotation.TranslateType;
 import com.example.translate.context.TranslateContext;
-import com.example.translate.handler.TranslateHandler;
+import com.example.translate.handler.MultiColumnTranslateHandler;
+import com.example.translate.metrics.TranslateMetrics;
 import com.example.translate.spi.DictCacheProvider;
+import com.example.translate.spi.LookupTier;
+import com.example.translate.spi.TierPolicy;
+import com.example.translate.support.DictCacheLookupTier;
+import com.example.translate.support.LocalLookupTier;
+import com.example.translate.support.NormalizedKeyMap;
+import com.example.translate.support.NumericKeys;
 import com.example.translate.support.TableCacheKeySpec;
+import com.example.translate.support.TableSnapshot;
+import com.example.translate.support.TableSnapshotSpec;
+import com.example.translate.support.TieredLookup;
+import com.example.translate.support.WarmStartStore;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
-import java.sql.ResultSet;
+import java.sql.PreparedStatement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 /**
@@ -25,9 +38,14 @@ import java.util.regex.Pattern;
  * <p>
  * 设计意图：在不强制业务 SQL 使用 JOIN 或 ORM 映射的前提下，
  * 翻译类似外键的值。处理器批量查询以避免 N+1，并在异常时安全降级。
+ * 同表同键列的多个值列会被合并为一次查询；小型参考表可开启快照模式全量驻留内存。
+ * </p>
+ * <p>
+ * 非快照表按"本地缓存 → {@link DictCacheProvider} → 数据库"的分层查询取值（见 {@link TieredLookup}），
+ * 数据库查到的值回填前面的缓存层。
  * </p>
  */
-public class TableTranslateHandler implements TranslateHandler {
+public class TableTranslateHandler implements MultiColumnTranslateHandler {
 
     private static final Pattern IDENTIFIER = Pattern.compile("^[A-Za-z_][A-Za-z0-9_]*$");
     private static final Pattern TABLE_NAME = Pattern.compile("^[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)*$");
@@ -35,11 +53,131 @@ public class TableTranslateHandler implements TranslateHandler {
     private static final int DEFAULT_BATCH_SIZE = 500;
 
     private final JdbcTemplate jdbcTemplate;
-    private final DictCacheProvider cacheProvider;
+    private final DictCacheLookupTier cacheTier;
+    private final JdbcLookupTier jdbcTier;
+    private final TieredLookup lookup;
+
+    // 快照模式的表：table:keyColumn -> 快照持有者
+    private final Map<String, SnapshotHolder> snapshots = new ConcurrentHashMap<>();
+
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+
+    // 快照内容变化后的回调，如清空对象级翻译记忆
+    private volatile Runnable refreshListener;
+
+    // 跨重启保留快照的本地存储，null 表示不保留
+    private volatile WarmStartStore warmStartStore;
 
     public TableTranslateHandler(JdbcTemplate jdbcTemplate, DictCacheProvider cacheProvider) {
+        this(jdbcTemplate, cacheProvider, null);
+    }
+
+    /**
+     * @param jdbcTemplate 数据库访问；为空时只使用缓存层
+     * @param cacheProvider 共享缓存层；为空时跳过
+     * @param localTier 本地缓存层，命名空间应使用 {@link #cacheNamespace(TranslateField)}；为空时跳过
+     */
+    public TableTranslateHandler(JdbcTemplate jdbcTemplate, DictCacheProvider cacheProvider, LocalLookupTier localTier) {
         this.jdbcTemplate = jdbcTemplate;
-        this.cacheProvider = cacheProvider;
+        this.cacheTier = cacheProvider == null
+                ? null
+                : new DictCacheLookupTier(cacheProvider, TableTranslateHandler::cacheNamespace, "table.cache");
+        this.jdbcTier = jdbcTemplate == null ? null : new JdbcLookupTier(jdbcTemplate);
+        List<LookupTier> tiers = new ArrayList<>();
+        Collections.addAll(tiers, localTier, cacheTier, jdbcTier);
+        tiers.removeIf(Objects::isNull);
+        this.lookup = tiers.isEmpty() ? null : new TieredLookup(tiers);
+        if (jdbcTier != null) {
+            setBatchSize(DEFAULT_BATCH_SIZE);
+        }
+    }
+
+    /**
+     * 表翻译在缓存层中的命名空间，见 {@link TableCacheKeySpec}。
+     *
+     * @param meta 注解元信息
+     * @return 命名空间
+     */
+    public static String cacheNamespace(TranslateField meta) {
+        return TableCacheKeySpec.namespace(meta.table(), meta.keyColumn(), meta.valueColumn());
+    }
+
+    /**
+     * 分层查询，可按层名称（{@code local}、{@code cache}、{@code jdbc}）设置超时与批量大小。
+     *
+     * @return 分层查询；没有任何层时返回 {@code null}
+     */
+    public TieredLookup getTieredLookup() {
+        return lookup;
+    }
+
+    /**
+     * 设置指标实现，用于统计被吞掉的异常。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+        if (lookup != null) {
+            lookup.setMetrics(metrics);
+        }
+        if (cacheTier != null) {
+            cacheTier.setMetrics(metrics);
+        }
+        if (jdbcTier != null) {
+            jdbcTier.setMetrics(metrics);
+        }
+    }
+
+    /**
+     * 设置单条 IN 查询的最大 key 数量。
+     * <p>
+     * 设计意图：过长的 IN 列表会拖慢解析并触及数据库参数上限，超出部分拆分为多次查询。
+     * 即数据库层策略的 {@code batchSize}，保留该层已配置的超时。
+     * </p>
+     *
+     * @param batchSize 每批 key 数量，需为正数
+     * @throws IllegalArgumentException 不为正数时抛出
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (jdbcTier == null) {
+            return;
+        }
+        TierPolicy current = lookup.getPolicy(JdbcLookupTier.NAME);
+        TierPolicy policy = new TierPolicy();
+        policy.setTimeout(current == null ? null : current.getTimeout());
+        policy.setBatchSize(batchSize);
+        lookup.setPolicy(JdbcLookupTier.NAME, policy);
+    }
+
+    /**
+     * 设置快照刷新回调。
+     * <p>
+     * 设计意图：快照重载或增量合并出新数据后通知上层失效派生结果，
+     * 如 {@code handler.setRefreshListener(memo::invalidate)}。首次加载不触发回调。
+     * </p>
+     *
+     * @param refreshListener 回调；为空时不通知
+     */
+    public void setRefreshListener(Runnable refreshListener) {
+        this.refreshListener = refreshListener;
+    }
+
+    /**
+     * 设置跨重启保留快照的本地存储。
+     * <p>
+     * 设计意图：启动时直接使用上次保存的快照，首次访问时按版本配置校验：
+     * 版本查询一致则无需加载，配置版本列时只拉取增量，均未配置时全量重载一次；
+     * 校验期间其余线程读取保存的快照，避免大批实例同时全量加载参考表。
+     * </p>
+     *
+     * @param warmStartStore 本地存储；为空时不保留
+     */
+    public void setWarmStartStore(WarmStartStore warmStartStore) {
+        this.warmStartStore = warmStartStore;
     }
 
     @Override
@@ -47,122 +185,175 @@ public class TableTranslateHandler implements TranslateHandler {
         return TranslateType.TABLE;
     }
 
+    @Override
+    public Object lookupKey(TranslateField meta) {
+        return List.of(meta.table(), meta.keyColumn(), meta.valueColumn());
+    }
+
+    /**
+     * 为指定表开启快照模式。
+     * <p>
+     * 设计意图：小而稳定的参考表全量驻留内存，命中快照的声明不再查缓存或数据库。
+     * 快照在首次访问时加载（或由 {@link #preloadSnapshots()} 提前加载），之后按配置间隔检测变更；
+     * 加载失败或尚未加载完成时自动回退到 IN 查询。
+     * </p>
+     *
+     * @param spec 快照配置
+     * @throws IllegalArgumentException 表名或列名不合法时抛出
+     */
+    public void enableSnapshot(TableSnapshotSpec spec) {
+        if (spec == null || spec.getValueColumns().isEmpty()) {
+            throw new IllegalArgumentException("Snapshot spec requires at least one value column");
+        }
+        for (String valueColumn : spec.getValueColumns()) {
+            if (!isValidIdentifier(spec.getTable(), spec.getKeyColumn(), valueColumn)) {
+                throw new IllegalArgumentException("Invalid snapshot identifier: " + spec.getTable() + "." + valueColumn);
+            }
+        }
+        String versionColumn = spec.getVersionColumn();
+        if (versionColumn != null && !versionColumn.isEmpty() && !IDENTIFIER.matcher(versionColumn).matches()) {
+            throw new IllegalArgumentException("Invalid snapshot version column: " + versionColumn);
+        }
+        snapshots.put(sourceKey(spec.getTable(), spec.getKeyColumn()), new SnapshotHolder(spec));
+    }
+
+    /**
+     * 加载尚未加载的快照。
+     * <p>
+     * 设计意图：首次全量加载可能耗时数秒，应在启动阶段或后台线程调用，避免落在请求线程上；
+     * 加载期间访问的请求不等待，照常走 IN 查询。加载失败以 {@code table.snapshot} 阶段统计，
+     * 之后按刷新间隔由访问线程重试。
+     * </p>
+     */
+    public void preloadSnapshots() {
+        for (SnapshotHolder holder : snapshots.values()) {
+            holder.preload();
+        }
+    }
+
     @Override
     public Map<Object, Object> batchTranslate(Collection<Object> rawValues,
                                               TranslateField meta,
                                               TranslateContext context) {
-        if (rawValues == null || rawValues.isEmpty()) {
-            return Collections.emptyMap();
+        Map<Object, Object> result = batchTranslateColumns(rawValues, Collections.singletonList(meta), context).get(meta);
+        return result == null ? Collections.emptyMap() : result;
+    }
+
+    @Override
+    public Object columnGroupKey(TranslateField meta) {
+        if (!isValidIdentifier(meta.table(), meta.keyColumn(), meta.valueColumn())) {
+            return null;
         }
+        // 同表同键列即可合并，值列在一次查询中一并取回。
+        return sourceKey(meta.table(), meta.keyColumn());
+    }
 
-        String table = meta.table();
-        String keyColumn = meta.keyColumn();
-        String valueColumn = meta.valueColumn();
-        if (!isValidIdentifier(table, keyColumn, valueColumn)) {
-            // 拒绝不安全的标识符，避免 SQL 注入风险。
+    @Override
+    public Map<TranslateField, Map<Object, Object>> batchTranslateColumns(Collection<Object> rawValues,
+                                                                          List<TranslateField> metas,
+                                                                          TranslateContext context) {
+        if (rawValues == null || rawValues.isEmpty() || metas == null || metas.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        Set<Object> uniqueValues = new HashSet<>();
-        for (Object rawValue : rawValues) {
-            if (rawValue != null) {
-                uniqueValues.add(rawValue);
+        TranslateField first = metas.get(0);
+        String table = first.table();
+        String keyColumn = first.keyColumn();
+        List<String> valueColumns = new ArrayList<>();
+        for (TranslateField meta : metas) {
+            if (!isValidIdentifier(meta.table(), meta.keyColumn(), meta.valueColumn())
+                    || !table.equals(meta.table())
+                    || !keyColumn.equals(meta.keyColumn())) {
+                // 拒绝不安全的标识符或不同来源的声明，避免 SQL 注入与结果串用。
+                return Collections.emptyMap();
+            }
+            if (!valueColumns.contains(meta.valueColumn())) {
+                valueColumns.add(meta.valueColumn());
             }
         }
+
+        // 按规范化语义去重：Integer/Long/BigDecimal 表示的同一 id 只查询一次
+        List<Object> uniqueValues = NumericKeys.distinct(rawValues);
         if (uniqueValues.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        // 步骤 1：先查缓存以减少数据库访问。
-        Map<Object, Object> result = new HashMap<>();
-        Set<Object> pending = new HashSet<>(uniqueValues);
-        if (cacheProvider != null) {
-            String namespace = TableCacheKeySpec.namespace(table, keyColumn, valueColumn);
-            Map<Object, Object> cached = safeCacheBatch(namespace, pending);
-            if (cached != null && !cached.isEmpty()) {
-                result.putAll(cached);
-                pending.removeAll(cached.keySet());
-            }
+        // 快照模式：全部从内存读取，快照中不存在的 key 即视为无翻译。
+        NormalizedKeyMap<Object[]> snapshotRows = readSnapshot(table, keyColumn, valueColumns, uniqueValues);
+        if (snapshotRows != null) {
+            return splitByMeta(metas, valueColumns, uniqueValues, snapshotRows);
         }
 
-        // 步骤 2：若仍有缓存未命中，则分批查询数据库。
-        if (!pending.isEmpty() && jdbcTemplate != null) {
-            List<Object> pendingList = new ArrayList<>(pending);
-            for (int i = 0; i < pendingList.size(); i += DEFAULT_BATCH_SIZE) {
-                int end = Math.min(i + DEFAULT_BATCH_SIZE, pendingList.size());
-                List<Object> batch = pendingList.subList(i, end);
-                Map<Object, Object> dbResult = safeQuery(table, keyColumn, valueColumn, batch);
-                if (dbResult != null && !dbResult.isEmpty()) {
-                    result.putAll(dbResult);
+        if (lookup == null) {
+            return Collections.emptyMap();
+        }
+        // 逐层查询：任一列未命中的 key 才交给下一层，数据库层按批一次取回全部缺失列。
+        return lookup.lookup(uniqueValues, metas, context);
+    }
+
+    private Map<TranslateField, Map<Object, Object>> splitByMeta(List<TranslateField> metas,
+                                                                 List<String> valueColumns,
+                                                                 List<Object> keys,
+                                                                 NormalizedKeyMap<Object[]> rows) {
+        Map<TranslateField, Map<Object, Object>> result = new HashMap<>();
+        for (TranslateField meta : metas) {
+            int index = valueColumns.indexOf(meta.valueColumn());
+            Map<Object, Object> columnResult = new HashMap<>();
+            for (Object key : keys) {
+                // 结果以调用方传入的原值为键，屏蔽 JDBC 返回类型差异
+                Object[] row = rows.get(key);
+                if (row != null && row[index] != null) {
+                    columnResult.put(key, row[index]);
                 }
             }
+            result.put(meta, columnResult);
         }
-
         return result;
     }
 
-    private Map<Object, Object> safeCacheBatch(String namespace, Collection<Object> codes) {
-        try {
-            // 缓存提供者选择存储后端；未命中不应抛异常。
-            return cacheProvider.getBatch(namespace, codes);
-        } catch (RuntimeException ex) {
-            return Collections.emptyMap();
+    private NormalizedKeyMap<Object[]> readSnapshot(String table,
+                                                    String keyColumn,
+                                                    List<String> valueColumns,
+                                                    List<Object> keys) {
+        if (snapshots.isEmpty() || jdbcTemplate == null) {
+            return null;
         }
-    }
-
-    private Map<Object, Object> safeQuery(String table,
-                                          String keyColumn,
-                                          String valueColumn,
-                                          List<Object> batch) {
-        try {
-            String sql = buildSql(table, keyColumn, valueColumn, batch.size());
-
-            return jdbcTemplate.query(
-                    sql,
-                    batch.toArray(),
-                    (ResultSetExtractor<Map<Object, Object>>) rs ->
-                    {
-                        try {
-                            return readResult(rs, keyColumn, valueColumn);
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-            );
-        } catch (RuntimeException ex) {
-            // 查询失败不应影响主流程。
-            return Collections.emptyMap();
+        SnapshotHolder holder = snapshots.get(sourceKey(table, keyColumn));
+        if (holder == null) {
+            return null;
         }
-    }
-
-    private String buildSql(String table, String keyColumn, String valueColumn, int size) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("select ").append(keyColumn).append(", ").append(valueColumn)
-                .append(" from ").append(table)
-                .append(" where ").append(keyColumn).append(" in (");
-        for (int i = 0; i < size; i++) {
-            if (i > 0) {
-                sb.append(", ");
+        int[] indexes = new int[valueColumns.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = holder.spec.getValueColumns().indexOf(valueColumns.get(i));
+            if (indexes[i] < 0) {
+                // 声明的值列不在快照中，走常规查询
+                return null;
             }
-            sb.append("?");
         }
-        sb.append(")");
-        return sb.toString();
-    }
-
-    private Map<Object, Object> readResult(ResultSet rs, String keyColumn, String valueColumn) throws Exception {
-        Map<Object, Object> map = new HashMap<>();
-        while (rs.next()) {
-            Object key = rs.getObject(keyColumn);
-            Object value = rs.getObject(valueColumn);
-            if (key != null) {
-                map.put(key, value);
+        TableSnapshot snapshot = holder.get();
+        if (snapshot == null) {
+            // 尚未加载成功，走常规查询
+            return null;
+        }
+        NormalizedKeyMap<Object[]> rows = new NormalizedKeyMap<>(keys.size());
+        for (Object key : keys) {
+            if (!snapshot.containsKey(key)) {
+                continue;
             }
+            Object[] row = new Object[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                row[i] = snapshot.get(key, indexes[i]);
+            }
+            rows.put(key, row);
         }
-        return map;
+        return rows;
+    }
+
+    private static String sourceKey(String table, String keyColumn) {
+        return table + ":" + keyColumn;
     }
 
-    private boolean isValidIdentifier(String table, String keyColumn, String valueColumn) {
+    static boolean isValidIdentifier(String table, String keyColumn, String valueColumn) {
         if (table == null || keyColumn == null || valueColumn == null) {
             return false;
         }
@@ -174,4 +365,226 @@ public class TableTranslateHandler implements TranslateHandler {
                 && IDENTIFIER.matcher(keyColumn).matches()
                 && IDENTIFIER.matcher(valueColumn).matches();
     }
+
+    /**
+     * 单表快照的加载与刷新。
+     * <p>
+     * 设计意图：由访问线程按间隔惰性检测变更，同一时刻只有一个线程刷新，
+     * 其余线程继续读取旧快照；刷新失败保留旧快照，不影响主流程。
+     * </p>
+     */
+    private final class SnapshotHolder {
+        private final TableSnapshotSpec spec;
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private volatile TableSnapshot snapshot;
+        private volatile long nextCheckNanos = System.nanoTime();
+        private volatile long nextFullReloadNanos = System.nanoTime();
+        private volatile Object versionToken;
+        // 由本地存储恢复、尚未按版本校验的快照
+        private boolean restored;
+
+        SnapshotHolder(TableSnapshotSpec spec) {
+            this.spec = spec;
+        }
+
+        TableSnapshot get() {
+            long now = System.nanoTime();
+            if (now - nextCheckNanos >= 0 && refreshLock.tryLock()) {
+                try {
+                    if (now - nextCheckNanos >= 0) {
+                        refresh(now);
+                    }
+                } finally {
+                    refreshLock.unlock();
+                }
+            }
+            return snapshot;
+        }
+
+        void preload() {
+            refreshLock.lock();
+            try {
+                if (snapshot == null) {
+                    refresh(System.nanoTime());
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        private void refresh(long now) {
+            try {
+                if (snapshot == null) {
+                    restore();
+                }
+                TableSnapshot current = snapshot;
+                Duration fullReload = spec.getFullReloadInterval();
+                boolean fullReloadDue = fullReload != null && now - nextFullReloadNanos >= 0;
+                boolean unversioned = !hasText(spec.getVersionQuery()) && !hasText(spec.getVersionColumn());
+                if (current == null || fullReloadDue || (restored && unversioned)) {
+                    fullLoad(now);
+                } else if (hasText(spec.getVersionQuery())) {
+                    Object token = jdbcTemplate.queryForObject(spec.getVersionQuery(), Object.class);
+                    if (!Objects.equals(token, versionToken)) {
+                        fullLoad(now);
+                    }
+                } else if (hasText(spec.getVersionColumn()) && current.getVersion() == null) {
+                    // 尚无版本基线（如空表），只能全量重载
+                    fullLoad(now);
+                } else if (hasText(spec.getVersionColumn())) {
+                    Object[] maxVersion = {current.getVersion()};
+                    Map<Object, Object[]> delta = load(current.getVersion(), maxVersion);
+                    // 按 >= 重读上次最大版本的行，值未变化的行不算变更
+                    delta.entrySet().removeIf(entry -> unchanged(current, entry.getKey(), entry.getValue()));
+                    if (!delta.isEmpty()) {
+                        snapshot = current.merge(delta, maxVersion[0]);
+                        notifyRefreshed();
+                    } else if (!Objects.equals(maxVersion[0], current.getVersion())) {
+                        snapshot = current.merge(delta, maxVersion[0]);
+                    }
+                }
+                restored = false;
+                record();
+            } catch (RuntimeException ex) {
+                // 刷新失败保留旧快照，等待下个周期
+                metrics.recordError("table.snapshot", ex);
+            } finally {
+                nextCheckNanos = System.nanoTime() + spec.getRefreshInterval().toNanos();
+            }
+        }
+
+        /**
+         * 取回本地存储中的快照；校验由本次刷新随后完成，失败时继续使用恢复的快照。
+         */
+        private void restore() {
+            WarmStartStore store = warmStartStore;
+            WarmStartStore.SnapshotRecord record = store == null
+                    ? null
+                    : store.takeSnapshot(sourceKey(spec.getTable(), spec.getKeyColumn()), spec.getValueColumns());
+            if (record != null) {
+                snapshot = record.getSnapshot();
+                versionToken = record.getVersionToken();
+                restored = true;
+                // 恢复的快照按版本增量校验，定期全量重载从恢复时起算
+                Duration fullReload = spec.getFullReloadInterval();
+                if (fullReload != null) {
+                    nextFullReloadNanos = System.nanoTime() + fullReload.toNanos();
+                }
+            }
+        }
+
+        private void record() {
+            WarmStartStore store = warmStartStore;
+            TableSnapshot current = snapshot;
+            if (store != null && current != null) {
+                store.putSnapshot(sourceKey(spec.getTable(), spec.getKeyColumn()), spec.getValueColumns(),
+                        current, versionToken);
+            }
+        }
+
+        private void fullLoad(long now) {
+            // 先记录版本号再加载：加载期间的变更会在下个周期再次触发重载
+            Object token = hasText(spec.getVersionQuery())
+                    ? jdbcTemplate.queryForObject(spec.getVersionQuery(), Object.class)
+                    : null;
+            Object[] maxVersion = {null};
+            Map<Object, Object[]> rows = load(null, maxVersion);
+            boolean initialLoad = snapshot == null;
+            snapshot = TableSnapshot.of(rows, spec.getValueColumns().size(), maxVersion[0]);
+            versionToken = token;
+            if (!initialLoad) {
+                notifyRefreshed();
+            }
+            Duration fullReload = spec.getFullReloadInterval();
+            if (fullReload != null) {
+                nextFullReloadNanos = now + fullReload.toNanos();
+            }
+        }
+
+        private void notifyRefreshed() {
+            Runnable listener = refreshListener;
+            if (listener == null) {
+                return;
+            }
+            try {
+                listener.run();
+            } catch (RuntimeException ex) {
+                // 回调失败不影响快照本身
+                metrics.recordError("table.snapshot", ex);
+            }
+        }
+
+        private Map<Object, Object[]> load(Object sinceVersion, Object[] maxVersion) {
+            List<String> valueColumns = spec.getValueColumns();
+            String versionColumn = hasText(spec.getVersionColumn()) ? spec.getVersionColumn() : null;
+            StringBuilder sql = new StringBuilder();
+            sql.append("select ").append(spec.getKeyColumn());
+            for (String valueColumn : valueColumns) {
+                sql.append(", ").append(valueColumn);
+            }
+            if (versionColumn != null) {
+                sql.append(", ").append(versionColumn);
+            }
+            sql.append(" from ").append(spec.getTable());
+            if (sinceVersion != null) {
+                // 含等于：与上次最大值同一时间戳、但在上次加载之后提交的行不会遗漏
+                sql.append(" where ").append(versionColumn).append(" >= ?");
+            }
+
+            Map<Object, Object[]> rows = new HashMap<>();
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString());
+                // 流式读取，避免驱动一次性缓冲整表
+                ps.setFetchSize(spec.getFetchSize());
+                if (sinceVersion != null) {
+                    ps.setObject(1, sinceVersion);
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                Object key = rs.getObject(spec.getKeyColumn());
+                if (key == null) {
+                    return;
+                }
+                Object[] row = new Object[valueColumns.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = rs.getObject(valueColumns.get(i));
+                }
+                rows.put(NumericKeys.normalize(key), row);
+                if (versionColumn != null) {
+                    maxVersion[0] = maxVersion(maxVersion[0], rs.getObject(versionColumn));
+                }
+            });
+            return rows;
+        }
+    }
+
+    private static boolean unchanged(TableSnapshot snapshot, Object key, Object[] row) {
+        if (!snapshot.containsKey(key)) {
+            return false;
+        }
+        for (int i = 0; i < row.length; i++) {
+            if (!Objects.equals(snapshot.get(key, i), row[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object maxVersion(Object current, Object candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        if (current == null) {
+            return candidate;
+        }
+        if (current instanceof Comparable && current.getClass().isInstance(candidate)) {
+            return ((Comparable) current).compareTo(candidate) >= 0 ? current : candidate;
+        }
+        return current;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
 }
@@ -0,0 +1,131 @@
+package com.example.translate.metrics;
+
+import com.example.translate.annotation.TranslateType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 基于 Micrometer 的翻译指标实现。
+ * <p>
+ * 设计意图：按处理器输出批次耗时直方图、批次大小、请求/命中 key 数，
+ * 并按类型统计 fallback 与被吞异常；若提供 {@link ObservationRegistry}，
+ * 每个处理器批次会生成一个 Observation，可经 micrometer-tracing 桥接为 OpenTelemetry span。
+ * </p>
+ */
+public class MicrometerTranslateMetrics implements TranslateMetrics {
+
+    private final MeterRegistry registry;
+    private final ObservationRegistry observationRegistry;
+
+    // 按处理器缓存仪表，避免热路径上重复构建 tag
+    private final Map<String, BatchMeters> batchMeters = new ConcurrentHashMap<>();
+    private final Map<TranslateType, Counter> fallbackCounters = new ConcurrentHashMap<>();
+    private final Timer traversalTimer;
+    private final DistributionSummary traversalObjects;
+
+    public MicrometerTranslateMetrics(MeterRegistry registry) {
+        this(registry, ObservationRegistry.NOOP);
+    }
+
+    public MicrometerTranslateMetrics(MeterRegistry registry, ObservationRegistry observationRegistry) {
+        this.registry = registry;
+        this.observationRegistry = observationRegistry == null ? ObservationRegistry.NOOP : observationRegistry;
+        this.traversalTimer = Timer.builder("translate.traversal")
+                .description("Time spent translating one response body")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.traversalObjects = DistributionSummary.builder("translate.traversal.objects")
+                .description("Objects visited per response body")
+                .register(registry);
+    }
+
+    @Override
+    public void recordBatch(String handler, int requested, int resolved, long nanos) {
+        BatchMeters meters = batchMeters.computeIfAbsent(handler, this::createBatchMeters);
+        meters.latency.record(nanos, TimeUnit.NANOSECONDS);
+        meters.size.record(requested);
+        meters.requested.increment(requested);
+        meters.resolved.increment(resolved);
+    }
+
+    @Override
+    public void recordFallback(TranslateType type) {
+        fallbackCounters.computeIfAbsent(type, key -> Counter.builder("translate.fallback")
+                        .description("Target fields written with the fallback or raw value")
+                        .tag("type", key.name())
+                        .register(registry))
+                .increment();
+    }
+
+    @Override
+    public void recordError(String stage, Throwable ex) {
+        // 异常类型的基数有限，直接按需注册
+        Counter.builder("translate.errors")
+                .description("Exceptions swallowed to protect the response")
+                .tag("stage", stage)
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+    }
+
+    @Override
+    public void recordTraversal(long nanos, int objectsVisited) {
+        traversalTimer.record(nanos, TimeUnit.NANOSECONDS);
+        traversalObjects.record(objectsVisited);
+    }
+
+    @Override
+    public <T> T observeBatch(String handler, Supplier<T> batch) {
+        if (observationRegistry.isNoop()) {
+            return batch.get();
+        }
+        // 与手工注册的 translate.batch 计时器区分名称：DefaultMeterObservationHandler 会按观测名再注册一个计时器，
+        // 同名但 tag 集合不同的两个序列在 Prometheus 中只保留其一
+        return Observation.createNotStarted("translate.batch.observation", observationRegistry)
+                .contextualName("translate " + handler)
+                .lowCardinalityKeyValue("handler", handler)
+                .observe(batch);
+    }
+
+    private BatchMeters createBatchMeters(String handler) {
+        return new BatchMeters(
+                Timer.builder("translate.batch")
+                        .description("Handler batch latency")
+                        .tag("handler", handler)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("translate.batch.size")
+                        .description("Keys per handler batch")
+                        .tag("handler", handler)
+                        .register(registry),
+                Counter.builder("translate.keys.requested")
+                        .tag("handler", handler)
+                        .register(registry),
+                Counter.builder("translate.keys.resolved")
+                        .tag("handler", handler)
+                        .register(registry));
+    }
+
+    private static final class BatchMeters {
+        private final Timer latency;
+        private final DistributionSummary size;
+        private final Counter requested;
+        private final Counter resolved;
+
+        BatchMeters(Timer latency, DistributionSummary size, Counter requested, Counter resolved) {
+            this.latency = latency;
+            this.size = size;
+            this.requested = requested;
+            this.resolved = resolved;
+        }
+    }
+}
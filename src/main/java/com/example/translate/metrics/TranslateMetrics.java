@@ -0,0 +1,74 @@
+package com.example.translate.metrics;
+
+import com.example.translate.annotation.TranslateType;
+
+import java.util.function.Supplier;
+
+/**
+ * 翻译过程的指标与链路埋点 SPI。
+ * <p>
+ * 设计意图：框架在各阶段吞掉异常以保护主流程，
+ * 通过该接口把耗时、命中率、降级与被吞异常暴露出来，便于调优缓存与定位慢接口。
+ * 默认实现为空操作，不引入任何监控依赖。
+ * </p>
+ */
+public interface TranslateMetrics {
+
+    /**
+     * 空实现：未接入监控时使用。
+     */
+    TranslateMetrics NOOP = new TranslateMetrics() {
+    };
+
+    /**
+     * 记录一次处理器批量调用；全部由请求级记忆提供、未访问处理器时不记录。
+     *
+     * @param handler 处理器标识
+     * @param requested 本次查询的不同 key 数量
+     * @param resolved 查到翻译值的 key 数量
+     * @param nanos 耗时（纳秒）
+     */
+    default void recordBatch(String handler, int requested, int resolved, long nanos) {
+    }
+
+    /**
+     * 记录一次使用 fallback（或原值）的写回。
+     *
+     * @param type 翻译类型
+     */
+    default void recordFallback(TranslateType type) {
+    }
+
+    /**
+     * 记录一次被吞掉的异常。
+     *
+     * @param stage 发生阶段，如 {@code rpc.fetch}、{@code table.query}
+     * @param ex 异常
+     */
+    default void recordError(String stage, Throwable ex) {
+    }
+
+    /**
+     * 记录一次响应对象图的遍历。
+     *
+     * @param nanos 遍历与翻译总耗时（纳秒）
+     * @param objectsVisited 访问的对象数量
+     */
+    default void recordTraversal(long nanos, int objectsVisited) {
+    }
+
+    /**
+     * 在链路埋点中执行一次处理器批量调用。
+     * <p>
+     * 设计意图：为每个处理器批次生成独立 span，便于在调用链中定位慢翻译。
+     * </p>
+     *
+     * @param handler 处理器标识
+     * @param batch 批量调用
+     * @param <T> 结果类型
+     * @return 批量调用结果
+     */
+    default <T> T observeBatch(String handler, Supplier<T> batch) {
+        return batch.get();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.translate.metrics;
+
+/**
+ * 不携带堆栈的异常，用于通过 {@link TranslateMetrics#recordError(String, Throwable)} 报告
+ * 超时、拒绝、熔断、遍历上限等并非由异常引起的降级。
+ * <p>
+ * 设计意图：这些事件可能在每个请求上发生，实例可预先分配并复用，
+ * 统计时不产生填充堆栈的开销；阶段名与消息已足以定位原因。
+ * </p>
+ */
+public final class TranslateSignal extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message 事件描述
+     */
+    public TranslateSignal(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.translate.registry;
+
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.handler.CompositeTranslateHandler;
+import com.example.translate.handler.TranslateHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 默认处理器注册表：内置类型以 {@link EnumMap} 路由，自定义类型以字符串键路由。
+ * <p>
+ * 设计意图：构造时一次性完成分组，之后只读，查找无锁且不遍历列表。
+ * 同一类型注册多个处理器时按传入顺序串联为 {@link CompositeTranslateHandler}，
+ * 前者未命中的 key 才交给后者（如本地缓存优先于 RPC）。
+ * </p>
+ * <p>
+ * 在 Spring 中以 {@code List<TranslateHandler>} 注入即可自动注册全部处理器 Bean；
+ * Spring 注入列表时已按 {@code @Order} / {@code Ordered} 排序，该顺序即串联顺序。
+ * </p>
+ */
+public class DefaultTranslateHandlerRegistry implements TranslateHandlerRegistry {
+
+    private final Map<TranslateType, TranslateHandler> handlers = new EnumMap<>(TranslateType.class);
+    private final Map<String, TranslateHandler> customHandlers;
+
+    /**
+     * @param handlers 按优先级排列的处理器
+     * @throws IllegalArgumentException {@code CUSTOM} 处理器未声明自定义类型标识时抛出
+     */
+    public DefaultTranslateHandlerRegistry(List<? extends TranslateHandler> handlers) {
+        this(handlers, UnaryOperator.identity());
+    }
+
+    /**
+     * 串联后再装饰每个类型的处理器，如以 {@link com.example.translate.handler.WarmStartTranslateHandler}
+     * 包装整条链，使本地热点只记录链路最终的结果。
+     *
+     * @param handlers 按优先级排列的处理器
+     * @param decorator 处理器装饰，返回 {@code null} 时保留原处理器
+     * @throws IllegalArgumentException {@code CUSTOM} 处理器未声明自定义类型标识时抛出
+     */
+    public DefaultTranslateHandlerRegistry(List<? extends TranslateHandler> handlers,
+                                           UnaryOperator<TranslateHandler> decorator) {
+        Map<TranslateType, List<TranslateHandler>> byType = new EnumMap<>(TranslateType.class);
+        Map<String, List<TranslateHandler>> byCustomType = new LinkedHashMap<>();
+        if (handlers != null) {
+            for (TranslateHandler handler : handlers) {
+                if (handler == null) {
+                    continue;
+                }
+                TranslateType type = handler.type();
+                if (type == TranslateType.CUSTOM) {
+                    String customType = handler.customType();
+                    if (customType == null || customType.isEmpty()) {
+                        throw new IllegalArgumentException("CUSTOM handler must declare customType: "
+                                + handler.getClass().getName());
+                    }
+                    byCustomType.computeIfAbsent(customType, k -> new ArrayList<>()).add(handler);
+                } else if (type != null) {
+                    byType.computeIfAbsent(type, k -> new ArrayList<>()).add(handler);
+                }
+            }
+        }
+        for (Map.Entry<TranslateType, List<TranslateHandler>> entry : byType.entrySet()) {
+            this.handlers.put(entry.getKey(), decorate(chain(entry.getValue()), decorator));
+        }
+        Map<String, TranslateHandler> custom = new HashMap<>();
+        for (Map.Entry<String, List<TranslateHandler>> entry : byCustomType.entrySet()) {
+            custom.put(entry.getKey(), decorate(chain(entry.getValue()), decorator));
+        }
+        this.customHandlers = Collections.unmodifiableMap(custom);
+    }
+
+    @Override
+    public TranslateHandler getHandler(TranslateType type) {
+        return type == null ? null : handlers.get(type);
+    }
+
+    @Override
+    public TranslateHandler getCustomHandler(String customType) {
+        return customType == null ? null : customHandlers.get(customType);
+    }
+
+    private TranslateHandler chain(List<TranslateHandler> group) {
+        return group.size() == 1 ? group.get(0) : new CompositeTranslateHandler(group);
+    }
+
+    private TranslateHandler decorate(TranslateHandler handler, UnaryOperator<TranslateHandler> decorator) {
+        TranslateHandler decorated = decorator == null ? null : decorator.apply(handler);
+        return decorated == null ? handler : decorated;
+    }
+}
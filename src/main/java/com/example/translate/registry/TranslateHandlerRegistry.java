@@ -1,5 +1,6 @@
 package com.example.translate.registry;
 
+import com.example.translate.annotation.TranslateField;
 import com.example.translate.annotation.TranslateType;
 import com.example.translate.handler.TranslateHandler;
 
@@ -23,4 +24,32 @@ public interface TranslateHandlerRegistry {
      * @return 处理器实例；不存在时返回 {@code null}
      */
     TranslateHandler getHandler(TranslateType type);
+
+    /**
+     * 获取自定义类型的处理器。
+     *
+     * @param customType 自定义类型标识
+     * @return 处理器实例；不存在时返回 {@code null}
+     */
+    default TranslateHandler getCustomHandler(String customType) {
+        return null;
+    }
+
+    /**
+     * 按注解元信息解析处理器。
+     * <p>
+     * 设计意图：{@code CUSTOM} 按字符串键路由，其余按枚举类型路由；
+     * 执行器在构建类计划时调用一次，运行期不再逐字段查找。
+     * </p>
+     *
+     * @param meta 注解元信息
+     * @return 处理器实例；不存在时返回 {@code null}
+     */
+    default TranslateHandler resolve(TranslateField meta) {
+        if (meta.type() == TranslateType.CUSTOM) {
+            String customType = meta.customType();
+            return customType == null || customType.isEmpty() ? null : getCustomHandler(customType);
+        }
+        return getHandler(meta.type());
+    }
 }
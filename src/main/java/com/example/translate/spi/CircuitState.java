@@ -0,0 +1,25 @@
+package com.example.translate.spi;
+
+/**
+ * RPC 服务的熔断状态。
+ * <p>
+ * 设计意图：以稳定的状态名对外暴露，便于健康检查与监控展示。
+ * </p>
+ */
+public enum CircuitState {
+
+    /**
+     * 正常放行。
+     */
+    CLOSED,
+
+    /**
+     * 熔断中，调用直接降级为 fallback。
+     */
+    OPEN,
+
+    /**
+     * 熔断冷却结束，放行单个试探调用。
+     */
+    HALF_OPEN
+}
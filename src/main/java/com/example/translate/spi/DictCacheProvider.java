@@ -24,4 +24,29 @@ public interface DictCacheProvider {
      * @return code -> 翻译值 映射
      */
     Map<Object, Object> getBatch(String dictKey, Collection<Object> codes);
+
+    /**
+     * 批量写入字典值，用于分层查询把数据源查到的值回填缓存。
+     * <p>
+     * 设计意图：回填在翻译线程中同步调用，远端缓存实现宜异步写入并自行设置过期时间；
+     * 默认不写入（只读缓存）。
+     * </p>
+     *
+     * @param dictKey 字典命名空间
+     * @param values code -> 翻译值 映射
+     */
+    default void putBatch(String dictKey, Map<Object, Object> values) {
+    }
+
+    /**
+     * 注册字典内容变化时的回调，用于让结果记忆等上层缓存立即失效。
+     * <p>
+     * 设计意图：能感知刷新的实现（如整体重建的本地字典）应在切换后回调；
+     * 默认不通知，上层缓存依靠自身的存活时间收敛。
+     * </p>
+     *
+     * @param listener 回调
+     */
+    default void addRefreshListener(Runnable listener) {
+    }
 }
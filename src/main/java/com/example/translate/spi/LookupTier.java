@@ -0,0 +1,59 @@
+package com.example.translate.spi;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 分层查询中的一层（如本地缓存、{@link DictCacheProvider}、数据库或 RPC）。
+ * <p>
+ * 设计意图：处理器把"先查哪里、再查哪里"交给 {@code TieredLookup} 编排，
+ * 每层只收到前面各层未命中的 key，后面各层查到的值回填给前面的层；
+ * 超时与拆批由编排方按层配置，实现只需关心一次批量访问。
+ * </p>
+ */
+public interface LookupTier {
+
+    /**
+     * 层名称，用于按层配置策略与统计被吞异常。
+     *
+     * @return 名称，如 {@code local}、{@code cache}、{@code jdbc}、{@code rpc}
+     */
+    String name();
+
+    /**
+     * 批量查询。同一次调用的多个声明来自同一处理器的合并分组（如同表同键列的不同值列）。
+     * <p>
+     * 未命中的 key 不出现在结果中；异常由编排方吞掉并按未命中处理。
+     * </p>
+     *
+     * @param keys 注解元信息 -> 本层需要查询的原始 key
+     * @param context 当前翻译上下文
+     * @return 注解元信息 -> (原值 -> 翻译值)
+     */
+    Map<TranslateField, Map<Object, Object>> lookup(Map<TranslateField, Collection<Object>> keys,
+                                                    TranslateContext context);
+
+    /**
+     * 本层是否可能阻塞（访问网络、磁盘或数据库）。
+     * <p>
+     * 存在翻译截止时间时，可能阻塞的层在线程池中执行，调用线程最多等待剩余预算；
+     * 纯内存的层返回 {@code false}，始终在调用线程中直接执行。
+     * </p>
+     *
+     * @return 默认 {@code true}
+     */
+    default boolean blocking() {
+        return true;
+    }
+
+    /**
+     * 回填后面各层查到的值；默认不回填（只读层）。
+     *
+     * @param values 注解元信息 -> (原值 -> 翻译值)
+     */
+    default void backfill(Map<TranslateField, Map<Object, Object>> values) {
+    }
+}
@@ -0,0 +1,532 @@
+package com.example.translate.spi;
+
+import com.example.translate.context.TranslateContext;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.metrics.TranslateSignal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 带超时、并发隔离与熔断的 {@link RpcTranslateClient} 装饰器。
+ * <p>
+ * 设计意图：把容错能力内置在框架中，业务只需提供普通的 RPC 客户端。
+ * 超时、舱壁拒绝或熔断打开时返回空结果，由执行器按注解 {@code fallback} 降级，
+ * 请求线程不会被慢下游阻塞，死掉的下游也不会被每个请求反复调用。
+ * 可选的对冲请求用于削平长尾延迟；等待时间同时受 {@link TranslateContext} 截止时间约束。
+ * 超过批次上限的 key 集合会被拆分为子批次并发获取，失败的子批次只影响其中的 key。
+ * </p>
+ * <p>
+ * 每种降级都通过 {@link TranslateMetrics#recordError(String, Throwable)} 统计：
+ * {@code rpc.timeout}、{@code rpc.deadline}、{@code rpc.call}（下游异常）、{@code rpc.rejected}（线程池拒绝）、
+ * {@code rpc.bulkhead}（舱壁已满）、{@code rpc.circuit-open}（熔断打开）。
+ * </p>
+ */
+public class ResilientRpcTranslateClient implements RpcTranslateClient, AutoCloseable {
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+
+    // 非异常引起的降级使用预分配信号统计，不填充堆栈
+    private static final TranslateSignal TIMEOUT = new TranslateSignal("RPC call timed out");
+    private static final TranslateSignal DEADLINE = new TranslateSignal("Translate deadline exceeded");
+    private static final TranslateSignal BULKHEAD_FULL = new TranslateSignal("Bulkhead full");
+    private static final TranslateSignal CIRCUIT_OPEN = new TranslateSignal("Circuit breaker open");
+
+    private final RpcTranslateClient delegate;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Map<String, RpcServicePolicy> policies = new ConcurrentHashMap<>();
+    private final Map<String, ServiceGuard> guards = new ConcurrentHashMap<>();
+    private volatile RpcServicePolicy defaultPolicy = new RpcServicePolicy();
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+
+    /**
+     * 使用内部创建的守护线程池，{@link #close()} 时关闭。
+     */
+    public ResilientRpcTranslateClient(RpcTranslateClient delegate) {
+        this(delegate, Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "translate-rpc-" + THREAD_SEQ.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * 使用调用方提供的线程池，其生命周期由调用方管理，{@link #close()} 不关闭它。
+     */
+    public ResilientRpcTranslateClient(RpcTranslateClient delegate, ExecutorService executor) {
+        this(delegate, executor, false);
+    }
+
+    private ResilientRpcTranslateClient(RpcTranslateClient delegate, ExecutorService executor, boolean ownsExecutor) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * 关闭内部创建的线程池；进行中的调用收到中断。
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 设置指标实现，用于统计超时、拒绝、熔断与下游异常。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+    }
+
+    /**
+     * 设置未单独配置的服务所使用的默认策略。
+     *
+     * @param policy 默认策略
+     */
+    public void setDefaultPolicy(RpcServicePolicy policy) {
+        this.defaultPolicy = policy == null ? new RpcServicePolicy() : policy;
+        guards.clear();
+    }
+
+    /**
+     * 为指定服务设置独立策略，重置该服务的熔断统计。
+     *
+     * @param service 服务标识（与注解 {@code rpcService} 一致）
+     * @param policy 策略
+     */
+    public void setPolicy(String service, RpcServicePolicy policy) {
+        policies.put(service, policy);
+        guards.remove(service);
+    }
+
+    /**
+     * 获取指定服务当前的熔断状态。
+     *
+     * @param service 服务标识
+     * @return 熔断状态；从未调用过的服务为 {@link CircuitState#CLOSED}
+     */
+    public CircuitState getState(String service) {
+        ServiceGuard guard = guards.get(service);
+        return guard == null ? CircuitState.CLOSED : guard.currentState();
+    }
+
+    /**
+     * 获取全部已调用服务的熔断状态快照。
+     *
+     * @return 服务标识 -> 熔断状态
+     */
+    public Map<String, CircuitState> getStates() {
+        Map<String, CircuitState> states = new LinkedHashMap<>();
+        for (Map.Entry<String, ServiceGuard> entry : guards.entrySet()) {
+            states.put(entry.getKey(), entry.getValue().currentState());
+        }
+        return states;
+    }
+
+    @Override
+    public Map<Object, Object> batchFetch(String service,
+                                          String method,
+                                          Collection<Object> codes,
+                                          String param) {
+        if (codes == null || codes.isEmpty() || delegate == null) {
+            return Collections.emptyMap();
+        }
+
+        long budgetNanos = TranslateContext.current().remainingNanos();
+        if (budgetNanos == 0) {
+            // 响应级截止时间已到，直接降级
+            metrics.recordError("rpc.deadline", DEADLINE);
+            return Collections.emptyMap();
+        }
+
+        ServiceGuard guard = guards.computeIfAbsent(service, key -> new ServiceGuard(policyFor(key)));
+        if (!guard.tryAcquirePermission()) {
+            // 熔断打开：直接降级，不触达下游
+            metrics.recordError("rpc.circuit-open", CIRCUIT_OPEN);
+            return Collections.emptyMap();
+        }
+
+        long start = System.nanoTime();
+        int batchSize = guard.batchSize();
+        if (codes.size() <= batchSize) {
+            Call call = new Call(guard, codes.size(), () -> delegate.batchFetch(service, method, codes, param));
+            if (!call.launch()) {
+                // 舱壁已满：立即降级而不排队，拒绝不计入熔断
+                guard.releasePermission();
+                return Collections.emptyMap();
+            }
+            Map<Object, Object> result = awaitCall(guard, call, start, budgetNanos);
+            return result == null ? Collections.emptyMap() : result;
+        }
+
+        // 超大批次：拆分为子批次并发获取，合并部分结果；失败的子批次仅影响其中的 key
+        List<Object> all = new ArrayList<>(codes);
+        Map<Object, Object> merged = new HashMap<>();
+        int window = Math.max(1, guard.policy.getMaxInFlightBatches());
+        List<Call> calls = new ArrayList<>(window);
+        boolean launchedAny = false;
+        for (int from = 0; from < all.size(); from += batchSize * window) {
+            if (guard.currentState() == CircuitState.OPEN) {
+                // 熔断已打开，剩余子批次直接降级
+                metrics.recordError("rpc.circuit-open", CIRCUIT_OPEN);
+                break;
+            }
+            if (remaining(start, budgetNanos) == 0) {
+                // 预算耗尽，剩余子批次直接降级
+                metrics.recordError("rpc.deadline", DEADLINE);
+                break;
+            }
+            calls.clear();
+            for (int i = from; i < Math.min(all.size(), from + batchSize * window); i += batchSize) {
+                List<Object> chunk = all.subList(i, Math.min(all.size(), i + batchSize));
+                Call call = new Call(guard, chunk.size(), () -> delegate.batchFetch(service, method, chunk, param));
+                if (call.launch()) {
+                    calls.add(call);
+                    launchedAny = true;
+                }
+            }
+            for (Call call : calls) {
+                Map<Object, Object> result = awaitCall(guard, call, start, budgetNanos);
+                if (result != null) {
+                    merged.putAll(result);
+                }
+            }
+        }
+        if (!launchedAny) {
+            guard.releasePermission();
+        }
+        return merged;
+    }
+
+    /**
+     * 等待一次调用完成，按需发起对冲，并记录熔断与延迟统计。
+     *
+     * @return 调用结果；失败或超时返回 {@code null}
+     */
+    private Map<Object, Object> awaitCall(ServiceGuard guard, Call call, long budgetStart, long budgetNanos) {
+        long timeoutNanos = guard.policy.getTimeout().toNanos();
+        try {
+            long budgetLeft = remaining(budgetStart, budgetNanos);
+            long timeoutLeft = timeoutNanos - (System.nanoTime() - call.startNanos);
+            boolean deadlineBound = budgetLeft < timeoutLeft;
+            long waitNanos = Math.min(timeoutLeft, budgetLeft);
+
+            Map<Object, Object> result;
+            long hedgeDelayNanos = guard.hedgeDelayNanos();
+            long hedgeAt = hedgeDelayNanos - (System.nanoTime() - call.startNanos);
+            if (hedgeDelayNanos >= 0 && hedgeAt < waitNanos) {
+                long hedgeWaitStart = System.nanoTime();
+                result = call.await(hedgeAt);
+                if (result == null && !call.isFailed()) {
+                    // 对冲：再发一次，取先返回者；舱壁已满时放弃对冲
+                    call.launch();
+                    result = call.await(waitNanos - (System.nanoTime() - hedgeWaitStart));
+                }
+            } else {
+                result = call.await(waitNanos);
+            }
+
+            if (result != null) {
+                guard.onSuccess(System.nanoTime() - call.startNanos, call.size);
+                return result;
+            }
+            if (call.isFailed()) {
+                metrics.recordError("rpc.call", call.failure);
+                guard.onFailure();
+            } else if (!deadlineBound) {
+                metrics.recordError("rpc.timeout", TIMEOUT);
+                guard.onFailure();
+            } else {
+                // 因响应级截止时间放弃等待，不归咎于下游
+                metrics.recordError("rpc.deadline", DEADLINE);
+                guard.releasePermission();
+            }
+        } catch (InterruptedException ex) {
+            guard.releasePermission();
+            Thread.currentThread().interrupt();
+        } finally {
+            call.cancel();
+        }
+        return null;
+    }
+
+    private static long remaining(long start, long budgetNanos) {
+        if (budgetNanos == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, budgetNanos - (System.nanoTime() - start));
+    }
+
+    private RpcServicePolicy policyFor(String service) {
+        RpcServicePolicy policy = service == null ? null : policies.get(service);
+        return policy == null ? defaultPolicy : policy;
+    }
+
+    /**
+     * 单个服务的舱壁与熔断状态。
+     */
+    private static final class ServiceGuard {
+        private final RpcServicePolicy policy;
+        private final Semaphore bulkhead;
+        private final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final LatencyWindow latencies = new LatencyWindow();
+        private final AtomicInteger adaptiveBatchSize;
+        private volatile long openedAtNanos;
+
+        ServiceGuard(RpcServicePolicy policy) {
+            this.policy = policy;
+            this.bulkhead = new Semaphore(Math.max(1, policy.getMaxConcurrentCalls()));
+            this.adaptiveBatchSize = new AtomicInteger(Math.max(1, policy.getMaxBatchSize()));
+        }
+
+        boolean tryAcquirePermission() {
+            CircuitState current = state.get();
+            if (current == CircuitState.CLOSED) {
+                return true;
+            }
+            if (current == CircuitState.OPEN
+                    && System.nanoTime() - openedAtNanos >= policy.getOpenDuration().toNanos()) {
+                // 冷却结束：仅一个调用方获得试探机会
+                return state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN);
+            }
+            return false;
+        }
+
+        void releasePermission() {
+            // 试探调用未真正发出，恢复为 OPEN 以便下一个调用方重新试探
+            state.compareAndSet(CircuitState.HALF_OPEN, CircuitState.OPEN);
+        }
+
+        void onSuccess(long latencyNanos, int size) {
+            latencies.record(latencyNanos);
+            consecutiveFailures.set(0);
+            state.set(CircuitState.CLOSED);
+            if (policy.isAdaptiveBatchSize() && size >= adaptiveBatchSize.get() / 2) {
+                adjustBatchSize(latencyNanos);
+            }
+        }
+
+        int batchSize() {
+            int max = policy.getMaxBatchSize();
+            if (max <= 0) {
+                return Integer.MAX_VALUE;
+            }
+            return policy.isAdaptiveBatchSize() ? adaptiveBatchSize.get() : max;
+        }
+
+        private void adjustBatchSize(long latencyNanos) {
+            // 加性增、乘性减：慢于目标延迟时缩小批次，明显快于目标时逐步放大
+            long target = policy.getTargetBatchLatency().toNanos();
+            int current = adaptiveBatchSize.get();
+            int next = current;
+            if (latencyNanos > target) {
+                next = Math.max(minBatchSize(), current * 3 / 4);
+            } else if (latencyNanos < target / 2) {
+                next = Math.min(policy.getMaxBatchSize(), current + Math.max(1, current / 10));
+            }
+            if (next != current) {
+                adaptiveBatchSize.compareAndSet(current, next);
+            }
+        }
+
+        private int minBatchSize() {
+            return Math.max(1, Math.min(policy.getMinBatchSize(), policy.getMaxBatchSize()));
+        }
+
+        long hedgeDelayNanos() {
+            if (!policy.isHedgeEnabled()) {
+                return -1;
+            }
+            Duration fixed = policy.getHedgeDelay();
+            if (fixed != null) {
+                return fixed.toNanos();
+            }
+            // 使用观测到的 p95；样本不足时不做对冲
+            return latencies.percentile(0.95);
+        }
+
+        void onFailure() {
+            if (policy.isAdaptiveBatchSize()) {
+                // 失败（多为超时或载荷过大）时批次减半
+                int current = adaptiveBatchSize.get();
+                adaptiveBatchSize.compareAndSet(current, Math.max(minBatchSize(), current / 2));
+            }
+            if (state.get() == CircuitState.HALF_OPEN
+                    || consecutiveFailures.incrementAndGet() >= Math.max(1, policy.getFailureThreshold())) {
+                openedAtNanos = System.nanoTime();
+                state.set(CircuitState.OPEN);
+                consecutiveFailures.set(0);
+            }
+        }
+
+        CircuitState currentState() {
+            return state.get();
+        }
+    }
+
+    /**
+     * 一次逻辑调用：主请求与可选的对冲请求共享同一结果。
+     */
+    private final class Call {
+        private final ServiceGuard guard;
+        private final int size;
+        private final Supplier<Map<Object, Object>> fetcher;
+        private final CompletableFuture<Map<Object, Object>> winner = new CompletableFuture<>();
+        private final AtomicInteger running = new AtomicInteger();
+        private final List<Attempt> attempts = new ArrayList<>(2);
+        // 调用方上下文的只读快照，工作线程（含虚拟线程）以此执行下游调用
+        private final TranslateContext context = TranslateContext.current().snapshot();
+        private long startNanos;
+        // 全部请求失败时的最后一个异常，先于 winner 完成写入
+        private volatile Throwable failure;
+
+        Call(ServiceGuard guard, int size, Supplier<Map<Object, Object>> fetcher) {
+            this.guard = guard;
+            this.size = size;
+            this.fetcher = fetcher;
+        }
+
+        boolean launch() {
+            if (!guard.bulkhead.tryAcquire()) {
+                metrics.recordError("rpc.bulkhead", BULKHEAD_FULL);
+                return false;
+            }
+            if (attempts.isEmpty()) {
+                startNanos = System.nanoTime();
+            }
+            running.incrementAndGet();
+            Attempt attempt = new Attempt();
+            try {
+                attempt.future = executor.submit(() -> TranslateContext.runWith(context, attempt::run));
+                attempts.add(attempt);
+                return true;
+            } catch (RejectedExecutionException ex) {
+                metrics.recordError("rpc.rejected", ex);
+                running.decrementAndGet();
+                guard.bulkhead.release();
+                return false;
+            }
+        }
+
+        private void fetch() {
+            try {
+                Map<Object, Object> result = fetcher.get();
+                winner.complete(result == null ? Collections.emptyMap() : result);
+            } catch (Throwable ex) {
+                onAttemptFailed(ex);
+            }
+        }
+
+        private void onAttemptFailed(Throwable ex) {
+            // 所有请求都失败才算失败；否则等待其他请求
+            if (running.decrementAndGet() == 0) {
+                failure = ex;
+                winner.completeExceptionally(ex);
+            }
+        }
+
+        Map<Object, Object> await(long nanos) throws InterruptedException {
+            try {
+                return winner.get(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException ex) {
+                return null;
+            }
+        }
+
+        boolean isFailed() {
+            return winner.isCompletedExceptionally();
+        }
+
+        void cancel() {
+            for (Attempt attempt : attempts) {
+                attempt.cancel();
+            }
+        }
+
+        /**
+         * 单次请求。由任务本身与 {@link #cancel()} 竞争 {@code started}：
+         * 已开始的请求在下游真实完成后释放配额，超时的调用仍占用并发配额；
+         * 排队中被取消或被线程池丢弃、永远不会执行的请求由取消方释放。
+         */
+        private final class Attempt {
+            private final AtomicBoolean started = new AtomicBoolean();
+            private Future<?> future;
+
+            void run() {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    fetch();
+                } finally {
+                    guard.bulkhead.release();
+                }
+            }
+
+            void cancel() {
+                future.cancel(true);
+                if (started.compareAndSet(false, true)) {
+                    guard.bulkhead.release();
+                    onAttemptFailed(new CancellationException("attempt cancelled before start"));
+                }
+            }
+        }
+    }
+
+    /**
+     * 最近成功调用的延迟采样窗口，用于估算对冲延迟。
+     */
+    private static final class LatencyWindow {
+        private static final int SIZE = 128;
+        private static final int MIN_SAMPLES = 20;
+
+        private final long[] samples = new long[SIZE];
+        private int count;
+        private int next;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % SIZE;
+            if (count < SIZE) {
+                count++;
+            }
+        }
+
+        synchronized long percentile(double p) {
+            if (count < MIN_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(p * count) - 1)];
+        }
+    }
+}
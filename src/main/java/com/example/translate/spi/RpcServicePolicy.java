@@ -0,0 +1,175 @@
+package com.example.translate.spi;
+
+import java.time.Duration;
+
+/**
+ * 单个 RPC 服务的容错策略。
+ * <p>
+ * 设计意图：超时、并发隔离与熔断按 {@code rpcService} 独立配置，
+ * 使一个退化的下游不会拖慢其他翻译。
+ * </p>
+ */
+public class RpcServicePolicy {
+
+    private Duration timeout = Duration.ofSeconds(1);
+    private int maxConcurrentCalls = 16;
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(30);
+    private boolean hedgeEnabled;
+    private Duration hedgeDelay;
+    private int maxBatchSize;
+    private int maxInFlightBatches = 4;
+    private boolean adaptiveBatchSize;
+    private int minBatchSize = 50;
+    private Duration targetBatchLatency = Duration.ofMillis(200);
+
+    /**
+     * 单次批量调用的超时时间，超时按失败计并返回空结果。
+     *
+     * @return 超时时间
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * 同一服务的最大并发调用数（舱壁），超出时立即降级而不排队。
+     *
+     * @return 最大并发数
+     */
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * 触发熔断的连续失败次数（异常或超时）。
+     *
+     * @return 失败阈值
+     */
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    /**
+     * 熔断打开后的冷却时间，结束后放行一次试探调用。
+     *
+     * @return 冷却时间
+     */
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * 是否开启对冲请求。
+     * <p>
+     * 设计意图：首个请求在对冲延迟内未返回时再发一次（由客户端路由到其他副本），
+     * 取先返回者，用少量额外请求削平长尾延迟。
+     * </p>
+     *
+     * @return 是否开启
+     */
+    public boolean isHedgeEnabled() {
+        return hedgeEnabled;
+    }
+
+    public void setHedgeEnabled(boolean hedgeEnabled) {
+        this.hedgeEnabled = hedgeEnabled;
+    }
+
+    /**
+     * 固定的对冲延迟。
+     *
+     * @return 对冲延迟；为空时使用该服务观测到的 p95 延迟
+     */
+    public Duration getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    public void setHedgeDelay(Duration hedgeDelay) {
+        this.hedgeDelay = hedgeDelay;
+    }
+
+    /**
+     * 单次 batchFetch 的最大 key 数，超出时拆分为子批次。
+     * <p>
+     * 设计意图：避免导出类的大请求让下游超时或拒绝载荷，导致整批降级。
+     * </p>
+     *
+     * @return 最大批次；小于等于 0 表示不拆分
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 同一次翻译中同时在途的子批次上限。
+     *
+     * @return 在途子批次上限
+     */
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    public void setMaxInFlightBatches(int maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    /**
+     * 是否根据观测延迟自适应调整批次大小（上限为 {@link #getMaxBatchSize()}）。
+     *
+     * @return 是否自适应
+     */
+    public boolean isAdaptiveBatchSize() {
+        return adaptiveBatchSize;
+    }
+
+    public void setAdaptiveBatchSize(boolean adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+    }
+
+    /**
+     * 自适应调整时的批次下限。
+     *
+     * @return 批次下限
+     */
+    public int getMinBatchSize() {
+        return minBatchSize;
+    }
+
+    public void setMinBatchSize(int minBatchSize) {
+        this.minBatchSize = minBatchSize;
+    }
+
+    /**
+     * 自适应调整的目标子批次延迟：慢于该值时缩小批次，明显更快时逐步放大。
+     *
+     * @return 目标延迟
+     */
+    public Duration getTargetBatchLatency() {
+        return targetBatchLatency;
+    }
+
+    public void setTargetBatchLatency(Duration targetBatchLatency) {
+        this.targetBatchLatency = targetBatchLatency;
+    }
+}
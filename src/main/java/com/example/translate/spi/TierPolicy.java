@@ -0,0 +1,42 @@
+package com.example.translate.spi;
+
+import java.time.Duration;
+
+/**
+ * 分层查询中单层的访问策略。
+ * <p>
+ * 设计意图：远端缓存与数据源的延迟特征不同，超时与单次批量大小按层独立配置；
+ * 超时或失败的 key 继续交给下一层，而不是直接放弃。
+ * </p>
+ */
+public class TierPolicy {
+
+    private Duration timeout;
+    private int batchSize;
+
+    /**
+     * 单次批量访问的超时时间；为空表示不限制，在调用线程中直接执行。
+     *
+     * @return 超时时间
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * 单次批量访问的最大 key 数量，超出时拆分为多次；0 表示不拆分。
+     *
+     * @return 最大 key 数量
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.translate.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 容量达到上限时整体清空的并发缓存。
+ * <p>
+ * 设计意图：热点集合通常远小于上限，清空后很快重新填充，
+ * 换来无锁、无额外簿记的读写路径；条目的过期规则由使用方自行判断。
+ * </p>
+ *
+ * @param <K> key 类型
+ * @param <V> 条目类型
+ */
+final class BoundedCache<K, V> {
+
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private volatile int maxEntries;
+
+    /**
+     * @param maxEntries 最大条目数
+     * @throws IllegalArgumentException 不为正数时抛出
+     */
+    BoundedCache(int maxEntries) {
+        setMaxEntries(maxEntries);
+    }
+
+    /**
+     * @param maxEntries 最大条目数，需为正数
+     * @throws IllegalArgumentException 不为正数时抛出
+     */
+    void setMaxEntries(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 写入条目；已满且 key 不存在时先清空。
+     */
+    void put(K key, V value) {
+        makeRoom(key);
+        entries.put(key, value);
+    }
+
+    /**
+     * 仅在 key 不存在时写入，容量规则同 {@link #put(Object, Object)}。
+     */
+    void putIfAbsent(K key, V value) {
+        makeRoom(key);
+        entries.putIfAbsent(key, value);
+    }
+
+    boolean remove(K key, V value) {
+        return entries.remove(key, value);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    void forEach(BiConsumer<? super K, ? super V> action) {
+        entries.forEach(action);
+    }
+
+    private void makeRoom(K key) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            entries.clear();
+        }
+    }
+}
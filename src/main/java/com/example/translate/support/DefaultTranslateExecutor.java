@@ -1,14 +1,20 @@
 package com.example.translate.support;
 
 import com.example.translate.annotation.TranslateField;
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.context.RequestLookupMemo;
 import com.example.translate.context.TranslateContext;
+import com.example.translate.handler.MultiColumnTranslateHandler;
 import com.example.translate.handler.TranslateHandler;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.metrics.TranslateSignal;
 import com.example.translate.registry.TranslateHandlerRegistry;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -17,12 +23,21 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * 默认翻译执行器：遍历对象图并根据注解执行翻译。
@@ -35,13 +50,215 @@ public class DefaultTranslateExecutor implements TranslateExecutor {
 
     private final TranslateHandlerRegistry registry;
 
-    // 缓存字段反射结果，降低重复扫描成本
-    private final Map<Class<?>, List<Field>> fieldCache = new ConcurrentHashMap<>();
+    // 缓存每个类的翻译计划，降低重复扫描成本
+    private final Map<Class<?>, TranslatePlan> planCache = new ConcurrentHashMap<>();
+
+    // 单次响应的翻译时间预算，为空表示不限制
+    private volatile Duration translateTimeout;
+
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+
+    // 对象级结果记忆，为空表示不启用
+    private volatile TranslationMemo memo;
+
+    // 对象图遍历顺序与安全上限
+    private volatile TraversalOrder traversalOrder = TraversalOrder.DEPTH_FIRST;
+    private volatile int maxTraversalDepth = Integer.MAX_VALUE;
+    private volatile int maxTraversalObjects = Integer.MAX_VALUE;
+
+    // 按线程复用遍历队列
+    private static final ThreadLocal<TraversalDeque> DEQUES = new ThreadLocal<>();
+
+    // 触及遍历上限时统计用的预分配信号，不填充堆栈
+    private static final TranslateSignal DEPTH_LIMIT_REACHED = new TranslateSignal("Traversal limit reached: depth");
+    private static final TranslateSignal OBJECT_LIMIT_REACHED = new TranslateSignal("Traversal limit reached: objects");
+
+    // 并行分区的最小元素数，过小的分区调度开销高于收益
+    private static final int MIN_PARTITION_SIZE = 1024;
+
+    // 集合元素数达到该阈值时并行收集任务与写回，默认关闭
+    private volatile int parallelThreshold = Integer.MAX_VALUE;
+    private volatile Executor parallelExecutor = ForkJoinPool.commonPool();
+    private volatile int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+    // 同一批次中访问不同下游的查询分组并发发起
+    private volatile boolean concurrentLookups = true;
 
     public DefaultTranslateExecutor(TranslateHandlerRegistry registry) {
         this.registry = registry;
     }
 
+    /**
+     * 设置单次响应的翻译截止时间。
+     * <p>
+     * 设计意图：到期后剩余的查询不再发起，相关字段直接使用 fallback，
+     * 避免慢下游拖长整个响应。调用方已在上下文中设置截止时间时以调用方为准。
+     * </p>
+     *
+     * @param translateTimeout 时间预算；为空表示不限制
+     */
+    public void setTranslateTimeout(Duration translateTimeout) {
+        this.translateTimeout = translateTimeout;
+    }
+
+    /**
+     * 设置指标与链路埋点实现。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+    }
+
+    /**
+     * 启用对象级翻译结果记忆。
+     * <p>
+     * 设计意图：反复返回的相同 DTO（如应用缓存中的热点列表）源值不变，
+     * 命中记忆时直接写回目标值，跳过处理器调用。仅适用于翻译结果只取决于源值的场景，
+     * 字典刷新时需调用 {@link TranslationMemo#invalidate()}。
+     * </p>
+     *
+     * @param memo 记忆实现；为空时关闭
+     */
+    public void setTranslationMemo(TranslationMemo memo) {
+        this.memo = memo;
+    }
+
+    /**
+     * 设置并行处理的集合大小阈值。
+     * <p>
+     * 设计意图：超大列表（如导出）逐个读取字段本身就需要数十毫秒，
+     * 达到阈值时把任务收集与结果写回切分到多个线程，下游查询仍按合并后的分组各调用一次。
+     * 收集阶段会在工作线程读取字段，懒加载实体等依赖线程绑定资源的对象不宜开启。
+     * </p>
+     *
+     * @param parallelThreshold 元素数阈值；{@link Integer#MAX_VALUE} 表示关闭
+     * @throws IllegalArgumentException 不为正数时抛出
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("parallelThreshold must be positive: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * 设置并行处理使用的线程池。
+     *
+     * @param parallelExecutor 线程池；为空时使用 {@link ForkJoinPool#commonPool()}
+     */
+    public void setParallelExecutor(Executor parallelExecutor) {
+        Executor effective = parallelExecutor == null ? ForkJoinPool.commonPool() : parallelExecutor;
+        setParallelExecutor(effective, effective instanceof ForkJoinPool
+                ? ((ForkJoinPool) effective).getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 设置并行处理使用的线程池及其并行度。
+     * <p>
+     * 并行度决定分区数上限；虚拟线程等无固定线程数的线程池按期望同时运行的分区数指定。
+     * </p>
+     *
+     * @param parallelExecutor 线程池；为空时使用 {@link ForkJoinPool#commonPool()}
+     * @param parallelism      并行度，需为正数
+     * @throws IllegalArgumentException 并行度不为正数时抛出
+     */
+    public void setParallelExecutor(Executor parallelExecutor, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.parallelExecutor = parallelExecutor == null ? ForkJoinPool.commonPool() : parallelExecutor;
+    }
+
+    /**
+     * 设置同一批次（同一链式阶段）内的查询分组是否并发发起。
+     * <p>
+     * 设计意图：同一阶段的分组互不依赖（如 TABLE 与 RPC 并列），串行时总耗时是各下游之和；
+     * 并发时当前线程执行其中一个分组，其余非 ENUM 分组提交到并行线程池，总耗时接近最慢的下游。
+     * 写回在全部查询返回后由当前线程按原顺序串行完成。处理器查询多为阻塞 I/O，
+     * 开启时建议通过 {@link #setParallelExecutor(Executor)} 使用专用线程池而非公共池。
+     * </p>
+     *
+     * @param concurrentLookups 是否并发，默认开启
+     */
+    public void setConcurrentLookups(boolean concurrentLookups) {
+        this.concurrentLookups = concurrentLookups;
+    }
+
+    /**
+     * 设置对象图访问顺序。
+     *
+     * @param traversalOrder 访问顺序；为空时使用深度优先
+     */
+    public void setTraversalOrder(TraversalOrder traversalOrder) {
+        this.traversalOrder = traversalOrder == null ? TraversalOrder.DEPTH_FIRST : traversalOrder;
+    }
+
+    /**
+     * 设置遍历的最大深度。
+     * <p>
+     * 设计意图：防止异常数据（如错误构造的超深链表）拖慢响应；
+     * 超过深度的节点不再访问，已翻译的字段保持不变。
+     * </p>
+     *
+     * @param maxTraversalDepth 最大深度（根对象为 0）
+     * @throws IllegalArgumentException 为负数时抛出
+     */
+    public void setMaxTraversalDepth(int maxTraversalDepth) {
+        if (maxTraversalDepth < 0) {
+            throw new IllegalArgumentException("maxTraversalDepth must not be negative: " + maxTraversalDepth);
+        }
+        this.maxTraversalDepth = maxTraversalDepth;
+    }
+
+    /**
+     * 设置单次翻译最多访问的对象数（含容器）。
+     *
+     * @param maxTraversalObjects 对象数上限
+     * @throws IllegalArgumentException 不为正数时抛出
+     */
+    public void setMaxTraversalObjects(int maxTraversalObjects) {
+        if (maxTraversalObjects <= 0) {
+            throw new IllegalArgumentException("maxTraversalObjects must be positive: " + maxTraversalObjects);
+        }
+        this.maxTraversalObjects = maxTraversalObjects;
+    }
+
+    /**
+     * 预热单个类：构建并缓存类计划，提前开放字段访问，并让处理器准备内部索引。
+     * <p>
+     * 设计意图：反射扫描与注解解析在启动阶段完成，滚动发布后的首批请求不再承担这部分开销；
+     * 不访问任何下游。
+     * </p>
+     *
+     * @param type 待预热的类型
+     * @return 该类是否包含可翻译字段
+     */
+    public boolean warmUp(Class<?> type) {
+        if (type == null || isSimpleValueType(type)) {
+            return false;
+        }
+        TranslatePlan plan = planOf(type);
+        for (TranslatePlan.SourceBinding source : plan.sources()) {
+            source.field().trySetAccessible();
+            for (TranslatePlan.TargetBinding target : source.targets()) {
+                target.targetField().trySetAccessible();
+                try {
+                    target.handler().warmUp(target.meta());
+                } catch (RuntimeException ex) {
+                    // 预热失败时首次翻译照常初始化
+                    metrics.recordError("executor.warmup", ex);
+                }
+            }
+        }
+        for (Field field : plan.nestedFields()) {
+            field.trySetAccessible();
+        }
+        return plan.hasSources();
+    }
+
     @Override
     public Object translate(Object body) {
         if (body == null) {
@@ -54,214 +271,943 @@ public class DefaultTranslateExecutor implements TranslateExecutor {
             return body;
         }
 
-        TraversalState state = new TraversalState();
-        processObject(body, context, state);
+        Duration timeout = translateTimeout;
+        // 只读快照由提交方固定截止时间，不再设置
+        boolean ownsDeadline = timeout != null && !context.hasDeadline() && !context.isReadOnly();
+        if (ownsDeadline) {
+            context.setDeadlineAfter(timeout);
+        }
+        long start = System.nanoTime();
+        try {
+            TraversalState state = new TraversalState(memo);
+            traverse(body, context, state);
+            metrics.recordTraversal(System.nanoTime() - start, state.visitedCount());
+        } finally {
+            if (ownsDeadline) {
+                context.clearDeadline();
+            }
+        }
         return body;
     }
 
-    private void processObject(Object value, TranslateContext context, TraversalState state) {
-        if (value == null) {
-            return;
-        }
-
-        Class<?> type = value.getClass();
-        if (isSimpleValueType(type)) {
+    /**
+     * 以显式队列遍历对象图。
+     * <p>
+     * 设计意图：不使用递归，数千层的树也不会栈溢出，栈深度与对象图形状无关。
+     * 遍历期间只收集翻译任务，整个响应按查询标识分组后统一派发，
+     * 同一查询无论被多少字段、多少层级使用都只访问一次下游。
+     * 深度优先时子节点反转后从尾部取出，访问顺序与递归实现一致。
+     * 超过对象数或深度上限时停止继续深入，已收集的任务照常派发。
+     * </p>
+     */
+    private void traverse(Object body, TranslateContext context, TraversalState state) {
+        if (isSimpleValueType(body.getClass())) {
             // 基础/不可变类型不包含可翻译字段
             return;
         }
+        TraversalDeque deque = DEQUES.get();
+        if (deque == null) {
+            deque = new TraversalDeque();
+        } else {
+            // 取走复用实例；处理器内部再次调用 translate 时会另建队列
+            DEQUES.remove();
+        }
+        boolean depthFirst = traversalOrder == TraversalOrder.DEPTH_FIRST;
+        int maxObjects = maxTraversalObjects;
+        state.maxDepth = maxTraversalDepth;
+        state.maxObjects = maxObjects;
+        try {
+            // 仅在设置投影时记录字段路径，根对象为空路径
+            deque.addLast(body, 0, context.hasProjection() ? "" : null);
+            while (!deque.isEmpty()) {
+                int depth;
+                String path;
+                Object value;
+                if (depthFirst) {
+                    depth = deque.peekLastDepth();
+                    path = deque.peekLastPath();
+                    value = deque.pollLast();
+                } else {
+                    depth = deque.peekFirstDepth();
+                    path = deque.peekFirstPath();
+                    value = deque.pollFirst();
+                }
+                if (state.isVisited(value)) {
+                    // 防止循环引用导致无限遍历
+                    continue;
+                }
+                if (state.visitedCount() >= maxObjects) {
+                    state.limitReached = OBJECT_LIMIT_REACHED;
+                    break;
+                }
+                state.markVisited(value);
 
-        if (state.isVisited(value)) {
-            // 防止循环引用导致无限递归
-            return;
+                int mark = deque.size();
+                visit(value, depth, path, context, state, deque);
+                if (depthFirst) {
+                    deque.reverseFrom(mark);
+                }
+            }
+        } finally {
+            deque.clear();
+            DEQUES.set(deque);
         }
-        state.markVisited(value);
+        if (state.limitReached != null) {
+            metrics.recordError("executor.traversal", state.limitReached);
+        }
+        dispatch(state.pending, context, state);
+    }
 
+    /**
+     * @param path 对象自响应根起的字段路径；容器不占路径段，其元素沿用容器的路径
+     */
+    private void visit(Object value,
+                       int depth,
+                       String path,
+                       TranslateContext context,
+                       TraversalState state,
+                       TraversalDeque deque) {
         if (value instanceof Collection) {
-            processCollection((Collection<?>) value, context, state);
+            visitCollection((Collection<?>) value, depth, path, context, state, deque);
             return;
         }
 
         if (value instanceof Map) {
-            processMap((Map<?, ?>) value, context, state);
+            // 只遍历 value，避免意外修改 key
+            for (Object element : ((Map<?, ?>) value).values()) {
+                enqueue(element, depth, path, state, deque);
+            }
             return;
         }
 
+        Class<?> type = value.getClass();
         if (type.isArray()) {
-            processArray(value, context, state);
+            // 基础类型数组不包含可翻译字段
+            if (value instanceof Object[]) {
+                for (Object element : (Object[]) value) {
+                    enqueue(element, depth, path, state, deque);
+                }
+            }
             return;
         }
 
         if (isSpringPage(value)) {
-            processSpringPage(value, context, state);
+            Object content = springPageContent(value);
+            if (content instanceof Collection) {
+                visitCollection((Collection<?>) content, depth, path, context, state, deque);
+            }
             return;
         }
 
-        processPojo(value, context, state);
+        // 单对象同样走批量路径，使同源的多个声明可合并查询
+        collect(Collections.singletonList(value), path, context, state);
+        enqueueNested(value, depth, path, state, deque);
     }
 
-    private void processCollection(Collection<?> collection, TranslateContext context, TraversalState state) {
+    /**
+     * 集合中的普通对象在此统一收集并标记为已访问，之后只需遍历其嵌套字段；
+     * 容器元素（集合、Map、数组、分页）照常入队。
+     */
+    private void visitCollection(Collection<?> collection,
+                                 int depth,
+                                 String path,
+                                 TranslateContext context,
+                                 TraversalState state,
+                                 TraversalDeque deque) {
         if (collection.isEmpty()) {
             return;
         }
+        if (depth >= state.maxDepth) {
+            // 元素位于下一层，已超出深度上限
+            state.limitReached = DEPTH_LIMIT_REACHED;
+            return;
+        }
 
-        // 先批量翻译，避免 N+1
-        batchTranslateCollection(collection, context, state);
-
-        // 再递归处理元素的嵌套对象
+        List<Object> beans = new ArrayList<>(collection.size());
         for (Object element : collection) {
-            processObject(element, context, state);
+            if (element == null || isSimpleValueType(element.getClass())) {
+                continue;
+            }
+            if (isContainer(element)) {
+                enqueue(element, depth, path, state, deque);
+                continue;
+            }
+            if (state.isVisited(element)) {
+                continue;
+            }
+            if (state.visitedCount() >= state.maxObjects) {
+                state.limitReached = OBJECT_LIMIT_REACHED;
+                break;
+            }
+            state.markVisited(element);
+            beans.add(element);
+        }
+        if (beans.isEmpty()) {
+            return;
+        }
+
+        // 先收集整批元素的任务，避免 N+1
+        collect(beans, path, context, state);
+
+        // 再处理元素的嵌套对象，元素本身位于下一层
+        for (Object bean : beans) {
+            enqueueNested(bean, depth + 1, path, state, deque);
+        }
+    }
+
+    private void enqueueNested(Object bean, int depth, String path, TraversalState state, TraversalDeque deque) {
+        for (Field field : planOf(bean.getClass()).nestedFields()) {
+            // 非翻译字段仍需遍历其嵌套对象
+            Object value = readField(field, bean);
+            if (value != null) {
+                enqueue(value, depth, path == null ? null : childPath(path, field.getName()), state, deque);
+            }
         }
     }
 
-    private void processMap(Map<?, ?> map, TranslateContext context, TraversalState state) {
-        if (map.isEmpty()) {
+    private static String childPath(String path, String fieldName) {
+        return path.isEmpty() ? fieldName : path + '.' + fieldName;
+    }
+
+    private void enqueue(Object value, int depth, String path, TraversalState state, TraversalDeque deque) {
+        if (value == null || isSimpleValueType(value.getClass())) {
+            // 基础/不可变类型不包含可翻译字段，不入队
             return;
         }
-        // 只遍历 value，避免意外修改 key
-        for (Object value : map.values()) {
-            processObject(value, context, state);
+        if (depth >= state.maxDepth) {
+            state.limitReached = DEPTH_LIMIT_REACHED;
+            return;
         }
+        deque.addLast(value, depth + 1, path);
     }
 
-    private void processArray(Object array, TranslateContext context, TraversalState state) {
-        int length = Array.getLength(array);
-        for (int i = 0; i < length; i++) {
-            processObject(Array.get(array, i), context, state);
+    private boolean isContainer(Object value) {
+        return value instanceof Collection
+                || value instanceof Map
+                || value.getClass().isArray()
+                || isSpringPage(value);
+    }
+
+    /**
+     * 收集一批对象的翻译任务，并入本次遍历的待派发任务。
+     */
+    private void collect(Collection<?> beans, String path, TranslateContext context, TraversalState state) {
+        if (partitionsFor(beans.size()) > 1) {
+            collectTasksParallel(beans, path, context, state);
+        } else {
+            collectTasks(beans, path, context, state, false, state.pending);
         }
     }
 
-    private void processPojo(Object bean, TranslateContext context, TraversalState state) {
-        for (Field field : getAllFields(bean.getClass())) {
-            TranslateField meta = field.getAnnotation(TranslateField.class);
-            if (meta == null) {
-                // 非翻译字段仍需递归其嵌套对象
-                Object nested = readField(field, bean);
-                processObject(nested, context, state);
-                continue;
-            }
+    /**
+     * 派发本次遍历收集的全部任务并写回结果。
+     * <p>
+     * 设计意图：任务按查询标识分组，target 或 fallback 不同但取值方式相同的声明共享一次查询；
+     * 同一处理器下分组标识相同的查询再合并为一次访问（如同表同键列的多个值列）。
+     * </p>
+     */
+    private void dispatch(TaskCollection pending, TranslateContext context, TraversalState state) {
+        dispatchTasks(pending.tasks, context, state);
+        if (pending.staged != null) {
+            dispatchStages(pending, context, state);
+        }
 
-            if (!context.isTypeEnabled(meta.type().name())) {
-                // 请求级类型过滤
-                continue;
+        if (pending.candidates != null) {
+            for (MemoCandidate candidate : pending.candidates) {
+                if (candidate.complete) {
+                    state.memo.put(candidate.key, candidate.values, state.memoVersion);
+                }
             }
+        }
+    }
 
-            if (state.isFieldTranslated(bean, field.getName())) {
-                // 防止重复翻译同一字段
-                continue;
+    /**
+     * 按阶段派发链式翻译：每一阶段在上一阶段写回后收集整个响应中的任务，仍按查询标识合并，
+     * 多跳翻译的代价为每跳一批，而非每行一次。
+     */
+    private void dispatchStages(TaskCollection pending, TranslateContext context, TraversalState state) {
+        for (int stage = 1; stage <= pending.maxStage; stage++) {
+            Map<LookupKey, List<TaskItem>> tasks = new LinkedHashMap<>();
+            for (StagedElement staged : pending.staged) {
+                if (staged.plan.maxStage() >= stage) {
+                    collectSources(staged.element, staged.path, staged.plan.stage(stage), null, staged.candidate,
+                            context, state, tasks, true);
+                }
             }
+            dispatchTasks(tasks, context, state);
+        }
+    }
 
-            String targetName = meta.target();
-            if (targetName == null || targetName.isEmpty()) {
-                // 明确要求 target，避免覆盖原字段
-                continue;
+    private void dispatchTasks(Map<LookupKey, List<TaskItem>> tasks, TranslateContext context, TraversalState state) {
+        if (!tasks.isEmpty()) {
+            Map<ColumnGroupKey, List<LookupKey>> columnGroups = new LinkedHashMap<>();
+            List<LookupKey> singles = new ArrayList<>();
+            for (LookupKey key : tasks.keySet()) {
+                Object groupKey = safeColumnGroupKey(key.handler, key.meta);
+                if (groupKey == null) {
+                    singles.add(key);
+                    continue;
+                }
+                columnGroups.computeIfAbsent(new ColumnGroupKey(key.handler, groupKey), k -> new ArrayList<>())
+                        .add(key);
             }
 
-            Field targetField = findField(bean.getClass(), targetName);
-            if (targetField == null) {
-                // 目标字段不存在，安全跳过
-                continue;
+            List<GroupLookup> lookups = new ArrayList<>(columnGroups.size() + singles.size());
+            for (List<LookupKey> group : columnGroups.values()) {
+                if (group.size() == 1) {
+                    singles.add(group.get(0));
+                    continue;
+                }
+                lookups.add(new GroupLookup(group.get(0).handler,
+                        () -> lookupColumnGroup(group, tasks, context, state)));
+            }
+            for (LookupKey key : singles) {
+                lookups.add(new GroupLookup(key.handler, () -> lookupSingle(key, tasks.get(key), context, state)));
             }
 
-            Object rawValue = readField(field, bean);
-            if (rawValue == null) {
-                // 原值为空无需翻译
-                continue;
+            for (Runnable writeBack : lookupAll(lookups, context)) {
+                writeBack.run();
             }
+        }
+    }
 
-            TranslateHandler handler = registry.getHandler(meta.type());
-            if (handler == null) {
-                // 未注册处理器，安全降级
-                continue;
+    /**
+     * 执行全部分组的查询，按分组顺序返回各自的写回动作。
+     * <p>
+     * 存在两个以上非 ENUM 分组时，第一个在当前线程执行，其余提交到并行线程池，
+     * 工作线程绑定请求的翻译上下文；ENUM 分组只读内存，始终在当前线程执行。
+     * </p>
+     */
+    private List<Runnable> lookupAll(List<GroupLookup> lookups, TranslateContext context) {
+        int remote = 0;
+        if (concurrentLookups) {
+            for (GroupLookup lookup : lookups) {
+                if (lookup.remote()) {
+                    remote++;
+                }
+            }
+        }
+        List<CompletableFuture<Runnable>> forked = new ArrayList<>(lookups.size());
+        boolean inlineTaken = false;
+        for (GroupLookup lookup : lookups) {
+            if (remote > 1 && lookup.remote() && inlineTaken) {
+                forked.add(fork(() -> TranslateContext.callWith(context, lookup.query)));
+            } else {
+                inlineTaken |= lookup.remote();
+                forked.add(null);
+            }
+        }
+        List<Runnable> writeBacks = new ArrayList<>(lookups.size());
+        for (int i = 0; i < lookups.size(); i++) {
+            writeBacks.add(forked.get(i) == null ? lookups.get(i).query.get() : null);
+        }
+        for (int i = 0; i < lookups.size(); i++) {
+            if (forked.get(i) != null) {
+                writeBacks.set(i, join(forked.get(i)));
             }
+        }
+        return writeBacks;
+    }
 
-            Object translated = safeTranslate(handler, rawValue, meta, context);
-            writeTargetField(bean, targetField, rawValue, translated, meta, state);
+    /**
+     * 查询单个分组，返回写回动作；写回须在当前批次全部查询完成后串行执行。
+     */
+    private Runnable lookupSingle(LookupKey key, List<TaskItem> items, TranslateContext context, TraversalState state) {
+        RequestLookupMemo lookups = context.getLookupMemo();
+        Collection<Object> rawValues = rawValuesOf(items);
+        Map<Object, Object> known = Collections.emptyMap();
+        if (lookups != null) {
+            // 同一请求内已查到的值直接复用，只查询其余 key
+            known = lookups.group(key);
+            rawValues = missing(rawValues, known);
         }
+
+        if (rawValues.isEmpty()) {
+            // 全部由记忆提供，未访问下游，不记录批次
+            Map<Object, Object> remembered = known;
+            return () -> writeBack(items, remembered, state);
+        }
+        List<Object> pending = NumericKeys.distinct(rawValues);
+        String handlerName = handlerName(key.handler);
+        long start = System.nanoTime();
+        Map<Object, Object> translated = metrics.observeBatch(handlerName,
+                () -> safeBatchTranslate(key.handler, pending, key.meta, context));
+        long nanos = System.nanoTime() - start;
+        metrics.recordBatch(handlerName, pending.size(), resolvedKeys(pending, translated), nanos);
+        if (lookups != null) {
+            lookups.remember(key, translated);
+        }
+        Map<Object, Object> merged = merge(known, translated);
+        return () -> writeBack(items, merged, state);
     }
 
-    private void batchTranslateCollection(Collection<?> collection, TranslateContext context, TraversalState state) {
-        Map<BatchKey, List<TaskItem>> tasks = new HashMap<>();
+    /**
+     * 把大集合切分后并行收集任务，按分区顺序并入待派发任务，结果与串行收集一致。
+     * <p>
+     * 设计意图：收集阶段只读取字段与遍历状态，不写入任何共享结构，可安全并行；
+     * 命中记忆的写回推迟到合并之后。当前线程处理第一个分区，其余分区提交到并行线程池。
+     * </p>
+     */
+    private void collectTasksParallel(Collection<?> collection,
+                                      String path,
+                                      TranslateContext context,
+                                      TraversalState state) {
+        List<?> list = collection instanceof List && collection instanceof RandomAccess
+                ? (List<?>) collection
+                : new ArrayList<>(collection);
+        int partitions = partitionsFor(list.size());
+        int chunk = (list.size() + partitions - 1) / partitions;
+        List<CompletableFuture<TaskCollection>> futures = new ArrayList<>(partitions - 1);
+        for (int from = chunk; from < list.size(); from += chunk) {
+            List<?> part = list.subList(from, Math.min(list.size(), from + chunk));
+            futures.add(fork(() -> collectTasks(part, path, context, state, true, new TaskCollection())));
+        }
+
+        TaskCollection first = collectTasks(list.subList(0, Math.min(list.size(), chunk)),
+                path, context, state, true, new TaskCollection());
+        List<TaskCollection> parts = new ArrayList<>(partitions);
+        parts.add(first);
+        for (CompletableFuture<TaskCollection> future : futures) {
+            parts.add(join(future));
+        }
+        for (TaskCollection part : parts) {
+            state.pending.merge(part);
+            if (part.remembered != null) {
+                // 命中记忆的对象在合并后统一写回
+                for (RememberedHit hit : part.remembered) {
+                    applyRemembered(hit.element, hit.plan, hit.values, state);
+                }
+            }
+        }
+    }
+
+    private TaskCollection collectTasks(Collection<?> collection,
+                                        String path,
+                                        TranslateContext context,
+                                        TraversalState state,
+                                        boolean deferRemembered,
+                                        TaskCollection collected) {
+        TranslationMemo activeMemo = state.memo;
+        Map<LookupKey, List<TaskItem>> tasks = collected.tasks;
+        Set<String> enabledTypes = null;
 
         for (Object element : collection) {
-            if (element == null || isSimpleValueType(element.getClass())) {
+            TranslatePlan plan = planOf(element.getClass());
+            if (!plan.hasSources()) {
                 continue;
             }
 
-            for (Field field : getAllFields(element.getClass())) {
-                TranslateField meta = field.getAnnotation(TranslateField.class);
-                if (meta == null) {
+            Object[] rawValues = null;
+            MemoCandidate candidate = null;
+            if (activeMemo != null) {
+                if (enabledTypes == null) {
+                    enabledTypes = context.getEnabledTypes();
+                }
+                rawValues = readSources(plan, element);
+                TranslationMemo.MemoKey memoKey = TranslationMemo.key(plan, rawValues, enabledTypes,
+                        context.getProjection(), path);
+                Object[] remembered = activeMemo.get(memoKey);
+                if (remembered != null) {
+                    if (deferRemembered) {
+                        collected.remember(element, plan, remembered);
+                    } else {
+                        applyRemembered(element, plan, remembered, state);
+                    }
                     continue;
                 }
+                candidate = new MemoCandidate(memoKey, plan.targetCount());
+                collected.addCandidate(candidate);
+            }
+
+            collectSources(element, path, plan.stage(0), rawValues, candidate, context, state, tasks, false);
+            if (plan.maxStage() > 0) {
+                // 链式翻译的后续阶段在上游写回后收集
+                collected.stage(element, path, plan, candidate);
+            }
+        }
+        return collected;
+    }
 
-                if (!context.isTypeEnabled(meta.type().name())) {
+    /**
+     * 收集单个对象中指定源字段的翻译任务。
+     *
+     * @param path 对象自响应根起的字段路径，用于匹配投影；未设置投影时为 null
+     * @param rawValues 已读取的源值元组；为空时按需读取
+     * @param staged 是否为链式翻译的后续阶段
+     */
+    private void collectSources(Object element,
+                                String path,
+                                List<TranslatePlan.SourceBinding> sources,
+                                Object[] rawValues,
+                                MemoCandidate candidate,
+                                TranslateContext context,
+                                TraversalState state,
+                                Map<LookupKey, List<TaskItem>> tasks,
+                                boolean staged) {
+        boolean projected = context.hasProjection();
+        for (TranslatePlan.SourceBinding source : sources) {
+            if (staged && state.isFallback(element, source.field().getName())) {
+                // 上游未命中时写入的是兜底值，不再作为下一跳的源值
+                continue;
+            }
+            Object rawValue = rawValues == null ? null : rawValues[source.index()];
+            boolean rawValueRead = rawValues != null;
+            for (TranslatePlan.TargetBinding target : source.targets()) {
+                boolean typeEnabled = target.customType() == null
+                        ? context.isTypeEnabled(target.type())
+                        : context.isTypeEnabled(target.customType());
+                if (!typeEnabled) {
                     continue;
                 }
 
-                if (state.isFieldTranslated(element, field.getName())) {
+                String targetName = target.targetField().getName();
+                if (projected && !target.feedsLaterStage() && !context.isFieldRequested(path, targetName)) {
+                    // 客户端未请求的目标字段不访问下游；下一跳依赖的中间字段除外
                     continue;
                 }
-
-                String targetName = meta.target();
-                if (targetName == null || targetName.isEmpty()) {
+                if (state.isFieldTranslated(element, targetName)) {
+                    // 防止重复翻译同一目标字段
+                    if (candidate != null) {
+                        candidate.complete = false;
+                    }
                     continue;
                 }
 
-                Field targetField = findField(element.getClass(), targetName);
-                if (targetField == null) {
-                    continue;
+                if (!rawValueRead) {
+                    rawValue = readSource(source, element);
+                    rawValueRead = true;
+                }
+                if (rawValue == null || (source.multiValued() && ((List<?>) rawValue).isEmpty())) {
+                    break;
                 }
 
-                Object rawValue = readField(field, element);
-                if (rawValue == null) {
-                    continue;
+                LookupKey key = new LookupKey(target.handler(), target.lookupKey(), target.lookupHash(), target.meta());
+                tasks.computeIfAbsent(key, k -> new ArrayList<>())
+                        .add(new TaskItem(element, rawValue, target, candidate, source.multiValued()));
+            }
+        }
+    }
+
+    private Object[] readSources(TranslatePlan plan, Object element) {
+        List<TranslatePlan.SourceBinding> sources = plan.sources();
+        Object[] rawValues = new Object[sources.size()];
+        for (TranslatePlan.SourceBinding source : sources) {
+            rawValues[source.index()] = readSource(source, element);
+        }
+        return rawValues;
+    }
+
+    /**
+     * 读取源字段；多值字段展开为非空元素列表，数组也可按内容参与记忆键比较。
+     */
+    private Object readSource(TranslatePlan.SourceBinding source, Object element) {
+        Object value = readField(source.field(), element);
+        if (value == null || !source.multiValued()) {
+            return value;
+        }
+        List<Object> elements;
+        if (value instanceof Collection) {
+            elements = new ArrayList<>(((Collection<?>) value).size());
+            for (Object item : (Collection<?>) value) {
+                if (item != null) {
+                    elements.add(item);
+                }
+            }
+        } else {
+            // 兼容基础类型数组
+            int length = Array.getLength(value);
+            elements = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                Object item = Array.get(value, i);
+                if (item != null) {
+                    elements.add(item);
                 }
+            }
+        }
+        return elements;
+    }
 
-                TranslateHandler handler = registry.getHandler(meta.type());
-                if (handler == null) {
+    private void applyRemembered(Object element, TranslatePlan plan, Object[] remembered, TraversalState state) {
+        for (TranslatePlan.SourceBinding source : plan.sources()) {
+            for (TranslatePlan.TargetBinding target : source.targets()) {
+                Object value = remembered[target.slot()];
+                String targetName = target.targetField().getName();
+                if (value == null || state.isFieldTranslated(element, targetName)) {
                     continue;
                 }
+                if (source.multiValued()) {
+                    // 记忆中的多值结果被多个对象复用，各自持有副本
+                    value = copyOf(value);
+                }
+                if (readField(target.targetField(), element) != null
+                        || writeField(target.targetField(), element, value)) {
+                    state.markFieldTranslated(element, targetName);
+                }
+            }
+        }
+    }
 
-                BatchKey key = new BatchKey(handler, meta, targetField.getName());
-                tasks.computeIfAbsent(key, k -> new ArrayList<>())
-                        .add(new TaskItem(element, rawValue, targetField));
+    /**
+     * 以一次调用查询同一数据源的多个值列，返回写回动作。
+     */
+    private Runnable lookupColumnGroup(List<LookupKey> group,
+                                       Map<LookupKey, List<TaskItem>> tasks,
+                                       TranslateContext context,
+                                       TraversalState state) {
+        MultiColumnTranslateHandler handler = (MultiColumnTranslateHandler) group.get(0).handler;
+        RequestLookupMemo lookups = context.getLookupMemo();
+        List<TranslateField> metas = new ArrayList<>(group.size());
+        Map<LookupKey, Map<Object, Object>> known = new HashMap<>();
+        Collection<Object> rawValues = new ArrayList<>();
+        for (LookupKey key : group) {
+            metas.add(key.meta);
+            Collection<Object> columnValues = rawValuesOf(tasks.get(key));
+            if (lookups != null) {
+                // 任一列未记住的 key 都需要查询，合并调用会同时返回各列
+                Map<Object, Object> column = lookups.group(key);
+                known.put(key, column);
+                columnValues = missing(columnValues, column);
+            }
+            rawValues.addAll(columnValues);
+        }
+
+        Map<TranslateField, Map<Object, Object>> translated = Collections.emptyMap();
+        if (!rawValues.isEmpty()) {
+            List<Object> pending = NumericKeys.distinct(rawValues);
+            String handlerName = handlerName(handler);
+            long start = System.nanoTime();
+            translated = metrics.observeBatch(handlerName,
+                    () -> safeBatchTranslateColumns(handler, pending, metas, context));
+            long nanos = System.nanoTime() - start;
+            metrics.recordBatch(handlerName, pending.size(), resolvedKeys(pending, translated.values()), nanos);
+        }
+        Map<LookupKey, Map<Object, Object>> columnResults = new HashMap<>();
+        for (LookupKey key : group) {
+            Map<Object, Object> columnResult = translated.get(key.meta);
+            if (columnResult == null) {
+                columnResult = Collections.emptyMap();
+            }
+            if (lookups != null) {
+                lookups.remember(key, columnResult);
+                columnResult = merge(known.get(key), columnResult);
+            }
+            columnResults.put(key, columnResult);
+        }
+        return () -> {
+            for (LookupKey key : group) {
+                writeBack(tasks.get(key), columnResults.get(key), state);
+            }
+        };
+    }
+
+    /**
+     * 统计查到翻译值的 key 数，整数 key 按数值语义匹配。
+     */
+    private static int resolvedKeys(List<Object> keys, Map<Object, Object> translated) {
+        return resolvedKeys(keys, Collections.singletonList(translated));
+    }
+
+    /**
+     * 统计至少一列查到翻译值的 key 数。
+     */
+    private static int resolvedKeys(List<Object> keys, Collection<Map<Object, Object>> columns) {
+        List<ResultLookup> lookups = new ArrayList<>(columns.size());
+        for (Map<Object, Object> column : columns) {
+            if (column != null && !column.isEmpty()) {
+                lookups.add(new ResultLookup(column));
+            }
+        }
+        if (lookups.isEmpty()) {
+            return 0;
+        }
+        int resolved = 0;
+        for (Object key : keys) {
+            for (ResultLookup lookup : lookups) {
+                if (lookup.get(key) != null) {
+                    resolved++;
+                    break;
+                }
             }
         }
+        return resolved;
+    }
+
+    /**
+     * 返回记忆中没有的原始值；处理器返回的 key 类型可能与字段类型不同，整数按数值语义匹配。
+     */
+    private Collection<Object> missing(Collection<Object> rawValues, Map<Object, Object> known) {
+        if (known.isEmpty()) {
+            return rawValues;
+        }
+        ResultLookup lookup = new ResultLookup(known);
+        Collection<Object> misses = new ArrayList<>();
+        for (Object rawValue : rawValues) {
+            if (lookup.get(rawValue) == null) {
+                misses.add(rawValue);
+            }
+        }
+        return misses;
+    }
 
-        for (Map.Entry<BatchKey, List<TaskItem>> entry : tasks.entrySet()) {
-            BatchKey key = entry.getKey();
-            List<TaskItem> items = entry.getValue();
+    private Map<Object, Object> merge(Map<Object, Object> known, Map<Object, Object> translated) {
+        if (known.isEmpty()) {
+            return translated;
+        }
+        if (translated.isEmpty()) {
+            return known;
+        }
+        Map<Object, Object> merged = new HashMap<>(known);
+        merged.putAll(translated);
+        return merged;
+    }
 
-            Collection<Object> rawValues = new ArrayList<>(items.size());
-            for (TaskItem item : items) {
+    private Collection<Object> rawValuesOf(List<TaskItem> items) {
+        Collection<Object> rawValues = new ArrayList<>(items.size());
+        for (TaskItem item : items) {
+            if (item.multiValued) {
+                // 多值字段的每个元素都并入同一批次
+                rawValues.addAll((List<?>) item.rawValue);
+            } else {
                 rawValues.add(item.rawValue);
             }
+        }
+        return rawValues;
+    }
+
+    /**
+     * 写回翻译结果；条目数达到并行阈值时按对象分片并行写回。
+     * <p>
+     * 分片与遍历状态的分片一致，同一对象只会由一个线程写入，状态无需加锁。
+     * </p>
+     */
+    private int writeBack(List<TaskItem> items, Map<Object, Object> translated, TraversalState state) {
+        int partitions = Math.min(partitionsFor(items.size()), TraversalState.SHARDS);
+        if (partitions < 2) {
+            return writeItems(items, translated, state);
+        }
+        List<List<TaskItem>> buckets = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            buckets.add(new ArrayList<>(items.size() / partitions + 1));
+        }
+        for (TaskItem item : items) {
+            buckets.get(TraversalState.shardOf(item.owner) % partitions).add(item);
+        }
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(partitions - 1);
+        for (int i = 1; i < partitions; i++) {
+            List<TaskItem> bucket = buckets.get(i);
+            if (!bucket.isEmpty()) {
+                futures.add(fork(() -> writeItems(bucket, translated, state)));
+            }
+        }
+        int resolved = writeItems(buckets.get(0), translated, state);
+        for (CompletableFuture<Integer> future : futures) {
+            resolved += join(future);
+        }
+        return resolved;
+    }
+
+    /**
+     * 计算并行分区数；返回 1 表示串行处理。
+     */
+    private int partitionsFor(int size) {
+        if (size < parallelThreshold) {
+            return 1;
+        }
+        // 当前线程同样处理一个分区
+        int byWorkers = parallelism + 1;
+        int bySize = size / MIN_PARTITION_SIZE;
+        return Math.max(1, Math.min(byWorkers, bySize));
+    }
+
+    private <T> CompletableFuture<T> fork(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, parallelExecutor);
+        } catch (RejectedExecutionException ex) {
+            // 线程池拒绝时在当前线程执行
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
 
-            Map<Object, Object> translated = safeBatchTranslate(key.handler, rawValues, key.meta, context);
-            for (TaskItem item : items) {
-                Object mapped = translated.get(item.rawValue);
-                writeTargetField(item.owner, item.targetField, item.rawValue, mapped, key.meta, state);
+    private int writeItems(List<TaskItem> items, Map<Object, Object> translated, TraversalState state) {
+        ResultLookup results = new ResultLookup(translated);
+        int resolved = 0;
+        for (TaskItem item : items) {
+            TranslatePlan.TargetBinding target = item.target;
+            if (item.multiValued) {
+                resolved += writeMultiValued(item, results, state);
+                continue;
+            }
+            Object mapped = results.get(item.rawValue);
+            if (mapped == null) {
+                metrics.recordFallback(target.type());
+            } else {
+                resolved++;
             }
+            if (item.candidate != null) {
+                item.candidate.record(target.slot(), mapped);
+            }
+            writeTargetField(item.owner, target.targetField(), item.rawValue, mapped, target.meta(), state);
+        }
+        return resolved;
+    }
+
+    /**
+     * 按元素顺序组装多值字段的结果，按目标字段的 {@link TranslatePlan.ValueShape} 拼接为字符串
+     * 或转换为 {@code List}、{@code Set}、数组。
+     * <p>
+     * 未命中的元素逐个按 fallback 或原值兜底，其余元素照常写入；
+     * 存在未命中元素时不计入解析成功，也不写入对象级记忆。
+     * </p>
+     *
+     * @return 全部元素命中时返回 1，否则返回 0
+     */
+    private int writeMultiValued(TaskItem item, ResultLookup results, TraversalState state) {
+        TranslatePlan.TargetBinding target = item.target;
+        List<?> elements = (List<?>) item.rawValue;
+        String fallback = target.meta().fallback();
+        List<Object> parts = new ArrayList<>(elements.size());
+        boolean complete = true;
+        for (Object element : elements) {
+            Object mapped = results.get(element);
+            if (mapped == null) {
+                complete = false;
+                mapped = (fallback == null || fallback.isEmpty()) ? element : fallback;
+            }
+            parts.add(mapped);
+        }
+
+        Object value = shape(parts, target);
+        if (value == null) {
+            // 翻译结果无法存入数组元素类型，不写入，目标字段保持未翻译
+            metrics.recordError("executor.write", new TranslateSignal("Translated values do not fit "
+                    + target.targetField().getDeclaringClass().getName() + "." + target.targetField().getName()));
+            return 0;
+        }
+
+        if (!complete) {
+            metrics.recordFallback(target.type());
+        }
+        if (item.candidate != null) {
+            // 记忆保存独立副本，避免与写入对象的列表共享
+            item.candidate.record(target.slot(), complete ? copyOf(value) : null);
         }
+        writeTargetField(item.owner, target.targetField(), item.rawValue, value, target.meta(), state);
+        return complete ? 1 : 0;
     }
 
-    private Object safeTranslate(TranslateHandler handler, Object rawValue, TranslateField meta, TranslateContext context) {
+    /**
+     * @return 按目标形态转换后的值；数组元素类型不匹配时返回 null
+     */
+    private static Object shape(List<Object> parts, TranslatePlan.TargetBinding target) {
+        switch (target.shape()) {
+            case JOINED:
+                StringBuilder joined = new StringBuilder();
+                for (Object part : parts) {
+                    if (joined.length() > 0) {
+                        joined.append(target.separator());
+                    }
+                    joined.append(part);
+                }
+                return joined.toString();
+            case SET:
+                return new LinkedHashSet<>(parts);
+            case ARRAY:
+                Class<?> componentType = target.targetField().getType().getComponentType();
+                Object array = Array.newInstance(componentType, parts.size());
+                for (int i = 0; i < parts.size(); i++) {
+                    Object part = parts.get(i);
+                    if (componentType == String.class && part != null) {
+                        part = String.valueOf(part);
+                    } else if (part != null && !componentType.isInstance(part)) {
+                        return null;
+                    }
+                    Array.set(array, i, part);
+                }
+                return array;
+            default:
+                return parts;
+        }
+    }
+
+    private Object copyOf(Object value) {
+        if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        }
+        if (value instanceof Set) {
+            return new LinkedHashSet<>((Set<?>) value);
+        }
+        if (value instanceof Object[]) {
+            return ((Object[]) value).clone();
+        }
+        return value;
+    }
+
+    private String handlerName(TranslateHandler handler) {
+        TranslateType type = handler.type();
+        return type == TranslateType.CUSTOM ? handler.customType() : type.name();
+    }
+
+    private Object safeColumnGroupKey(TranslateHandler handler, TranslateField meta) {
+        if (!(handler instanceof MultiColumnTranslateHandler)) {
+            return null;
+        }
         try {
-            return handler.translate(rawValue, meta, context);
+            return ((MultiColumnTranslateHandler) handler).columnGroupKey(meta);
         } catch (RuntimeException ex) {
-            // 翻译失败不得影响主流程
+            // 无法判定分组时按单列处理
+            metrics.recordError("executor.group", ex);
             return null;
         }
     }
 
+    private Map<TranslateField, Map<Object, Object>> safeBatchTranslateColumns(MultiColumnTranslateHandler handler,
+                                                                               Collection<Object> rawValues,
+                                                                               List<TranslateField> metas,
+                                                                               TranslateContext context) {
+        if (context.isDeadlineExceeded()) {
+            // 超过截止时间不再发起查询，直接走 fallback
+            return Collections.emptyMap();
+        }
+        try {
+            Map<TranslateField, Map<Object, Object>> result = handler.batchTranslateColumns(rawValues, metas, context);
+            return result == null ? Collections.emptyMap() : result;
+        } catch (RuntimeException ex) {
+            // 翻译失败不得影响主流程
+            metrics.recordError("executor.batch", ex);
+            return Collections.emptyMap();
+        }
+    }
+
     private Map<Object, Object> safeBatchTranslate(TranslateHandler handler,
                                                    Collection<Object> rawValues,
                                                    TranslateField meta,
                                                    TranslateContext context) {
+        if (context.isDeadlineExceeded()) {
+            // 超过截止时间不再发起查询，直接走 fallback
+            return Collections.emptyMap();
+        }
         try {
             Map<Object, Object> result = handler.batchTranslate(rawValues, meta, context);
             return result == null ? Collections.emptyMap() : result;
         } catch (RuntimeException ex) {
             // 翻译失败不得影响主流程
+            metrics.recordError("executor.batch", ex);
             return Collections.emptyMap();
         }
     }
@@ -286,38 +1232,18 @@ public class DefaultTranslateExecutor implements TranslateExecutor {
             return;
         }
 
-        writeField(targetField, owner, finalValue);
+        if (!writeField(targetField, owner, finalValue)) {
+            // 写入失败时目标字段仍为空，不视为已翻译
+            return;
+        }
         state.markFieldTranslated(owner, targetField.getName());
+        if (translated == null) {
+            state.markFallback(owner, targetField.getName());
+        }
     }
 
-    private List<Field> getAllFields(Class<?> type) {
-        return fieldCache.computeIfAbsent(type, clazz -> {
-            List<Field> fields = new ArrayList<>();
-            Class<?> current = clazz;
-            while (current != null && current != Object.class) {
-                for (Field field : current.getDeclaredFields()) {
-                    if (Modifier.isStatic(field.getModifiers())) {
-                        continue;
-                    }
-                    fields.add(field);
-                }
-                current = current.getSuperclass();
-            }
-            return fields;
-        });
-    }
-
-    private Field findField(Class<?> type, String name) {
-        Class<?> current = type;
-        while (current != null && current != Object.class) {
-            try {
-                return current.getDeclaredField(name);
-            } catch (NoSuchFieldException ignored) {
-                // 向父类继续查找
-                current = current.getSuperclass();
-            }
-        }
-        return null;
+    private TranslatePlan planOf(Class<?> type) {
+        return planCache.computeIfAbsent(type, clazz -> TranslatePlan.build(clazz, registry, metrics));
     }
 
     private Object readField(Field field, Object owner) {
@@ -332,15 +1258,21 @@ public class DefaultTranslateExecutor implements TranslateExecutor {
         }
     }
 
-    private void writeField(Field field, Object owner, Object value) {
+    /**
+     * @return 是否写入成功；失败（类型不匹配、不可访问）以 {@code executor.write} 阶段统计
+     */
+    private boolean writeField(Field field, Object owner, Object value) {
         try {
             Object target = Modifier.isStatic(field.getModifiers()) ? null : owner;
             if (!field.canAccess(target)) {
                 field.setAccessible(true);
             }
             field.set(target, value);
+            return true;
         } catch (IllegalAccessException | IncompatibleClassChangeError | IllegalArgumentException ex) {
             // 写入失败不影响主流程
+            metrics.recordError("executor.write", ex);
+            return false;
         }
     }
 
@@ -358,36 +1290,57 @@ public class DefaultTranslateExecutor implements TranslateExecutor {
                 || type.getName().startsWith("java.lang.");
     }
 
-    private static volatile Class<?> springPageClass;
+    // 类加载时探测一次；缺少 Spring Data 时不再为每个对象重复 Class.forName
+    private static final Class<?> SPRING_PAGE_CLASS = loadOptionalClass("org.springframework.data.domain.Page");
 
-    private boolean isSpringPage(Object value) {
-        Class<?> pageClass = springPageClass;
-        if (pageClass == null) {
-            try {
-                pageClass = Class.forName("org.springframework.data.domain.Page");
-                springPageClass = pageClass;
-            } catch (ClassNotFoundException ex) {
-                return false;
-            }
+    private static Class<?> loadOptionalClass(String name) {
+        try {
+            return Class.forName(name, false, DefaultTranslateExecutor.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return null;
         }
-        return pageClass.isInstance(value);
     }
 
-    private void processSpringPage(Object page, TranslateContext context, TraversalState state) {
+    private boolean isSpringPage(Object value) {
+        return SPRING_PAGE_CLASS != null && SPRING_PAGE_CLASS.isInstance(value);
+    }
+
+    private Object springPageContent(Object page) {
         try {
-            Method getContent = page.getClass().getMethod("getContent");
-            Object content = getContent.invoke(page);
-            if (content instanceof Collection) {
-                processCollection((Collection<?>) content, context, state);
-            }
+            Method getContent = SPRING_PAGE_CLASS.getMethod("getContent");
+            return getContent.invoke(page);
         } catch (ReflectiveOperationException ex) {
             // Page 结构异常时安全忽略
+            return null;
         }
     }
 
     private static final class TraversalState {
+        // 已翻译字段按对象身份哈希分片，并行写回时每个分片只由一个线程修改
+        private static final int SHARDS = 16;
+
         private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
-        private final Map<Object, Set<String>> translated = new IdentityHashMap<>();
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private final Map<Object, Set<String>>[] translated = new Map[SHARDS];
+        // 以兜底值写入的目标字段，链式翻译的下一跳据此跳过
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private final Map<Object, Set<String>>[] fallbacks = new Map[SHARDS];
+
+        // 整个响应收集到的任务，遍历结束后统一派发
+        private final TaskCollection pending = new TaskCollection();
+        private final TranslationMemo memo;
+        private final long memoVersion;
+
+        private int maxDepth;
+        private int maxObjects;
+        // 触发的遍历上限（objects / depth），null 表示未触发
+        private TranslateSignal limitReached;
+
+        TraversalState(TranslationMemo memo) {
+            this.memo = memo;
+            // 在查询前读取版本，期间发生失效的结果不会写入记忆
+            this.memoVersion = memo == null ? 0L : memo.getVersion();
+        }
 
         boolean isVisited(Object obj) {
             return visited.contains(obj);
@@ -397,25 +1350,115 @@ public class DefaultTranslateExecutor implements TranslateExecutor {
             visited.add(obj);
         }
 
+        int visitedCount() {
+            return visited.size();
+        }
+
+        static int shardOf(Object obj) {
+            return System.identityHashCode(obj) & (SHARDS - 1);
+        }
+
         boolean isFieldTranslated(Object obj, String fieldName) {
-            Set<String> fields = translated.get(obj);
-            return fields != null && fields.contains(fieldName);
+            return contains(translated, obj, fieldName);
         }
 
         void markFieldTranslated(Object obj, String fieldName) {
-            translated.computeIfAbsent(obj, k -> new HashSet<>()).add(fieldName);
+            mark(translated, obj, fieldName);
+        }
+
+        boolean isFallback(Object obj, String fieldName) {
+            return contains(fallbacks, obj, fieldName);
+        }
+
+        void markFallback(Object obj, String fieldName) {
+            mark(fallbacks, obj, fieldName);
+        }
+
+        private static boolean contains(Map<Object, Set<String>>[] shards, Object obj, String fieldName) {
+            Map<Object, Set<String>> shard = shards[shardOf(obj)];
+            if (shard == null) {
+                return false;
+            }
+            Set<String> fields = shard.get(obj);
+            return fields != null && fields.contains(fieldName);
+        }
+
+        private static void mark(Map<Object, Set<String>>[] shards, Object obj, String fieldName) {
+            int index = shardOf(obj);
+            Map<Object, Set<String>> shard = shards[index];
+            if (shard == null) {
+                shard = new IdentityHashMap<>();
+                shards[index] = shard;
+            }
+            shard.computeIfAbsent(obj, k -> new HashSet<>()).add(fieldName);
         }
     }
 
-    private static final class BatchKey {
+    /**
+     * 待执行的分组查询：查询返回写回动作，二者分开以便并发查询、串行写回。
+     */
+    private static final class GroupLookup {
         private final TranslateHandler handler;
+        private final Supplier<Runnable> query;
+
+        GroupLookup(TranslateHandler handler, Supplier<Runnable> query) {
+            this.handler = handler;
+            this.query = query;
+        }
+
+        /**
+         * ENUM 之外的处理器可能访问缓存、数据库或远程服务，值得并发。
+         */
+        boolean remote() {
+            return handler.type() != TranslateType.ENUM;
+        }
+    }
+
+    /**
+     * 查询标识：决定如何取值，与写到哪个目标字段、如何兜底无关。
+     * <p>
+     * 同一处理器下查询标识相同的任务合并为一次查询，请求级查询记忆也按此分组。
+     * {@code meta} 为首个声明，作为调用处理器时的代表，不参与相等比较。
+     * </p>
+     */
+    private static final class LookupKey {
+        private final TranslateHandler handler;
+        private final Object lookup;
         private final TranslateField meta;
-        private final String targetName;
+        private final int hash;
 
-        BatchKey(TranslateHandler handler, TranslateField meta, String targetName) {
+        LookupKey(TranslateHandler handler, Object lookup, int lookupHash, TranslateField meta) {
             this.handler = handler;
+            this.lookup = lookup;
             this.meta = meta;
-            this.targetName = targetName;
+            this.hash = 31 * System.identityHashCode(handler) + lookupHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LookupKey)) {
+                return false;
+            }
+            LookupKey that = (LookupKey) o;
+            return hash == that.hash && handler == that.handler && lookup.equals(that.lookup);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class ColumnGroupKey {
+        private final TranslateHandler handler;
+        private final Object groupKey;
+
+        ColumnGroupKey(TranslateHandler handler, Object groupKey) {
+            this.handler = handler;
+            this.groupKey = groupKey;
         }
 
         @Override
@@ -423,30 +1466,175 @@ public class DefaultTranslateExecutor implements TranslateExecutor {
             if (this == o) {
                 return true;
             }
-            if (!(o instanceof BatchKey)) {
+            if (!(o instanceof ColumnGroupKey)) {
                 return false;
             }
-            BatchKey that = (BatchKey) o;
+            ColumnGroupKey that = (ColumnGroupKey) o;
             return Objects.equals(handler, that.handler)
-                    && Objects.equals(meta, that.meta)
-                    && Objects.equals(targetName, that.targetName);
+                    && Objects.equals(groupKey, that.groupKey);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(handler, meta, targetName);
+            return Objects.hash(handler, groupKey);
+        }
+    }
+
+    /**
+     * 一次收集的结果；并行收集时每个分区各一份，按分区顺序合并。
+     */
+    private static final class TaskCollection {
+        private final Map<LookupKey, List<TaskItem>> tasks = new LinkedHashMap<>();
+        private List<MemoCandidate> candidates;
+        private List<RememberedHit> remembered;
+        private List<StagedElement> staged;
+        private int maxStage;
+
+        void addCandidate(MemoCandidate candidate) {
+            if (candidates == null) {
+                candidates = new ArrayList<>();
+            }
+            candidates.add(candidate);
+        }
+
+        void remember(Object element, TranslatePlan plan, Object[] values) {
+            if (remembered == null) {
+                remembered = new ArrayList<>();
+            }
+            remembered.add(new RememberedHit(element, plan, values));
+        }
+
+        void stage(Object element, String path, TranslatePlan plan, MemoCandidate candidate) {
+            if (staged == null) {
+                staged = new ArrayList<>();
+            }
+            staged.add(new StagedElement(element, path, plan, candidate));
+            maxStage = Math.max(maxStage, plan.maxStage());
+        }
+
+        void merge(TaskCollection other) {
+            for (Map.Entry<LookupKey, List<TaskItem>> entry : other.tasks.entrySet()) {
+                List<TaskItem> items = tasks.get(entry.getKey());
+                if (items == null) {
+                    tasks.put(entry.getKey(), entry.getValue());
+                } else {
+                    items.addAll(entry.getValue());
+                }
+            }
+            if (other.candidates != null) {
+                for (MemoCandidate candidate : other.candidates) {
+                    addCandidate(candidate);
+                }
+            }
+            if (other.remembered != null) {
+                for (RememberedHit hit : other.remembered) {
+                    remember(hit.element, hit.plan, hit.values);
+                }
+            }
+            if (other.staged != null) {
+                for (StagedElement element : other.staged) {
+                    stage(element.element, element.path, element.plan, element.candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * 含链式翻译的对象，后续阶段沿用同一记忆候选。
+     */
+    private static final class StagedElement {
+        private final Object element;
+        private final String path;
+        private final TranslatePlan plan;
+        private final MemoCandidate candidate;
+
+        StagedElement(Object element, String path, TranslatePlan plan, MemoCandidate candidate) {
+            this.element = element;
+            this.path = path;
+            this.plan = plan;
+            this.candidate = candidate;
+        }
+    }
+
+    private static final class RememberedHit {
+        private final Object element;
+        private final TranslatePlan plan;
+        private final Object[] values;
+
+        RememberedHit(Object element, TranslatePlan plan, Object[] values) {
+            this.element = element;
+            this.plan = plan;
+            this.values = values;
         }
     }
 
+    /**
+     * 单个写回指令：目标字段、兜底方式与记忆槽位取自所属声明。
+     */
     private static final class TaskItem {
         private final Object owner;
         private final Object rawValue;
-        private final Field targetField;
-
-        TaskItem(Object owner, Object rawValue, Field targetField) {
+        private final TranslatePlan.TargetBinding target;
+        private final MemoCandidate candidate;
+        // rawValue 为展开后的元素列表
+        private final boolean multiValued;
+
+        TaskItem(Object owner,
+                 Object rawValue,
+                 TranslatePlan.TargetBinding target,
+                 MemoCandidate candidate,
+                 boolean multiValued) {
             this.owner = owner;
             this.rawValue = rawValue;
-            this.targetField = targetField;
+            this.target = target;
+            this.candidate = candidate;
+            this.multiValued = multiValued;
+        }
+    }
+
+    /**
+     * 按原始值查找翻译结果；处理器返回的 key 类型可能与字段类型不同（如 Integer 与 Long），
+     * 未命中的整数按数值语义再查一次，归一化映射按需构建一次。
+     */
+    private static final class ResultLookup {
+        private final Map<Object, Object> translated;
+        private NormalizedKeyMap<Object> normalized;
+
+        ResultLookup(Map<Object, Object> translated) {
+            this.translated = translated;
+        }
+
+        Object get(Object rawValue) {
+            Object mapped = translated.get(rawValue);
+            if (mapped == null && !translated.isEmpty() && NumericKeys.isIntegral(rawValue)) {
+                if (normalized == null) {
+                    normalized = NormalizedKeyMap.of(translated);
+                }
+                mapped = normalized.get(rawValue);
+            }
+            return mapped;
+        }
+    }
+
+    /**
+     * 未命中记忆的对象：收集本次翻译结果，全部成功时写入记忆。
+     */
+    private static final class MemoCandidate {
+        private final TranslationMemo.MemoKey key;
+        private final Object[] values;
+        private boolean complete = true;
+
+        MemoCandidate(TranslationMemo.MemoKey key, int targetCount) {
+            this.key = key;
+            this.values = new Object[targetCount];
+        }
+
+        void record(int slot, Object translated) {
+            if (translated == null) {
+                complete = false;
+            } else {
+                values[slot] = translated;
+            }
         }
     }
 }
@@ -0,0 +1,113 @@
+package com.example.translate.support;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.spi.DictCacheProvider;
+import com.example.translate.spi.LookupTier;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 以 {@link DictCacheProvider} 作为一层：按命名空间批量读取，后面各层查到的值通过
+ * {@link DictCacheProvider#putBatch(String, Map)} 回填。
+ * <p>
+ * 设计意图：CACHE、TABLE、RPC 共用同一缓存层，只是命名空间规则不同
+ * （字典键、{@link TableCacheKeySpec}、{@link RpcCacheKeySpec}）。
+ * 各命名空间单独吞错，一个命名空间失败不影响同批的其他声明。
+ * </p>
+ */
+public class DictCacheLookupTier implements LookupTier {
+
+    public static final String NAME = "cache";
+
+    private final DictCacheProvider cacheProvider;
+    private final Function<TranslateField, String> namespace;
+    private final String errorStage;
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+
+    /**
+     * @param cacheProvider 缓存提供者
+     * @param namespace 由注解元信息得到命名空间，返回空值的声明不使用本层
+     * @param errorStage 统计被吞异常时使用的阶段名，如 {@code cache.get}
+     * @throws IllegalArgumentException 参数为空时抛出
+     */
+    public DictCacheLookupTier(DictCacheProvider cacheProvider,
+                               Function<TranslateField, String> namespace,
+                               String errorStage) {
+        if (cacheProvider == null || namespace == null || errorStage == null) {
+            throw new IllegalArgumentException("cacheProvider, namespace and errorStage must not be null");
+        }
+        this.cacheProvider = cacheProvider;
+        this.namespace = namespace;
+        this.errorStage = errorStage;
+    }
+
+    /**
+     * 设置指标实现，用于统计被吞掉的异常。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Map<TranslateField, Map<Object, Object>> lookup(Map<TranslateField, Collection<Object>> keys,
+                                                           TranslateContext context) {
+        Map<TranslateField, Map<Object, Object>> result = new LinkedHashMap<>();
+        for (Map.Entry<TranslateField, Collection<Object>> request : keys.entrySet()) {
+            String name = namespace.apply(request.getKey());
+            if (name == null || name.isEmpty()) {
+                continue;
+            }
+            Map<Object, Object> cached;
+            try {
+                // 缓存提供者选择存储后端；未命中不应抛异常。
+                cached = cacheProvider.getBatch(name, request.getValue());
+            } catch (RuntimeException ex) {
+                metrics.recordError(errorStage, ex);
+                continue;
+            }
+            if (cached == null || cached.isEmpty()) {
+                continue;
+            }
+            // 只返回请求的键，且不受缓存返回的数值类型影响
+            NormalizedKeyMap<Object> normalized = NormalizedKeyMap.of(cached);
+            Map<Object, Object> column = new HashMap<>();
+            for (Object raw : request.getValue()) {
+                Object value = normalized.get(raw);
+                if (value != null) {
+                    column.put(raw, value);
+                }
+            }
+            result.put(request.getKey(), column);
+        }
+        return result;
+    }
+
+    @Override
+    public void backfill(Map<TranslateField, Map<Object, Object>> values) {
+        for (Map.Entry<TranslateField, Map<Object, Object>> column : values.entrySet()) {
+            String name = namespace.apply(column.getKey());
+            if (name == null || name.isEmpty() || column.getValue().isEmpty()) {
+                continue;
+            }
+            try {
+                cacheProvider.putBatch(name, column.getValue());
+            } catch (RuntimeException ex) {
+                // 回填失败只影响下次命中率
+                metrics.recordError(errorStage, ex);
+            }
+        }
+    }
+}
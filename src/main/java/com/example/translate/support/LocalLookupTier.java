@@ -0,0 +1,150 @@
+package com.example.translate.support;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.spi.LookupTier;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 进程内缓存层：按命名空间保存后面各层回填的值，在存活时间内直接返回。
+ * <p>
+ * 设计意图：作为分层查询的第一层，挡住对远端缓存与数据源的重复访问。
+ * 每个命名空间是一个 {@link BoundedCache}，满时清空：被清掉的 key 由下一层补齐并再次回填，
+ * 代价只是一次远端缓存访问。
+ * </p>
+ */
+public class LocalLookupTier implements LookupTier {
+
+    public static final String NAME = "local";
+
+    private final Function<TranslateField, String> namespace;
+    private final Map<String, BoundedCache<Object, Entry>> namespaces = new ConcurrentHashMap<>();
+
+    private volatile int maxEntriesPerNamespace = 10_000;
+    private volatile long ttlNanos = Duration.ofMinutes(1).toNanos();
+
+    /**
+     * @param namespace 由注解元信息得到命名空间，返回空值的声明不使用本层
+     * @throws IllegalArgumentException 参数为空时抛出
+     */
+    public LocalLookupTier(Function<TranslateField, String> namespace) {
+        if (namespace == null) {
+            throw new IllegalArgumentException("namespace must not be null");
+        }
+        this.namespace = namespace;
+    }
+
+    /**
+     * 设置条目的存活时间。
+     *
+     * @param ttl 存活时间，需为正数
+     * @throws IllegalArgumentException 为空或不为正数时抛出
+     */
+    public void setTtl(Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 设置单个命名空间的最大条目数。
+     *
+     * @param maxEntriesPerNamespace 最大条目数，需为正数
+     * @throws IllegalArgumentException 不为正数时抛出
+     */
+    public void setMaxEntriesPerNamespace(int maxEntriesPerNamespace) {
+        if (maxEntriesPerNamespace <= 0) {
+            throw new IllegalArgumentException("maxEntriesPerNamespace must be positive: " + maxEntriesPerNamespace);
+        }
+        this.maxEntriesPerNamespace = maxEntriesPerNamespace;
+        for (BoundedCache<Object, Entry> entries : namespaces.values()) {
+            entries.setMaxEntries(maxEntriesPerNamespace);
+        }
+    }
+
+    /**
+     * 清空全部条目，可作为字典刷新回调使用。
+     */
+    public void invalidate() {
+        namespaces.clear();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * 纯内存查找，不需要截止时间保护。
+     */
+    @Override
+    public boolean blocking() {
+        return false;
+    }
+
+    @Override
+    public Map<TranslateField, Map<Object, Object>> lookup(Map<TranslateField, Collection<Object>> keys,
+                                                           TranslateContext context) {
+        Map<TranslateField, Map<Object, Object>> result = new LinkedHashMap<>();
+        long now = System.nanoTime();
+        for (Map.Entry<TranslateField, Collection<Object>> request : keys.entrySet()) {
+            String name = namespace.apply(request.getKey());
+            BoundedCache<Object, Entry> entries = name == null ? null : namespaces.get(name);
+            if (entries == null) {
+                continue;
+            }
+            Map<Object, Object> column = new HashMap<>();
+            for (Object raw : request.getValue()) {
+                Object key = NumericKeys.normalize(raw);
+                Entry entry = entries.get(key);
+                if (entry == null) {
+                    continue;
+                }
+                if (now - entry.expiresAtNanos >= 0) {
+                    entries.remove(key, entry);
+                } else {
+                    column.put(raw, entry.value);
+                }
+            }
+            result.put(request.getKey(), column);
+        }
+        return result;
+    }
+
+    @Override
+    public void backfill(Map<TranslateField, Map<Object, Object>> values) {
+        long expiresAt = System.nanoTime() + ttlNanos;
+        for (Map.Entry<TranslateField, Map<Object, Object>> column : values.entrySet()) {
+            String name = namespace.apply(column.getKey());
+            if (name == null || name.isEmpty()) {
+                continue;
+            }
+            BoundedCache<Object, Entry> entries =
+                    namespaces.computeIfAbsent(name, k -> new BoundedCache<>(maxEntriesPerNamespace));
+            for (Map.Entry<Object, Object> value : column.getValue().entrySet()) {
+                if (value.getKey() == null || value.getValue() == null) {
+                    continue;
+                }
+                entries.put(NumericKeys.normalize(value.getKey()), new Entry(value.getValue(), expiresAt));
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAtNanos;
+
+        Entry(Object value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
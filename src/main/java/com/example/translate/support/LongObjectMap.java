@@ -0,0 +1,199 @@
+package com.example.translate.support;
+
+/**
+ * 以 {@code long} 为键的开放寻址哈希表。
+ * <p>
+ * 设计意图：翻译 key 绝大多数是数值 id，使用原始类型数组存放键，
+ * 避免 {@link Long} 装箱与 HashMap.Node 的分配，降低大批量 id 的去重与回填成本。
+ * 非线程安全，仅用于单次批量翻译内部。
+ * </p>
+ *
+ * @param <V> 值类型
+ */
+public final class LongObjectMap<V> {
+
+    // 占位值：区分“空槽”与“值为 null 的条目”
+    private static final Object NULL_VALUE = new Object();
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongObjectMap() {
+        this(16);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * 读取指定键的值。
+     *
+     * @param key 键
+     * @return 值；不存在时返回 {@code null}
+     */
+    public V get(long key) {
+        int slot = indexOf(key);
+        return slot < 0 ? null : unmask(values[slot]);
+    }
+
+    /**
+     * 判断键是否存在。
+     *
+     * @param key 键
+     * @return 是否存在
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 写入键值，覆盖已有值。
+     *
+     * @param key 键
+     * @param value 值，允许为 {@code null}
+     * @return 旧值；不存在时返回 {@code null}
+     */
+    public V put(long key, V value) {
+        int slot = slotFor(key);
+        Object previous = values[slot];
+        values[slot] = value == null ? NULL_VALUE : value;
+        if (previous == null) {
+            keys[slot] = key;
+            if (++size > resizeThreshold) {
+                rehash(keys.length << 1);
+            }
+            return null;
+        }
+        return unmask(previous);
+    }
+
+    /**
+     * 仅在键不存在时写入。
+     *
+     * @param key 键
+     * @param value 值，允许为 {@code null}
+     * @return {@code true} 表示本次写入成功
+     */
+    public boolean putIfAbsent(long key, V value) {
+        int slot = slotFor(key);
+        if (values[slot] != null) {
+            return false;
+        }
+        keys[slot] = key;
+        values[slot] = value == null ? NULL_VALUE : value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 遍历全部条目。
+     *
+     * @param consumer 条目消费者
+     */
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int slot = 0; slot < values.length; slot++) {
+            Object value = values[slot];
+            if (value != null) {
+                consumer.accept(keys[slot], unmask(value));
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        int slot = hash(key) & mask;
+        while (true) {
+            Object value = values[slot];
+            if (value == null) {
+                return -1;
+            }
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int slotFor(long key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != null) {
+                int target = slotFor(oldKeys[slot]);
+                keys[target] = oldKeys[slot];
+                values[target] = oldValues[slot];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >>> 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unmask(Object value) {
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // 负载因子 0.5，线性探测下保持短探测链
+        int capacity = 16;
+        while (capacity >>> 1 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    /**
+     * 条目消费者，避免遍历时装箱。
+     *
+     * @param <V> 值类型
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(long key, V value);
+    }
+}
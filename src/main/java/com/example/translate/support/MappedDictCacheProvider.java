@@ -0,0 +1,156 @@
+package com.example.translate.support;
+
+import com.example.translate.spi.DictCacheProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 基于内存映射文件的字典缓存：每个字典命名空间对应一个 {@link MappedDictionary}。
+ * <p>
+ * 设计意图：超大字典以接近内存的速度查找，几乎不占用堆，也不增加 GC 压力。
+ * 字典可从已有快照文件加载，也可由数据源流式写入（如 JDBC 逐行回调）；
+ * 刷新时先写临时文件，原子替换目标文件后再整体切换引用，读路径无需加锁，
+ * 正在进行的查询继续使用旧映射直至结束。
+ * </p>
+ * <p>
+ * 可单独作为 {@link DictCacheProvider} 使用，也可与其他实现串联（如先查映射字典、再查 Redis）。
+ * </p>
+ */
+public class MappedDictCacheProvider implements DictCacheProvider {
+
+    private final Map<String, MappedDictionary> dictionaries = new ConcurrentHashMap<>();
+    private final List<Runnable> refreshListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 数据来源：把全部条目写入给定的写入器。
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        /**
+         * @param writer 流式写入器
+         * @throws Exception 读取来源失败时抛出，本次刷新放弃，当前字典保持不变
+         */
+        void writeTo(MappedDictionary.Writer writer) throws Exception;
+    }
+
+    /**
+     * 映射已有的字典文件并切换。
+     *
+     * @param dictKey 字典命名空间
+     * @param file 字典文件
+     * @throws IOException 文件无法读取或格式不符时抛出，当前字典保持不变
+     */
+    public void load(String dictKey, Path file) throws IOException {
+        register(dictKey, MappedDictionary.open(file));
+    }
+
+    /**
+     * 由数据来源重建字典文件并切换。
+     * <p>
+     * 先写入同目录的临时文件，成功后原子替换 {@code file}；
+     * 旧文件的映射在不再被引用后由 GC 释放，Linux 等系统上替换不影响已有映射。
+     * </p>
+     *
+     * @param dictKey 字典命名空间
+     * @param file 字典文件
+     * @param source 数据来源
+     * @return 新字典的条目数
+     * @throws IOException 写入或替换失败时抛出，当前字典保持不变
+     */
+    public int rebuild(String dictKey, Path file, Source source) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (MappedDictionary.Writer writer = MappedDictionary.writer(temp)) {
+                source.writeTo(writer);
+            } catch (IOException | RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IOException("Failed to load dictionary " + dictKey, ex);
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        MappedDictionary dictionary = MappedDictionary.open(absolute);
+        register(dictKey, dictionary);
+        return dictionary.size();
+    }
+
+    /**
+     * 注册或替换字典。
+     *
+     * @param dictKey 字典命名空间
+     * @param dictionary 字典
+     * @throws IllegalArgumentException 参数为空时抛出
+     */
+    public void register(String dictKey, MappedDictionary dictionary) {
+        if (dictKey == null || dictKey.isEmpty() || dictionary == null) {
+            throw new IllegalArgumentException("dictKey and dictionary must not be empty");
+        }
+        dictionaries.put(dictKey, dictionary);
+        fireRefresh();
+    }
+
+    /**
+     * 移除字典，之后该命名空间的查询全部未命中。
+     *
+     * @param dictKey 字典命名空间
+     */
+    public void remove(String dictKey) {
+        if (dictionaries.remove(dictKey) != null) {
+            fireRefresh();
+        }
+    }
+
+    /**
+     * 字典注册、替换或移除后回调。
+     */
+    @Override
+    public void addRefreshListener(Runnable listener) {
+        if (listener != null) {
+            refreshListeners.add(listener);
+        }
+    }
+
+    private void fireRefresh() {
+        for (Runnable listener : refreshListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * @param dictKey 字典命名空间
+     * @return 当前字典；未注册时返回 {@code null}
+     */
+    public MappedDictionary getDictionary(String dictKey) {
+        return dictKey == null ? null : dictionaries.get(dictKey);
+    }
+
+    @Override
+    public Map<Object, Object> getBatch(String dictKey, Collection<Object> codes) {
+        MappedDictionary dictionary = getDictionary(dictKey);
+        if (dictionary == null || codes == null || codes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Object, Object> result = new HashMap<>();
+        for (Object code : codes) {
+            String value = dictionary.get(code);
+            if (value != null) {
+                result.put(code, value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.translate.support;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 内存映射文件上的只读字典：key -> UTF-8 字符串值。
+ * <p>
+ * 设计意图：数百万条目的大字典（如 SKU 编码 -> 商品名）放在堆内需要数 GB 并拉长 GC 停顿，
+ * 这里把条目与开放寻址的槽位表写入同一个文件后整体映射，查找只做几次内存读取，
+ * 堆上只保留一个 {@link MappedByteBuffer}；结构不可变，刷新时整体替换。
+ * key 按 {@link NumericKeys} 规范化：整数按 long 存取，其余按 {@code toString()} 存取。
+ * </p>
+ * <p>
+ * 文件布局：32 字节文件头（魔数、格式版本、条目数、槽位数、槽位表偏移），
+ * 随后为顺序写入的条目，最后为槽位表（每槽 4 字节哈希 + 8 字节条目偏移，偏移为 0 表示空槽）。
+ * 单个文件不超过 2GB。
+ * </p>
+ */
+public final class MappedDictionary {
+
+    private static final int MAGIC = 0x46544431; // "FTD1"
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int SLOT_SIZE = 12;
+    private static final byte LONG_KEY = 0;
+    private static final byte STRING_KEY = 1;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int size;
+    private final int mask;
+    private final int slotsOffset;
+
+    private MappedDictionary(Path path, MappedByteBuffer buffer, int size, int slotCount, int slotsOffset) {
+        this.path = path;
+        this.buffer = buffer;
+        this.size = size;
+        this.mask = slotCount - 1;
+        this.slotsOffset = slotsOffset;
+    }
+
+    /**
+     * 以只读方式映射字典文件。
+     *
+     * @param path 由 {@link #writer(Path)} 生成的文件
+     * @return 字典
+     * @throws IOException 文件无法读取或格式不符时抛出
+     */
+    public static MappedDictionary open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+                throw new IOException("Invalid dictionary file length: " + path + " (" + length + " bytes)");
+            }
+            // 映射在通道关闭后仍然有效
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+                throw new IOException("Not a dictionary file: " + path);
+            }
+            int size = buffer.getInt(8);
+            int slotCount = buffer.getInt(12);
+            long slotsOffset = buffer.getLong(16);
+            if (Integer.bitCount(slotCount) != 1 || slotsOffset + (long) slotCount * SLOT_SIZE != length) {
+                throw new IOException("Corrupted dictionary file: " + path);
+            }
+            return new MappedDictionary(path, buffer, size, slotCount, (int) slotsOffset);
+        }
+    }
+
+    /**
+     * 创建流式写入器，条目逐条追加，不在堆上保留 key 与值。
+     *
+     * @param path 目标文件，已存在时覆盖
+     * @return 写入器，{@link Writer#close()} 时写入槽位表
+     * @throws IOException 文件无法创建时抛出
+     */
+    public static Writer writer(Path path) throws IOException {
+        return new Writer(path);
+    }
+
+    /**
+     * 查找 key 对应的值。
+     *
+     * @param rawKey 原始 key
+     * @return 值；不存在时返回 {@code null}
+     */
+    public String get(Object rawKey) {
+        if (rawKey == null) {
+            return null;
+        }
+        Object key = NumericKeys.normalize(rawKey);
+        boolean numeric = key instanceof Long;
+        long longKey = numeric ? (Long) key : 0L;
+        byte[] stringKey = numeric ? null : key.toString().getBytes(StandardCharsets.UTF_8);
+        int hash = numeric ? hashLong(longKey) : hashString(key.toString());
+
+        int slot = hash & mask;
+        while (true) {
+            int slotPosition = slotsOffset + slot * SLOT_SIZE;
+            long entry = buffer.getLong(slotPosition + 4);
+            if (entry == 0L) {
+                return null;
+            }
+            if (buffer.getInt(slotPosition) == hash) {
+                int position = (int) entry;
+                byte type = buffer.get(position);
+                int valuePosition = numeric
+                        ? matchLong(position, type, longKey)
+                        : matchString(position, type, stringKey);
+                if (valuePosition > 0) {
+                    return readString(valuePosition);
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return 命中时返回值的起始位置，否则返回 -1
+     */
+    private int matchLong(int position, byte type, long key) {
+        if (type != LONG_KEY || buffer.getLong(position + 1) != key) {
+            return -1;
+        }
+        return position + 9;
+    }
+
+    private int matchString(int position, byte type, byte[] key) {
+        if (type != STRING_KEY) {
+            return -1;
+        }
+        int length = buffer.getInt(position + 1);
+        if (length != key.length) {
+            return -1;
+        }
+        int start = position + 5;
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != key[i]) {
+                return -1;
+            }
+        }
+        return start + length;
+    }
+
+    private String readString(int position) {
+        int length = buffer.getInt(position);
+        byte[] bytes = new byte[length];
+        buffer.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int hashLong(long key) {
+        return mix(Long.hashCode(key));
+    }
+
+    private static int hashString(String key) {
+        // String.hashCode 由规范定义，跨进程稳定，可写入文件
+        return mix(key.hashCode() * 31 + STRING_KEY);
+    }
+
+    /**
+     * murmur3 终结混合：连续 id 与相似编码也能均匀分布，线性探测不会形成长簇。
+     */
+    private static int mix(int hash) {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * 流式写入器：条目顺序追加到文件，关闭时按条目数建立槽位表并写入文件头。
+     * <p>
+     * 写入期间堆上只保留每个条目的哈希与偏移（每条 12 字节）；
+     * 同一 key 写入多次时以先写入者为准。
+     * </p>
+     */
+    public static final class Writer implements Closeable {
+        private final Path path;
+        private final DataOutputStream out;
+        private int[] hashes = new int[1024];
+        private long[] offsets = new long[1024];
+        private int count;
+        private long position;
+        private boolean closed;
+
+        private Writer(Path path) throws IOException {
+            this.path = path;
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), 1 << 16));
+            out.write(new byte[HEADER_SIZE]);
+            this.position = HEADER_SIZE;
+        }
+
+        /**
+         * 追加一个条目；key 或值为空时忽略。
+         *
+         * @param rawKey 原始 key
+         * @param value 值，按 {@code toString()} 保存
+         * @throws IOException 写入失败时抛出
+         */
+        public void put(Object rawKey, Object value) throws IOException {
+            if (closed) {
+                throw new IllegalStateException("Writer already closed");
+            }
+            if (rawKey == null || value == null) {
+                return;
+            }
+            Object key = NumericKeys.normalize(rawKey);
+            long offset = position;
+            int hash;
+            if (key instanceof Long) {
+                long longKey = (Long) key;
+                hash = hashLong(longKey);
+                out.writeByte(LONG_KEY);
+                out.writeLong(longKey);
+                position += 9;
+            } else {
+                String stringKey = key.toString();
+                byte[] bytes = stringKey.getBytes(StandardCharsets.UTF_8);
+                hash = hashString(stringKey);
+                out.writeByte(STRING_KEY);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+                position += 5 + bytes.length;
+            }
+            byte[] valueBytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(valueBytes.length);
+            out.write(valueBytes);
+            position += 4 + valueBytes.length;
+
+            if (count == hashes.length) {
+                hashes = Arrays.copyOf(hashes, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            hashes[count] = hash;
+            offsets[count] = offset;
+            count++;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        /**
+         * 写入槽位表与文件头并刷盘。
+         *
+         * @throws IOException 写入失败或文件超过 2GB 时抛出
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            out.close();
+            int slotCount = slotCountFor(count);
+            long slotsOffset = position;
+            long length = slotsOffset + (long) slotCount * SLOT_SIZE;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Dictionary file exceeds 2GB: " + path);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // 槽位表直接写入映射区域，不在堆上分配
+                MappedByteBuffer slots = channel.map(FileChannel.MapMode.READ_WRITE, slotsOffset, (long) slotCount * SLOT_SIZE);
+                int mask = slotCount - 1;
+                for (int i = 0; i < count; i++) {
+                    int slot = hashes[i] & mask;
+                    while (slots.getLong(slot * SLOT_SIZE + 4) != 0L) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slots.putInt(slot * SLOT_SIZE, hashes[i]);
+                    slots.putLong(slot * SLOT_SIZE + 4, offsets[i]);
+                }
+                slots.force();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(FORMAT).putInt(count).putInt(slotCount).putLong(slotsOffset).putLong(0L);
+                header.flip();
+                channel.write(header, 0);
+                channel.force(true);
+            }
+            hashes = null;
+            offsets = null;
+        }
+
+        private static int slotCountFor(int entries) {
+            // 负载因子不超过 0.5，探测链保持很短
+            int capacity = 2;
+            while (capacity < entries * 2L) {
+                capacity <<= 1;
+            }
+            return capacity;
+        }
+    }
+}
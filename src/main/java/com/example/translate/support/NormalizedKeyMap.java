@@ -0,0 +1,85 @@
+package com.example.translate.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 按规范化 key 存取的结果表。
+ * <p>
+ * 设计意图：整数 key 存入 {@link LongObjectMap}，其余 key 存入 HashMap，
+ * 使 {@code Integer 1}、{@code Long 1}、{@code BigDecimal 1} 命中同一条目，
+ * 修复 VO 字段类型与 JDBC/RPC 返回类型不一致导致的“静默未命中”。
+ * 非线程安全，仅用于单次批量翻译内部。
+ * </p>
+ *
+ * @param <V> 值类型
+ */
+public final class NormalizedKeyMap<V> {
+
+    private final LongObjectMap<V> longs;
+    private final Map<Object, V> others = new HashMap<>();
+
+    public NormalizedKeyMap() {
+        this(16);
+    }
+
+    public NormalizedKeyMap(int expectedSize) {
+        this.longs = new LongObjectMap<>(expectedSize);
+    }
+
+    /**
+     * 由普通结果表构建规范化视图。
+     *
+     * @param source 结果表
+     * @param <V> 值类型
+     * @return 规范化结果表
+     */
+    public static <V> NormalizedKeyMap<V> of(Map<?, ? extends V> source) {
+        NormalizedKeyMap<V> map = new NormalizedKeyMap<>(source.size());
+        for (Map.Entry<?, ? extends V> entry : source.entrySet()) {
+            map.put(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+
+    /**
+     * 按规范化 key 读取。
+     *
+     * @param key 原始 key
+     * @return 值；不存在时返回 {@code null}
+     */
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        if (NumericKeys.isIntegral(key)) {
+            return longs.get(NumericKeys.longValue(key));
+        }
+        return others.get(key);
+    }
+
+    /**
+     * 按规范化 key 写入，覆盖已有值。
+     *
+     * @param key 原始 key，{@code null} 将被忽略
+     * @param value 值
+     */
+    public void put(Object key, V value) {
+        if (key == null) {
+            return;
+        }
+        if (NumericKeys.isIntegral(key)) {
+            longs.put(NumericKeys.longValue(key), value);
+            return;
+        }
+        others.put(key, value);
+    }
+
+    public int size() {
+        return longs.size() + others.size();
+    }
+
+    public boolean isEmpty() {
+        return longs.isEmpty() && others.isEmpty();
+    }
+}
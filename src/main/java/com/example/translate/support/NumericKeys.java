@@ -0,0 +1,109 @@
+package com.example.translate.support;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 翻译 key 的数值规范化工具。
+ * <p>
+ * 设计意图：VO 中的 {@code Integer}、JDBC 返回的 {@code Long}/{@code BigDecimal}
+ * 表示同一个 id 时应视为同一 key。整数语义的数值统一按 {@code long} 比较，
+ * 其余类型（含字符串编码）保持原样，避免 "01" 与 1 之类的误匹配。
+ * </p>
+ */
+public final class NumericKeys {
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private NumericKeys() {
+    }
+
+    /**
+     * 判断是否为可无损转换为 {@code long} 的整数值。
+     *
+     * @param value 原始值
+     * @return 是否为整数 key
+     */
+    public static boolean isIntegral(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return true;
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() < Long.SIZE;
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            if (decimal.scale() > 0 && decimal.stripTrailingZeros().scale() > 0) {
+                return false;
+            }
+            return decimal.compareTo(LONG_MIN) >= 0 && decimal.compareTo(LONG_MAX) <= 0;
+        }
+        return false;
+    }
+
+    /**
+     * 读取整数 key 的 {@code long} 值，调用前需确认 {@link #isIntegral(Object)}。
+     *
+     * @param value 整数值
+     * @return long 值
+     */
+    public static long longValue(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * 规范化 key：整数统一为 {@link Long}，其余原样返回。
+     *
+     * @param value 原始值
+     * @return 规范化后的 key
+     */
+    public static Object normalize(Object value) {
+        if (value instanceof Long) {
+            return value;
+        }
+        return isIntegral(value) ? Long.valueOf(longValue(value)) : value;
+    }
+
+    /**
+     * 按规范化语义去重，并保留每个 key 首次出现的原始值。
+     * <p>
+     * 设计意图：整数 key 用原始类型哈希表去重，避免大批量 id 的装箱哈希开销；
+     * 返回值直接作为下游批量查询的参数。
+     * </p>
+     *
+     * @param values 原始值集合（可包含 null）
+     * @return 去重后的非空原始值
+     */
+    public static List<Object> distinct(Collection<?> values) {
+        List<Object> result = new ArrayList<>(values.size());
+        LongObjectMap<Boolean> seenLongs = null;
+        Set<Object> seenOthers = null;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (isIntegral(value)) {
+                if (seenLongs == null) {
+                    seenLongs = new LongObjectMap<>(values.size());
+                }
+                if (seenLongs.putIfAbsent(longValue(value), Boolean.TRUE)) {
+                    result.add(value);
+                }
+                continue;
+            }
+            if (seenOthers == null) {
+                seenOthers = new HashSet<>();
+            }
+            if (seenOthers.add(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.translate.support;
+
+/**
+ * RPC 翻译缓存 key 规范。
+ * <p>
+ * 设计意图：RPC 结果写入共享缓存时按服务、方法与参数分组，避免不同接口的结果串用。
+ * </p>
+ */
+public final class RpcCacheKeySpec {
+
+    /**
+     * RPC 翻译前缀。
+     * <p>
+     * 命名空间格式：rpc:{service}:{method}:{param}
+     * 示例：rpc:user:names::1001 -> "Alice"
+     * </p>
+     */
+    public static final String RPC_PREFIX = "rpc";
+
+    private RpcCacheKeySpec() {
+    }
+
+    /**
+     * 构建 RPC 翻译缓存命名空间。
+     *
+     * @param service 服务标识
+     * @param method 方法
+     * @param param 附加参数
+     * @return 命名空间
+     */
+    public static String namespace(String service, String method, String param) {
+        return RPC_PREFIX + ":" + service + ":" + method + ":" + param;
+    }
+}
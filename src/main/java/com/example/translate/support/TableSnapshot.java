@@ -0,0 +1,184 @@
+package com.example.translate.support;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * 表快照的不可变内存结构。
+ * <p>
+ * 设计意图：用开放寻址的平铺数组保存 key -> 多列值，
+ * 避免每个条目一个 HashMap.Node 的额外开销；
+ * 结构不可变，刷新时整体替换，读路径无需加锁。
+ * key 按 {@link NumericKeys} 规范化存取，整数 id 不受 JDBC 返回类型影响。
+ * </p>
+ */
+public final class TableSnapshot {
+
+    private final Object[] keys;
+    private final Object[][] columns;
+    private final int mask;
+    private final int size;
+    private final Object version;
+
+    private TableSnapshot(Object[] keys, Object[][] columns, int size, Object version) {
+        this.keys = keys;
+        this.columns = columns;
+        this.mask = keys.length - 1;
+        this.size = size;
+        this.version = version;
+    }
+
+    /**
+     * 由全量行数据构建快照。
+     *
+     * @param rows key -> 多列值（列顺序与配置一致）
+     * @param columnCount 值列数量
+     * @param version 本次加载观察到的版本
+     * @return 快照
+     */
+    public static TableSnapshot of(Map<Object, Object[]> rows, int columnCount, Object version) {
+        int capacity = tableSizeFor(rows.size());
+        Object[] keys = new Object[capacity];
+        Object[][] columns = new Object[columnCount][capacity];
+        for (Map.Entry<Object, Object[]> entry : rows.entrySet()) {
+            insert(keys, columns, entry.getKey(), entry.getValue());
+        }
+        return new TableSnapshot(keys, columns, rows.size(), version);
+    }
+
+    /**
+     * 合并增量行，生成新快照；当前快照保持不变。
+     *
+     * @param delta 新增或变更的行
+     * @param newVersion 增量中观察到的最大版本
+     * @return 新快照
+     */
+    public TableSnapshot merge(Map<Object, Object[]> delta, Object newVersion) {
+        if (delta.isEmpty()) {
+            return Objects.equals(version, newVersion) ? this : new TableSnapshot(keys, columns, size, newVersion);
+        }
+        int capacity = tableSizeFor(size + delta.size());
+        Object[] newKeys = new Object[capacity];
+        Object[][] newColumns = new Object[columns.length][capacity];
+        Object[] row = new Object[columns.length];
+        int count = 0;
+        NormalizedKeyMap<Boolean> changed = new NormalizedKeyMap<>(delta.size());
+        for (Object key : delta.keySet()) {
+            changed.put(key, Boolean.TRUE);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            Object key = keys[slot];
+            if (key == null || changed.get(key) != null) {
+                continue;
+            }
+            for (int c = 0; c < columns.length; c++) {
+                row[c] = columns[c][slot];
+            }
+            insert(newKeys, newColumns, key, row);
+            count++;
+        }
+        for (Map.Entry<Object, Object[]> entry : delta.entrySet()) {
+            insert(newKeys, newColumns, entry.getKey(), entry.getValue());
+            count++;
+        }
+        return new TableSnapshot(newKeys, newColumns, count, newVersion);
+    }
+
+    /**
+     * 读取指定 key 的某一列。
+     *
+     * @param key 键值
+     * @param column 列下标
+     * @return 列值；不存在时返回 {@code null}
+     */
+    public Object get(Object key, int column) {
+        int slot = indexOf(key);
+        return slot < 0 ? null : columns[column][slot];
+    }
+
+    /**
+     * 判断快照中是否存在该 key。
+     *
+     * @param key 键值
+     * @return 是否存在
+     */
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 遍历全部行，供持久化等只读场景使用。
+     *
+     * @param action 接收规范化 key 与该行各列值（每行一个新数组）
+     */
+    public void forEach(BiConsumer<Object, Object[]> action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            Object key = keys[slot];
+            if (key == null) {
+                continue;
+            }
+            Object[] row = new Object[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                row[c] = columns[c][slot];
+            }
+            action.accept(key, row);
+        }
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Object getVersion() {
+        return version;
+    }
+
+    private int indexOf(Object rawKey) {
+        if (rawKey == null) {
+            return -1;
+        }
+        Object key = NumericKeys.normalize(rawKey);
+        int slot = spread(key.hashCode()) & mask;
+        while (true) {
+            Object existing = keys[slot];
+            if (existing == null) {
+                return -1;
+            }
+            if (existing.equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static void insert(Object[] keys, Object[][] columns, Object rawKey, Object[] row) {
+        Object key = NumericKeys.normalize(rawKey);
+        int mask = keys.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        for (int c = 0; c < columns.length; c++) {
+            columns[c][slot] = row[c];
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        // 负载因子不超过 0.5，保证线性探测的短探测链
+        int capacity = 2;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
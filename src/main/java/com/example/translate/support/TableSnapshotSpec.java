@@ -0,0 +1,140 @@
+package com.example.translate.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 表快照模式配置。
+ * <p>
+ * 设计意图：对 sys_region、sys_dept 这类小而稳定的参考表，
+ * 一次性全量加载 keyColumn -> valueColumn 映射到内存，
+ * 之后的翻译全部走内存，不再产生 IN 查询。
+ * 变更检测二选一：{@code versionColumn}（如 updated_at）做增量拉取，
+ * 或 {@code versionQuery} 返回的版本值变化时全量重载。
+ * </p>
+ */
+public class TableSnapshotSpec {
+
+    private String table;
+    private String keyColumn;
+    private List<String> valueColumns = new ArrayList<>();
+    private String versionColumn;
+    private String versionQuery;
+    private Duration refreshInterval = Duration.ofMinutes(1);
+    private Duration fullReloadInterval = Duration.ofHours(1);
+    private int fetchSize = 1000;
+
+    public TableSnapshotSpec() {
+    }
+
+    public TableSnapshotSpec(String table, String keyColumn, String... valueColumns) {
+        this.table = table;
+        this.keyColumn = keyColumn;
+        Collections.addAll(this.valueColumns, valueColumns);
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public void setTable(String table) {
+        this.table = table;
+    }
+
+    public String getKeyColumn() {
+        return keyColumn;
+    }
+
+    public void setKeyColumn(String keyColumn) {
+        this.keyColumn = keyColumn;
+    }
+
+    /**
+     * 快照中保存的值列；翻译声明的 valueColumn 需包含在内才会命中快照。
+     *
+     * @return 值列
+     */
+    public List<String> getValueColumns() {
+        return valueColumns;
+    }
+
+    public void setValueColumns(List<String> valueColumns) {
+        this.valueColumns = valueColumns == null ? new ArrayList<>() : new ArrayList<>(valueColumns);
+    }
+
+    /**
+     * 单调递增的版本列（如 updated_at）。
+     * <p>
+     * 设计意图：刷新时只拉取 {@code versionColumn >= 上次最大值} 的行并合并，
+     * 与上次最大值同一时间戳的后续提交不会遗漏，重读的未变化行不触发刷新通知。
+     * 增量拉取无法感知删除，删除行由 {@link #getFullReloadInterval()} 的定期全量重载清理。
+     * </p>
+     *
+     * @return 版本列；为空表示不做增量刷新
+     */
+    public String getVersionColumn() {
+        return versionColumn;
+    }
+
+    public void setVersionColumn(String versionColumn) {
+        this.versionColumn = versionColumn;
+    }
+
+    /**
+     * 返回单值版本号的查询语句（如 {@code select max(version) from dict_version where name = 'region'}）。
+     * <p>
+     * 设计意图：由业务自行定义变更信号；版本值变化时全量重载。
+     * 该语句来自配置而非注解，由接入方保证其安全性。
+     * </p>
+     *
+     * @return 版本查询；为空表示不使用
+     */
+    public String getVersionQuery() {
+        return versionQuery;
+    }
+
+    public void setVersionQuery(String versionQuery) {
+        this.versionQuery = versionQuery;
+    }
+
+    /**
+     * 变更检测间隔。
+     *
+     * @return 检测间隔
+     */
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * 强制全量重载间隔，用于清理增量刷新无法感知的删除，默认 1 小时。
+     *
+     * @return 全量重载间隔；为空表示不强制（删除行将一直保留在快照中）
+     */
+    public Duration getFullReloadInterval() {
+        return fullReloadInterval;
+    }
+
+    public void setFullReloadInterval(Duration fullReloadInterval) {
+        this.fullReloadInterval = fullReloadInterval;
+    }
+
+    /**
+     * 流式加载时的 JDBC fetchSize。
+     *
+     * @return fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+}
@@ -0,0 +1,383 @@
+package com.example.translate.support;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.context.TranslateContext;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.spi.LookupTier;
+import com.example.translate.spi.TierPolicy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 分层查询编排：按顺序访问各层，每层只查询前面各层未命中的 key，并把后面各层查到的值回填给前面的层。
+ * <p>
+ * 设计意图：内置处理器都表达为层的组合（如本地缓存 → {@code DictCacheProvider} → 数据库 / RPC），
+ * 多级缓存、回填、按层超时与拆批只实现一次。
+ * 某层异常或超时时其 key 继续交给下一层；已超过翻译截止时间时不再访问后续各层。
+ * </p>
+ * <p>
+ * 配置了超时的层，以及存在翻译截止时间时可能阻塞的层（{@link LookupTier#blocking()}），
+ * 在线程池中执行，调用线程最多等待超时时间与剩余翻译预算中较短者；其余情况在调用线程中直接执行。回填在调用线程中同步进行，慢速层应在实现内部异步写入。
+ * </p>
+ */
+public class TieredLookup implements AutoCloseable {
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+
+    /**
+     * 自建线程池的线程数上限。
+     */
+    public static final int DEFAULT_MAX_THREADS = 64;
+
+    private final List<LookupTier> tiers;
+    private final Map<String, TierPolicy> policies = new ConcurrentHashMap<>();
+
+    private volatile ExecutorService executor;
+    // 首次需要时自建的线程池，由 close() 关闭
+    private ExecutorService ownedExecutor;
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+
+    /**
+     * @param tiers 按访问顺序排列的层，{@code null} 元素会被跳过
+     * @throws IllegalArgumentException 没有任何层时抛出
+     */
+    public TieredLookup(List<? extends LookupTier> tiers) {
+        List<LookupTier> present = new ArrayList<>();
+        if (tiers != null) {
+            for (LookupTier tier : tiers) {
+                if (tier != null) {
+                    present.add(tier);
+                }
+            }
+        }
+        if (present.isEmpty()) {
+            throw new IllegalArgumentException("Tiered lookup requires at least one tier");
+        }
+        this.tiers = Collections.unmodifiableList(present);
+    }
+
+    public List<LookupTier> getTiers() {
+        return tiers;
+    }
+
+    /**
+     * 设置某一层的访问策略。
+     *
+     * @param tierName 层名称
+     * @param policy 策略；为空时恢复为不限时、不拆批
+     * @throws IllegalArgumentException 不存在该名称的层或策略取值为负时抛出
+     */
+    public void setPolicy(String tierName, TierPolicy policy) {
+        boolean known = false;
+        for (LookupTier tier : tiers) {
+            known |= tier.name().equals(tierName);
+        }
+        if (!known) {
+            throw new IllegalArgumentException("Unknown tier: " + tierName);
+        }
+        if (policy == null) {
+            policies.remove(tierName);
+            return;
+        }
+        Duration timeout = policy.getTimeout();
+        if (policy.getBatchSize() < 0 || (timeout != null && timeout.isNegative())) {
+            throw new IllegalArgumentException("Invalid policy for tier " + tierName);
+        }
+        policies.put(tierName, policy);
+    }
+
+    /**
+     * @param tierName 层名称
+     * @return 该层的策略；未配置时返回 {@code null}
+     */
+    public TierPolicy getPolicy(String tierName) {
+        return tierName == null ? null : policies.get(tierName);
+    }
+
+    /**
+     * 设置执行带超时的层所用的线程池，其生命周期由调用方管理。
+     * <p>
+     * 未设置时首次需要时自建有界线程池（最多 {@link #DEFAULT_MAX_THREADS} 个守护线程，不排队），
+     * 由 {@link #close()} 关闭。无法响应中断的慢调用会一直占用线程，线程池必须有界：
+     * 线程耗尽时提交被拒绝，按该层失败处理，key 继续交给下一层。
+     * </p>
+     *
+     * @param executor 线程池
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 设置指标实现，用于统计各层被吞掉的异常与超时。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+    }
+
+    /**
+     * 逐层查询。
+     *
+     * @param rawValues 原始 key
+     * @param metas 同一合并分组下的注解元信息
+     * @param context 当前翻译上下文
+     * @return 注解元信息 -> (原值 -> 翻译值)；缺失键表示各层均未命中
+     */
+    public Map<TranslateField, Map<Object, Object>> lookup(Collection<Object> rawValues,
+                                                           List<TranslateField> metas,
+                                                           TranslateContext context) {
+        Map<TranslateField, Map<Object, Object>> result = new LinkedHashMap<>();
+        if (rawValues == null || rawValues.isEmpty() || metas == null || metas.isEmpty()) {
+            return result;
+        }
+        List<Object> keys = NumericKeys.distinct(rawValues);
+        Map<TranslateField, Collection<Object>> pending = new LinkedHashMap<>();
+        for (TranslateField meta : metas) {
+            result.put(meta, new HashMap<>());
+            pending.put(meta, keys);
+        }
+
+        // 每层命中的值，用于回填前面的层
+        List<Map<TranslateField, Map<Object, Object>>> hitsByTier = new ArrayList<>(tiers.size());
+        for (LookupTier tier : tiers) {
+            pending.values().removeIf(Collection::isEmpty);
+            if (pending.isEmpty() || (context != null && context.isDeadlineExceeded())) {
+                break;
+            }
+            Map<TranslateField, Map<Object, Object>> found = query(tier, pending, context);
+            Map<TranslateField, Map<Object, Object>> hits = new LinkedHashMap<>();
+            for (Map.Entry<TranslateField, Collection<Object>> entry : pending.entrySet()) {
+                Map<Object, Object> column = found.get(entry.getKey());
+                if (column == null || column.isEmpty()) {
+                    continue;
+                }
+                Map<Object, Object> columnHits = new HashMap<>();
+                entry.setValue(collect(entry.getValue(), column, columnHits));
+                if (!columnHits.isEmpty()) {
+                    result.get(entry.getKey()).putAll(columnHits);
+                    hits.put(entry.getKey(), columnHits);
+                }
+            }
+            hitsByTier.add(hits);
+        }
+
+        backfill(hitsByTier);
+        return result;
+    }
+
+    /**
+     * 每层只回填后面各层查到的值，它们正是该层未命中的 key。
+     */
+    private void backfill(List<Map<TranslateField, Map<Object, Object>>> hitsByTier) {
+        Map<TranslateField, Map<Object, Object>> below = new LinkedHashMap<>();
+        for (int i = hitsByTier.size() - 1; i >= 0; i--) {
+            if (!below.isEmpty()) {
+                LookupTier tier = tiers.get(i);
+                try {
+                    tier.backfill(copyOf(below));
+                } catch (RuntimeException ex) {
+                    // 回填失败不影响本次结果
+                    metrics.recordError("tier." + tier.name(), ex);
+                }
+            }
+            for (Map.Entry<TranslateField, Map<Object, Object>> entry : hitsByTier.get(i).entrySet()) {
+                below.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).putAll(entry.getValue());
+            }
+        }
+    }
+
+    private Map<TranslateField, Map<Object, Object>> query(LookupTier tier,
+                                                           Map<TranslateField, Collection<Object>> pending,
+                                                           TranslateContext context) {
+        TierPolicy policy = policies.get(tier.name());
+        int batchSize = policy == null ? 0 : policy.getBatchSize();
+        Duration timeout = policy == null ? null : policy.getTimeout();
+
+        Set<Object> union = new LinkedHashSet<>();
+        for (Collection<Object> keys : pending.values()) {
+            union.addAll(keys);
+        }
+        if (batchSize <= 0 || union.size() <= batchSize) {
+            return call(tier, new LinkedHashMap<>(pending), timeout, context);
+        }
+
+        // 拆批：同一批 key 的全部声明一起查询，保持层内的合并能力
+        Map<TranslateField, Map<Object, Object>> merged = new HashMap<>();
+        List<Object> all = new ArrayList<>(union);
+        for (int i = 0; i < all.size(); i += batchSize) {
+            if (context != null && context.isDeadlineExceeded()) {
+                break;
+            }
+            Set<Object> chunk = new HashSet<>(all.subList(i, Math.min(i + batchSize, all.size())));
+            Map<TranslateField, Collection<Object>> request = new LinkedHashMap<>();
+            for (Map.Entry<TranslateField, Collection<Object>> entry : pending.entrySet()) {
+                List<Object> keys = new ArrayList<>();
+                for (Object key : entry.getValue()) {
+                    if (chunk.contains(key)) {
+                        keys.add(key);
+                    }
+                }
+                if (!keys.isEmpty()) {
+                    request.put(entry.getKey(), keys);
+                }
+            }
+            Map<TranslateField, Map<Object, Object>> found = call(tier, request, timeout, context);
+            for (Map.Entry<TranslateField, Map<Object, Object>> entry : found.entrySet()) {
+                if (entry.getValue() != null) {
+                    merged.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).putAll(entry.getValue());
+                }
+            }
+        }
+        return merged;
+    }
+
+    private Map<TranslateField, Map<Object, Object>> call(LookupTier tier,
+                                                          Map<TranslateField, Collection<Object>> request,
+                                                          Duration timeout,
+                                                          TranslateContext context) {
+        boolean deadlineBound = context != null && context.hasDeadline() && tier.blocking();
+        if (timeout == null && !deadlineBound) {
+            try {
+                return nonNull(tier.lookup(request, context));
+            } catch (RuntimeException ex) {
+                // 该层失败时 key 交给下一层
+                metrics.recordError("tier." + tier.name(), ex);
+                return Collections.emptyMap();
+            }
+        }
+        TranslateContext snapshot = context == null ? null : context.snapshot();
+        Future<Map<TranslateField, Map<Object, Object>>> future;
+        try {
+            future = executor().submit(() -> TranslateContext.callWith(snapshot, () -> tier.lookup(request, snapshot)));
+        } catch (RuntimeException ex) {
+            // 线程池拒绝时按该层失败处理
+            metrics.recordError("tier." + tier.name(), ex);
+            return Collections.emptyMap();
+        }
+        long nanos = timeout == null ? Long.MAX_VALUE : timeout.toNanos();
+        if (context != null && context.hasDeadline()) {
+            nanos = Math.min(nanos, context.remainingNanos());
+        }
+        try {
+            return nonNull(future.get(Math.max(0, nanos), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            metrics.recordError("tier." + tier.name(), ex);
+        } catch (ExecutionException ex) {
+            metrics.recordError("tier." + tier.name(), ex.getCause() == null ? ex : ex.getCause());
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return Collections.emptyMap();
+    }
+
+    /**
+     * 把命中的结果写入 {@code hits}（以调用方的原值为键），返回仍未命中的 key。
+     */
+    private Collection<Object> collect(Collection<Object> pending,
+                                       Map<Object, Object> found,
+                                       Map<Object, Object> hits) {
+        NormalizedKeyMap<Object> normalized = null;
+        List<Object> misses = new ArrayList<>();
+        for (Object raw : pending) {
+            Object value = found.get(raw);
+            if (value == null && NumericKeys.isIntegral(raw)) {
+                // 下游返回的 key 类型可能与字段类型不同，按数值语义再查一次
+                if (normalized == null) {
+                    normalized = NormalizedKeyMap.of(found);
+                }
+                value = normalized.get(raw);
+            }
+            if (value == null) {
+                misses.add(raw);
+            } else {
+                hits.put(raw, value);
+            }
+        }
+        return misses;
+    }
+
+    private static Map<TranslateField, Map<Object, Object>> nonNull(Map<TranslateField, Map<Object, Object>> found) {
+        return found == null ? Collections.emptyMap() : found;
+    }
+
+    private static Map<TranslateField, Map<Object, Object>> copyOf(Map<TranslateField, Map<Object, Object>> values) {
+        Map<TranslateField, Map<Object, Object>> copy = new LinkedHashMap<>();
+        for (Map.Entry<TranslateField, Map<Object, Object>> entry : values.entrySet()) {
+            copy.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+        return copy;
+    }
+
+    /**
+     * 关闭自建的线程池；通过 {@link #setExecutor(ExecutorService)} 提供的线程池不受影响。
+     */
+    @Override
+    public synchronized void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+            if (executor == ownedExecutor) {
+                executor = null;
+            }
+            ownedExecutor = null;
+        }
+    }
+
+    private ExecutorService executor() {
+        ExecutorService current = executor;
+        if (current == null) {
+            synchronized (this) {
+                current = executor;
+                if (current == null) {
+                    current = newBoundedExecutor(DEFAULT_MAX_THREADS);
+                    ownedExecutor = current;
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 创建执行层查询的有界线程池：空闲线程回收，线程耗尽时直接拒绝而非排队等待。
+     *
+     * @param maxThreads 线程数上限
+     * @return 线程池
+     * @throws IllegalArgumentException 上限不为正数时抛出
+     */
+    public static ExecutorService newBoundedExecutor(int maxThreads) {
+        if (maxThreads <= 0) {
+            throw new IllegalArgumentException("maxThreads must be positive: " + maxThreads);
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "translate-tier-" + THREAD_SEQ.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
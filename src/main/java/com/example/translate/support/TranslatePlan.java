@@ -0,0 +1,472 @@
+package com.example.translate.support;
+
+import com.example.translate.annotation.TranslateField;
+import com.example.translate.annotation.TranslateType;
+import com.example.translate.handler.TranslateHandler;
+import com.example.translate.metrics.TranslateMetrics;
+import com.example.translate.metrics.TranslateSignal;
+import com.example.translate.registry.TranslateHandlerRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 单个类的翻译计划：源字段、目标字段、处理器与需要递归的普通字段。
+ * <p>
+ * 设计意图：反射扫描、目标字段与处理器解析只在首次遇到该类时进行一次，
+ * 之后每个对象只按计划读写字段；计划同时作为结果记忆的类维度标识。
+ * </p>
+ * <p>
+ * 源字段本身是另一条声明的目标字段时构成链式翻译（如 {@code deptId -> managerId -> managerName}），
+ * 按依赖关系分为多个阶段：阶段 0 的源字段不依赖其他翻译，阶段 k 的源字段由阶段 k-1 及之前写入。
+ * 循环依赖在首个扫描到的源字段处断开，该字段按阶段 0 处理。
+ * </p>
+ */
+final class TranslatePlan {
+
+    private final Class<?> type;
+    private final List<SourceBinding> sources;
+    private final List<List<SourceBinding>> stages;
+    private final List<Field> nestedFields;
+    private final int targetCount;
+
+    private TranslatePlan(Class<?> type,
+                          List<SourceBinding> sources,
+                          List<List<SourceBinding>> stages,
+                          List<Field> nestedFields,
+                          int targetCount) {
+        this.type = type;
+        this.sources = sources;
+        this.stages = stages;
+        this.nestedFields = nestedFields;
+        this.targetCount = targetCount;
+    }
+
+    /**
+     * 扫描类及其父类的实例字段构建计划。
+     * <p>
+     * 目标字段为空或不存在、或没有可用处理器的声明在此处丢弃，与运行期跳过的行为一致。
+     * 集合或数组源字段的目标无法容纳多值结果（见 {@link ValueShape}）时同样丢弃，
+     * 并以 {@code executor.plan} 阶段报告，避免运行期写入失败后目标字段为空却被视为已翻译。
+     * </p>
+     *
+     * @param type 类型
+     * @param registry 处理器注册表
+     * @param metrics 指标实现，用于报告被丢弃的声明
+     * @return 翻译计划
+     */
+    static TranslatePlan build(Class<?> type, TranslateHandlerRegistry registry, TranslateMetrics metrics) {
+        List<SourceBinding> sources = new ArrayList<>();
+        Set<String> targetNames = new HashSet<>();
+        List<Field> nestedFields = new ArrayList<>();
+        int slot = 0;
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                TranslateField[] metas = field.getAnnotationsByType(TranslateField.class);
+                if (metas.length == 0) {
+                    nestedFields.add(field);
+                    continue;
+                }
+                boolean multiValued = isMultiValued(field.getType());
+                List<TargetBinding> targets = new ArrayList<>(metas.length);
+                for (TranslateField meta : metas) {
+                    String targetName = meta.target();
+                    if (targetName == null || targetName.isEmpty()) {
+                        continue;
+                    }
+                    Field targetField = findField(type, targetName);
+                    if (targetField == null) {
+                        continue;
+                    }
+                    ValueShape shape = multiValued ? ValueShape.of(targetField.getType()) : ValueShape.SCALAR;
+                    if (shape == null) {
+                        metrics.recordError("executor.plan", new TranslateSignal("Target field "
+                                + type.getName() + "." + targetName + " cannot hold values of multi-valued source "
+                                + field.getName()));
+                        continue;
+                    }
+                    TranslateHandler handler = safeResolve(registry, meta);
+                    if (handler == null) {
+                        continue;
+                    }
+                    targets.add(new TargetBinding(meta, targetField, handler, shape, slot++));
+                    targetNames.add(targetName);
+                }
+                if (!targets.isEmpty()) {
+                    sources.add(new SourceBinding(field, sources.size(), targets));
+                }
+            }
+            current = current.getSuperclass();
+        }
+        if (!targetNames.isEmpty()) {
+            // 作为上游目标的源字段需保留，即使客户端未请求该字段
+            for (SourceBinding source : sources) {
+                for (TargetBinding target : source.targets) {
+                    SourceBinding downstream = sourceNamed(sources, target.targetField.getName());
+                    target.feedsLaterStage = downstream != null && downstream != source;
+                }
+            }
+        }
+        return new TranslatePlan(type,
+                Collections.unmodifiableList(sources),
+                stagesOf(sources),
+                Collections.unmodifiableList(nestedFields),
+                slot);
+    }
+
+    /**
+     * 按依赖关系为源字段分阶段：源字段是其他声明的目标时，位于其上游所在阶段之后。
+     */
+    private static List<List<SourceBinding>> stagesOf(List<SourceBinding> sources) {
+        Map<SourceBinding, Integer> stageOf = new HashMap<>();
+        int maxStage = 0;
+        for (SourceBinding source : sources) {
+            int stage = stageOf(source, sources, stageOf, new HashSet<>());
+            source.stage = stage;
+            maxStage = Math.max(maxStage, stage);
+        }
+        List<List<SourceBinding>> stages = new ArrayList<>(maxStage + 1);
+        for (int i = 0; i <= maxStage; i++) {
+            stages.add(new ArrayList<>());
+        }
+        for (SourceBinding source : sources) {
+            stages.get(source.stage).add(source);
+        }
+        for (int i = 0; i <= maxStage; i++) {
+            stages.set(i, Collections.unmodifiableList(stages.get(i)));
+        }
+        return Collections.unmodifiableList(stages);
+    }
+
+    private static int stageOf(SourceBinding source,
+                               List<SourceBinding> sources,
+                               Map<SourceBinding, Integer> stageOf,
+                               Set<SourceBinding> visiting) {
+        Integer known = stageOf.get(source);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(source)) {
+            // 循环依赖
+            return -1;
+        }
+        String name = source.field.getName();
+        int stage = 0;
+        for (SourceBinding producer : sources) {
+            if (producer == source || !producer.writes(name)) {
+                continue;
+            }
+            int upstream = stageOf(producer, sources, stageOf, visiting);
+            if (upstream < 0) {
+                stage = -1;
+                break;
+            }
+            stage = Math.max(stage, upstream + 1);
+        }
+        visiting.remove(source);
+        if (stage < 0) {
+            // 循环上的源字段回退到阶段 0，只有最外层调用记录结果
+            if (!visiting.isEmpty()) {
+                return -1;
+            }
+            stage = 0;
+        }
+        stageOf.put(source, stage);
+        return stage;
+    }
+
+    private static SourceBinding sourceNamed(List<SourceBinding> sources, String name) {
+        for (SourceBinding source : sources) {
+            if (source.field.getName().equals(name)) {
+                return source;
+            }
+        }
+        return null;
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    List<SourceBinding> sources() {
+        return sources;
+    }
+
+    /**
+     * 指定阶段的源字段；阶段 0 在遍历时收集，其余阶段在上一阶段写回后收集。
+     */
+    List<SourceBinding> stage(int stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * 最大阶段序号；不存在链式翻译时为 0。
+     */
+    int maxStage() {
+        return stages.size() - 1;
+    }
+
+    List<Field> nestedFields() {
+        return nestedFields;
+    }
+
+    /**
+     * 目标绑定总数，即记忆值数组的长度。
+     */
+    int targetCount() {
+        return targetCount;
+    }
+
+    boolean hasSources() {
+        return !sources.isEmpty();
+    }
+
+    private static TranslateHandler safeResolve(TranslateHandlerRegistry registry, TranslateField meta) {
+        try {
+            return registry.resolve(meta);
+        } catch (RuntimeException ex) {
+            // 注册表异常按无处理器处理，不影响主流程
+            return null;
+        }
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return null;
+    }
+
+    private static boolean isMultiValued(Class<?> fieldType) {
+        return Collection.class.isAssignableFrom(fieldType) || fieldType.isArray();
+    }
+
+    /**
+     * 多值源字段的结果写入目标字段时采用的形态。
+     */
+    enum ValueShape {
+
+        /**
+         * 单值源字段，按处理器结果原样写入。
+         */
+        SCALAR,
+
+        /**
+         * 目标为 {@code String} / {@code CharSequence}，按分隔符拼接。
+         */
+        JOINED,
+
+        /**
+         * 目标可接收 {@link ArrayList}（{@code List}、{@code Collection}、{@code Object} 等）。
+         */
+        LIST,
+
+        /**
+         * 目标可接收 {@link LinkedHashSet} 但不能接收 {@code List}（如 {@code Set<String>}），保持元素顺序。
+         */
+        SET,
+
+        /**
+         * 目标为引用类型数组（如 {@code String[]}）。
+         */
+        ARRAY;
+
+        /**
+         * @return 目标类型对应的形态；无法容纳多值结果（如 {@code Integer}、{@code int[]}）时返回 null
+         */
+        static ValueShape of(Class<?> targetType) {
+            if (targetType == String.class || targetType == CharSequence.class) {
+                return JOINED;
+            }
+            if (targetType.isAssignableFrom(ArrayList.class)) {
+                return LIST;
+            }
+            if (targetType.isAssignableFrom(LinkedHashSet.class)) {
+                return SET;
+            }
+            if (targetType.isArray() && !targetType.getComponentType().isPrimitive()) {
+                return ARRAY;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 带翻译注解的源字段及其全部目标。
+     */
+    static final class SourceBinding {
+        private final Field field;
+        private final int index;
+        private final List<TargetBinding> targets;
+        private final boolean multiValued;
+        private int stage;
+
+        SourceBinding(Field field, int index, List<TargetBinding> targets) {
+            this.field = field;
+            this.index = index;
+            this.targets = Collections.unmodifiableList(targets);
+            this.multiValued = isMultiValued(field.getType());
+        }
+
+        Field field() {
+            return field;
+        }
+
+        /**
+         * 源字段为集合或数组时，每个元素单独参与批量翻译。
+         */
+        boolean multiValued() {
+            return multiValued;
+        }
+
+        int stage() {
+            return stage;
+        }
+
+        private boolean writes(String fieldName) {
+            for (TargetBinding target : targets) {
+                if (target.targetField.getName().equals(fieldName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 在源值元组中的下标。
+         */
+        int index() {
+            return index;
+        }
+
+        List<TargetBinding> targets() {
+            return targets;
+        }
+    }
+
+    /**
+     * 单条翻译声明：注解元信息与解析后的目标字段、处理器。
+     * <p>
+     * 查询标识与其哈希在构建计划时预先计算，执行器据此分组，不再逐元素计算注解的 hashCode。
+     * </p>
+     */
+    static final class TargetBinding {
+        private final TranslateField meta;
+        private final Field targetField;
+        private final TranslateHandler handler;
+        private final TranslateType type;
+        private final String customType;
+        private final int slot;
+        private final Object lookupKey;
+        private final int lookupHash;
+        private final ValueShape shape;
+        private final String separator;
+        private boolean feedsLaterStage;
+
+        TargetBinding(TranslateField meta, Field targetField, TranslateHandler handler, ValueShape shape, int slot) {
+            this.meta = meta;
+            this.targetField = targetField;
+            this.handler = handler;
+            this.type = meta.type();
+            this.customType = meta.type() == TranslateType.CUSTOM ? meta.customType() : null;
+            this.slot = slot;
+            this.lookupKey = lookupKeyOf(handler, meta);
+            this.lookupHash = lookupKey.hashCode();
+            this.shape = shape;
+            this.separator = shape == ValueShape.JOINED ? meta.separator() : null;
+        }
+
+        private static Object lookupKeyOf(TranslateHandler handler, TranslateField meta) {
+            try {
+                Object key = handler.lookupKey(meta);
+                if (key != null) {
+                    return key;
+                }
+            } catch (RuntimeException ex) {
+                // 自定义实现异常时退化为按注解分组
+            }
+            return meta;
+        }
+
+        TranslateField meta() {
+            return meta;
+        }
+
+        Field targetField() {
+            return targetField;
+        }
+
+        TranslateHandler handler() {
+            return handler;
+        }
+
+        TranslateType type() {
+            return type;
+        }
+
+        /**
+         * 自定义类型的字符串键；内置类型为 null，请求级开关按位掩码判断。
+         */
+        String customType() {
+            return customType;
+        }
+
+        /**
+         * 在计划内的序号，对应记忆值数组下标。
+         */
+        int slot() {
+            return slot;
+        }
+
+        /**
+         * 处理器给出的查询标识，决定与哪些声明合并查询。
+         */
+        Object lookupKey() {
+            return lookupKey;
+        }
+
+        int lookupHash() {
+            return lookupHash;
+        }
+
+        /**
+         * 多值结果写入目标字段的形态；单值源字段为 {@link ValueShape#SCALAR}。
+         */
+        ValueShape shape() {
+            return shape;
+        }
+
+        /**
+         * 多值结果的拼接分隔符；形态不是 {@link ValueShape#JOINED} 时为 null。
+         */
+        String separator() {
+            return separator;
+        }
+
+        /**
+         * 目标字段同时是后续阶段的源字段。
+         */
+        boolean feedsLaterStage() {
+            return feedsLaterStage;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.translate.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 对象级翻译结果记忆：按 (类计划, 源值元组, 启用类型) 记住全部目标值。
+ * <p>
+ * 设计意图：热点接口常返回同一批缓存 DTO，源值不变时翻译结果也不变，
+ * 命中后直接写回目标字段，不再调用处理器。只记录全部成功翻译的对象，
+ * 使用 fallback 的对象不入记忆，避免把瞬时故障固化下来。
+ * 字典刷新时调用 {@link #invalidate()} 提升版本，旧条目随即失效；
+ * 没有刷新通知的来源（RPC、普通缓存、非快照表、自定义处理器）依靠条目存活时间收敛，
+ * 下游改名等变化最多延迟一个存活时间后可见。
+ * </p>
+ * <p>
+ * 条目存放在 {@link BoundedCache} 中，满时整体清空：被清掉的对象下次只是多翻译一次，
+ * 不会影响正确性，记忆命中路径上也不需要维护访问顺序。
+ * </p>
+ */
+public class TranslationMemo {
+
+    private final AtomicLong version = new AtomicLong();
+    private final BoundedCache<MemoKey, Entry> entries;
+    private volatile long ttlNanos = Duration.ofMinutes(1).toNanos();
+
+    public TranslationMemo() {
+        this(10_000);
+    }
+
+    /**
+     * @param maxEntries 最大条目数
+     * @throws IllegalArgumentException 容量不为正数时抛出
+     */
+    public TranslationMemo(int maxEntries) {
+        this.entries = new BoundedCache<>(maxEntries);
+    }
+
+    /**
+     * 设置条目的存活时间，到期后重新翻译。
+     *
+     * @param ttl 存活时间，需为正数
+     * @throws IllegalArgumentException 为空或不为正数时抛出
+     */
+    public void setTtl(Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 字典刷新后调用：提升版本并清空已有条目。
+     * <p>
+     * 可直接作为刷新回调使用，如
+     * {@code tableHandler.setRefreshListener(memo::invalidate)}、
+     * {@code cacheProvider.addRefreshListener(memo::invalidate)}。
+     * </p>
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    Object[] get(MemoKey key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.version != version.get() || System.nanoTime() - entry.expiresAtNanos >= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.values;
+    }
+
+    /**
+     * 写入记忆。
+     *
+     * @param key 记忆键
+     * @param values 目标值数组（按计划序号排列），调用方不得再修改
+     * @param observedVersion 开始翻译前读取的版本；期间发生刷新则放弃写入
+     */
+    void put(MemoKey key, Object[] values, long observedVersion) {
+        if (observedVersion != version.get()) {
+            return;
+        }
+        entries.put(key, new Entry(values, observedVersion, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * @param path 对象自响应根起的字段路径，决定投影下请求了哪些目标；未设置投影时为 null
+     */
+    static MemoKey key(TranslatePlan plan, Object[] rawValues, Set<String> enabledTypes, Set<String> projection,
+                       String path) {
+        return new MemoKey(plan, rawValues, enabledTypes, projection, path);
+    }
+
+    private static final class Entry {
+        private final Object[] values;
+        private final long version;
+        private final long expiresAtNanos;
+
+        Entry(Object[] values, long version, long expiresAtNanos) {
+            this.values = values;
+            this.version = version;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    static final class MemoKey {
+        private final TranslatePlan plan;
+        private final Object[] rawValues;
+        private final Set<String> enabledTypes;
+        private final Set<String> projection;
+        private final String path;
+        private final int hash;
+
+        MemoKey(TranslatePlan plan, Object[] rawValues, Set<String> enabledTypes, Set<String> projection, String path) {
+            this.plan = plan;
+            this.rawValues = rawValues;
+            this.enabledTypes = enabledTypes;
+            this.projection = projection;
+            this.path = path;
+            this.hash = 31 * (31 * (31 * (31 * System.identityHashCode(plan) + Arrays.hashCode(rawValues))
+                    + Objects.hashCode(enabledTypes)) + Objects.hashCode(projection)) + Objects.hashCode(path);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MemoKey)) {
+                return false;
+            }
+            MemoKey that = (MemoKey) o;
+            return plan == that.plan
+                    && hash == that.hash
+                    && Arrays.equals(rawValues, that.rawValues)
+                    && Objects.equals(enabledTypes, that.enabledTypes)
+                    && Objects.equals(projection, that.projection)
+                    && Objects.equals(path, that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.translate.support;
+
+import java.util.Arrays;
+
+/**
+ * 遍历使用的待访问队列：环形数组同时保存对象、深度与字段路径，避免为每个节点分配帧对象。
+ * <p>
+ * 设计意图：执行器按线程复用实例，遍历结束后清空引用但保留容量，
+ * 深度优先从尾部取、广度优先从头部取，由 {@link TraversalOrder} 决定。
+ * 路径只在设置了字段投影时记录，其余情况为 null。
+ * </p>
+ */
+final class TraversalDeque {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // 复用时超过该容量则收缩，避免一次超大响应长期占用内存
+    private static final int RETAINED_CAPACITY = 4096;
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int[] depths = new int[INITIAL_CAPACITY];
+    private String[] paths = new String[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void addLast(Object value, int depth, String path) {
+        if (size == values.length) {
+            grow();
+        }
+        int index = (head + size) & (values.length - 1);
+        values[index] = value;
+        depths[index] = depth;
+        paths[index] = path;
+        size++;
+    }
+
+    /**
+     * 反转 {@code [from, size)} 区间，使按正序加入的子节点能按正序从尾部弹出。
+     */
+    void reverseFrom(int from) {
+        int mask = values.length - 1;
+        for (int i = from, j = size - 1; i < j; i++, j--) {
+            int a = (head + i) & mask;
+            int b = (head + j) & mask;
+            Object value = values[a];
+            values[a] = values[b];
+            values[b] = value;
+            int depth = depths[a];
+            depths[a] = depths[b];
+            depths[b] = depth;
+            String path = paths[a];
+            paths[a] = paths[b];
+            paths[b] = path;
+        }
+    }
+
+    /**
+     * 头部元素的深度，需在 {@link #pollFirst()} 之前读取。
+     */
+    int peekFirstDepth() {
+        return depths[head];
+    }
+
+    /**
+     * 头部元素的字段路径，需在 {@link #pollFirst()} 之前读取。
+     */
+    String peekFirstPath() {
+        return paths[head];
+    }
+
+    Object pollFirst() {
+        Object value = values[head];
+        values[head] = null;
+        paths[head] = null;
+        head = (head + 1) & (values.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * 尾部元素的深度，需在 {@link #pollLast()} 之前读取。
+     */
+    int peekLastDepth() {
+        return depths[(head + size - 1) & (values.length - 1)];
+    }
+
+    /**
+     * 尾部元素的字段路径，需在 {@link #pollLast()} 之前读取。
+     */
+    String peekLastPath() {
+        return paths[(head + size - 1) & (values.length - 1)];
+    }
+
+    Object pollLast() {
+        int index = (head + size - 1) & (values.length - 1);
+        Object value = values[index];
+        values[index] = null;
+        paths[index] = null;
+        size--;
+        return value;
+    }
+
+    void clear() {
+        if (values.length > RETAINED_CAPACITY) {
+            values = new Object[INITIAL_CAPACITY];
+            depths = new int[INITIAL_CAPACITY];
+            paths = new String[INITIAL_CAPACITY];
+        } else if (size > 0) {
+            Arrays.fill(values, null);
+            Arrays.fill(paths, null);
+        }
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = values.length << 1;
+        if (capacity < 0) {
+            throw new IllegalStateException("Traversal deque too large");
+        }
+        Object[] newValues = new Object[capacity];
+        int[] newDepths = new int[capacity];
+        String[] newPaths = new String[capacity];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & (values.length - 1);
+            newValues[i] = values[index];
+            newDepths[i] = depths[index];
+            newPaths[i] = paths[index];
+        }
+        values = newValues;
+        depths = newDepths;
+        paths = newPaths;
+        head = 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.translate.support;
+
+/**
+ * 对象图的访问顺序。
+ * <p>
+ * 设计意图：两种顺序翻译结果相同，差别只在待访问队列的峰值大小：
+ * 深度优先适合深而窄的树（组织架构、类目树），广度优先适合浅而宽的结构（分页列表套明细）。
+ * </p>
+ */
+public enum TraversalOrder {
+
+    /**
+     * 深度优先，与原递归实现的访问顺序一致。
+     */
+    DEPTH_FIRST,
+
+    /**
+     * 广度优先，逐层访问。
+     */
+    BREADTH_FIRST
+}
@@ -0,0 +1,242 @@
+package com.example.translate.support;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * 本地快照文件中 key 与翻译值的紧凑二进制编码：1 字节类型标记 + 定长或带长度的内容。
+ * <p>
+ * 设计意图：只支持翻译结果与表列中常见的值类型，读回后类型与写入前一致，
+ * 可直接写回目标字段；其余类型视为不可持久化，由调用方跳过，不做有损转换。
+ * </p>
+ */
+final class ValueCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte SHORT = 4;
+    private static final byte BYTE = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte CHARACTER = 9;
+    private static final byte BIG_DECIMAL = 10;
+    private static final byte BIG_INTEGER = 11;
+    private static final byte TIMESTAMP = 12;
+    private static final byte SQL_DATE = 13;
+    private static final byte DATE = 14;
+    private static final byte LOCAL_DATE = 15;
+    private static final byte LOCAL_DATE_TIME = 16;
+    private static final byte INSTANT = 17;
+
+    private ValueCodec() {
+    }
+
+    /**
+     * @param value 值
+     * @return 是否可以编码
+     */
+    static boolean isSupported(Object value) {
+        return tagOf(value) >= 0;
+    }
+
+    /**
+     * 写入一个值，调用前需确认 {@link #isSupported(Object)}。
+     */
+    static void write(DataOutput out, Object value) throws IOException {
+        byte tag = tagOf(value);
+        if (tag < 0) {
+            throw new IOException("Unsupported value type: " + value.getClass().getName());
+        }
+        out.writeByte(tag);
+        switch (tag) {
+            case NULL:
+                break;
+            case STRING:
+                writeString(out, (String) value);
+                break;
+            case LONG:
+                out.writeLong((Long) value);
+                break;
+            case INTEGER:
+                out.writeInt((Integer) value);
+                break;
+            case SHORT:
+                out.writeShort((Short) value);
+                break;
+            case BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case CHARACTER:
+                out.writeChar((Character) value);
+                break;
+            case BIG_DECIMAL:
+            case BIG_INTEGER:
+                writeString(out, value.toString());
+                break;
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+                out.writeLong(timestamp.getTime());
+                out.writeInt(timestamp.getNanos());
+                break;
+            case SQL_DATE:
+            case DATE:
+                out.writeLong(((Date) value).getTime());
+                break;
+            case LOCAL_DATE:
+                out.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case LOCAL_DATE_TIME:
+            case INSTANT:
+                writeString(out, value.toString());
+                break;
+            default:
+                throw new IOException("Unsupported value tag: " + tag);
+        }
+    }
+
+    /**
+     * 读取一个值。
+     */
+    static Object read(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case LONG:
+                return in.readLong();
+            case INTEGER:
+                return in.readInt();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case BOOLEAN:
+                return in.readBoolean();
+            case CHARACTER:
+                return in.readChar();
+            case BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case SQL_DATE:
+                return new java.sql.Date(in.readLong());
+            case DATE:
+                return new Date(in.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.parse(readString(in));
+            case INSTANT:
+                return Instant.parse(readString(in));
+            default:
+                throw new IOException("Unknown value tag: " + tag);
+        }
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        // writeUTF 限制 64KB，这里使用 int 长度前缀
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte tagOf(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        // 按精确类型匹配：读回时按标记还原为同一类型，未知子类不做有损转换
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            return STRING;
+        }
+        if (type == Long.class) {
+            return LONG;
+        }
+        if (type == Integer.class) {
+            return INTEGER;
+        }
+        if (type == Short.class) {
+            return SHORT;
+        }
+        if (type == Byte.class) {
+            return BYTE;
+        }
+        if (type == Double.class) {
+            return DOUBLE;
+        }
+        if (type == Float.class) {
+            return FLOAT;
+        }
+        if (type == Boolean.class) {
+            return BOOLEAN;
+        }
+        if (type == Character.class) {
+            return CHARACTER;
+        }
+        if (type == BigDecimal.class) {
+            return BIG_DECIMAL;
+        }
+        if (type == BigInteger.class) {
+            return BIG_INTEGER;
+        }
+        if (type == java.sql.Timestamp.class) {
+            return TIMESTAMP;
+        }
+        if (type == java.sql.Date.class) {
+            return SQL_DATE;
+        }
+        if (type == Date.class) {
+            return DATE;
+        }
+        if (type == LocalDate.class) {
+            return LOCAL_DATE;
+        }
+        if (type == LocalDateTime.class) {
+            return LOCAL_DATE_TIME;
+        }
+        if (type == Instant.class) {
+            return INSTANT;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,525 @@
+package com.example.translate.support;
+
+import com.example.translate.metrics.TranslateMetrics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 跨重启保留的本地热点数据：各查询标识的热点 key 翻译结果与表快照，定期写入本地文件。
+ * <p>
+ * 设计意图：大批实例同时发布时，每个实例都从冷状态开始，缓存、数据库与 RPC 会同时承受预热流量。
+ * 启动时读回上次保存的内容并标记为过期：过期条目照常返回，首次命中时由调用方在后台刷新；
+ * 表快照读回后按版本增量校验，无需每个实例都全量加载。
+ * </p>
+ * <p>
+ * 热点条目按命名空间（通常为处理器类型与查询标识）分组，新鲜条目在存活时间内直接返回。
+ * 每个命名空间是一个 {@link BoundedCache}，满时清空：被清掉的热点只要仍被访问，
+ * 就会在下次保存前由下游重新取得并写入，冷 key 则自然不再落盘。
+ * 只持久化 {@link ValueCodec} 支持的 key 与值类型，其余条目只保留在内存中。
+ * </p>
+ */
+public class WarmStartStore implements Closeable {
+
+    private static final int MAGIC = 0x46545753; // "FTWS"
+    private static final int FORMAT = 1;
+
+    private final Path file;
+    private final Map<String, BoundedCache<Object, Entry>> namespaces = new ConcurrentHashMap<>();
+    private final Map<String, SnapshotRecord> snapshots = new ConcurrentHashMap<>();
+    // 从文件读回、尚未被处理器取走的表快照
+    private final Map<String, SnapshotRecord> restoredSnapshots = new ConcurrentHashMap<>();
+
+    private volatile int maxKeysPerNamespace = 10_000;
+    private volatile long ttlMillis = Duration.ofMinutes(10).toMillis();
+    private volatile long maxAgeMillis = Duration.ofDays(1).toMillis();
+    private volatile TranslateMetrics metrics = TranslateMetrics.NOOP;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param file 快照文件
+     * @throws IllegalArgumentException 文件为空时抛出
+     */
+    public WarmStartStore(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("file must not be null");
+        }
+        this.file = file.toAbsolutePath();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 设置单个命名空间的最大条目数。
+     *
+     * @param maxKeysPerNamespace 最大条目数，需为正数
+     * @throws IllegalArgumentException 不为正数时抛出
+     */
+    public void setMaxKeysPerNamespace(int maxKeysPerNamespace) {
+        if (maxKeysPerNamespace <= 0) {
+            throw new IllegalArgumentException("maxKeysPerNamespace must be positive: " + maxKeysPerNamespace);
+        }
+        this.maxKeysPerNamespace = maxKeysPerNamespace;
+        for (BoundedCache<Object, Entry> entries : namespaces.values()) {
+            entries.setMaxEntries(maxKeysPerNamespace);
+        }
+    }
+
+    /**
+     * 设置新鲜条目的存活时间，超过后视为未命中。
+     *
+     * @param ttl 存活时间，需为正数
+     * @throws IllegalArgumentException 为空或不为正数时抛出
+     */
+    public void setTtl(Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * 设置条目的最大年龄（自最初取得时起算）：超过后不再读回，过期条目也不再返回。
+     * <p>
+     * 设计意图：下游长期不可用时过期条目会反复被写回文件，以最大年龄限制其存留时间。
+     * </p>
+     *
+     * @param maxAge 最大年龄，需为正数
+     * @throws IllegalArgumentException 为空或不为正数时抛出
+     */
+    public void setMaxAge(Duration maxAge) {
+        if (maxAge == null || maxAge.isZero() || maxAge.isNegative()) {
+            throw new IllegalArgumentException("maxAge must be positive: " + maxAge);
+        }
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    /**
+     * 设置指标实现，用于统计定期保存时被吞掉的异常。
+     *
+     * @param metrics 指标实现；为空时不采集
+     */
+    public void setMetrics(TranslateMetrics metrics) {
+        this.metrics = metrics == null ? TranslateMetrics.NOOP : metrics;
+    }
+
+    /**
+     * 查找热点条目。
+     *
+     * @param namespace 命名空间
+     * @param keys 原始 key
+     * @param staleKeys 输出参数：本次首个命中的过期 key，调用方需在后台刷新，
+     *                  完成后调用 {@link #put(String, Map)} 与 {@link #releaseRefresh(String, Collection)}
+     * @return 原始 key -> 值，含过期条目
+     */
+    public Map<Object, Object> get(String namespace, Collection<Object> keys, Collection<Object> staleKeys) {
+        BoundedCache<Object, Entry> entries = namespaces.get(namespace);
+        if (entries == null || entries.isEmpty() || keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        long now = System.currentTimeMillis();
+        Map<Object, Object> result = new HashMap<>();
+        for (Object raw : keys) {
+            if (raw == null) {
+                continue;
+            }
+            Object key = NumericKeys.normalize(raw);
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                continue;
+            }
+            long age = now - entry.createdMillis;
+            if (age > maxAgeMillis || (!entry.stale && age > ttlMillis)) {
+                entries.remove(key, entry);
+                continue;
+            }
+            result.put(raw, entry.value);
+            if (entry.stale) {
+                entry.accessed = true;
+                if (entry.refreshing.compareAndSet(false, true)) {
+                    staleKeys.add(raw);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 记录新取得的翻译结果（新鲜条目）。
+     *
+     * @param namespace 命名空间
+     * @param values 原始 key -> 值
+     */
+    public void put(String namespace, Map<Object, Object> values) {
+        if (namespace == null || values == null || values.isEmpty()) {
+            return;
+        }
+        BoundedCache<Object, Entry> entries = namespace(namespace);
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Object, Object> value : values.entrySet()) {
+            if (value.getKey() == null || value.getValue() == null) {
+                continue;
+            }
+            entries.put(NumericKeys.normalize(value.getKey()), new Entry(value.getValue(), now, false));
+        }
+    }
+
+    /**
+     * 后台刷新结束后调用：仍为过期状态的条目允许再次触发刷新。
+     *
+     * @param namespace 命名空间
+     * @param keys {@link #get(String, Collection, Collection)} 输出的过期 key
+     */
+    public void releaseRefresh(String namespace, Collection<Object> keys) {
+        BoundedCache<Object, Entry> entries = namespaces.get(namespace);
+        if (entries == null || keys == null) {
+            return;
+        }
+        for (Object raw : keys) {
+            Entry entry = raw == null ? null : entries.get(NumericKeys.normalize(raw));
+            if (entry != null && entry.stale) {
+                entry.refreshing.set(false);
+            }
+        }
+    }
+
+    /**
+     * 记录表快照的当前版本，保存时一并写入。
+     *
+     * @param name 快照标识（如 {@code table:keyColumn}）
+     * @param valueColumns 值列，读回时据此校验配置是否变化
+     * @param snapshot 快照
+     * @param versionToken 版本查询的结果；未配置时为 {@code null}
+     */
+    public void putSnapshot(String name, List<String> valueColumns, TableSnapshot snapshot, Object versionToken) {
+        if (name == null || valueColumns == null || snapshot == null) {
+            return;
+        }
+        snapshots.put(name, new SnapshotRecord(new ArrayList<>(valueColumns), snapshot, versionToken,
+                System.currentTimeMillis()));
+        restoredSnapshots.remove(name);
+    }
+
+    /**
+     * 取走读回的表快照，每个快照只交付一次。
+     *
+     * @param name 快照标识
+     * @param valueColumns 当前配置的值列，与保存时不一致则丢弃
+     * @return 快照记录；不存在、已过最大年龄或配置不一致时返回 {@code null}
+     */
+    public SnapshotRecord takeSnapshot(String name, List<String> valueColumns) {
+        SnapshotRecord record = name == null ? null : restoredSnapshots.remove(name);
+        if (record == null || !record.valueColumns.equals(valueColumns)
+                || System.currentTimeMillis() - record.createdMillis > maxAgeMillis) {
+            return null;
+        }
+        return record;
+    }
+
+    /**
+     * 读回快照文件，全部条目标记为过期；文件不存在时返回 0。
+     *
+     * @return 读回的热点条目数（不含表快照行）
+     * @throws IOException 文件无法读取或格式不符时抛出，已有数据保持不变
+     */
+    public int load() throws IOException {
+        long now = System.currentTimeMillis();
+        Map<String, Map<Object, Entry>> loadedNamespaces = new HashMap<>();
+        Map<String, SnapshotRecord> loadedSnapshots = new HashMap<>();
+        int loaded = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                throw new IOException("Not a warm-start file: " + file);
+            }
+            int namespaceCount = in.readInt();
+            for (int n = 0; n < namespaceCount; n++) {
+                String namespace = ValueCodec.readString(in);
+                int count = in.readInt();
+                Map<Object, Entry> entries = new ConcurrentHashMap<>(Math.max(16, count * 2));
+                for (int i = 0; i < count; i++) {
+                    long createdMillis = in.readLong();
+                    Object key = ValueCodec.read(in);
+                    Object value = ValueCodec.read(in);
+                    if (now - createdMillis <= maxAgeMillis && key != null && value != null) {
+                        entries.put(NumericKeys.normalize(key), new Entry(value, createdMillis, true));
+                    }
+                }
+                loaded += entries.size();
+                loadedNamespaces.put(namespace, entries);
+            }
+            int snapshotCount = in.readInt();
+            for (int s = 0; s < snapshotCount; s++) {
+                String name = ValueCodec.readString(in);
+                SnapshotRecord record = readSnapshot(in);
+                if (now - record.createdMillis <= maxAgeMillis) {
+                    loadedSnapshots.put(name, record);
+                }
+            }
+        } catch (NoSuchFileException ex) {
+            return 0;
+        }
+        // 完整读取后再合并，不覆盖运行期间已取得的新鲜条目
+        for (Map.Entry<String, Map<Object, Entry>> loadedNamespace : loadedNamespaces.entrySet()) {
+            BoundedCache<Object, Entry> entries = namespace(loadedNamespace.getKey());
+            loadedNamespace.getValue().forEach(entries::putIfAbsent);
+        }
+        for (Map.Entry<String, SnapshotRecord> record : loadedSnapshots.entrySet()) {
+            if (!snapshots.containsKey(record.getKey())) {
+                restoredSnapshots.put(record.getKey(), record.getValue());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 写入快照文件：先写同目录临时文件，再原子替换。
+     * <p>
+     * 写入新鲜条目与被访问过的过期条目，从未被访问的读回条目视为已不再热点而丢弃。
+     * </p>
+     *
+     * @return 写入的热点条目数
+     * @throws IOException 写入或替换失败时抛出，原文件保持不变
+     */
+    public int save() throws IOException {
+        long now = System.currentTimeMillis();
+        Map<String, List<Object[]>> persisted = new LinkedHashMap<>();
+        int saved = 0;
+        for (Map.Entry<String, BoundedCache<Object, Entry>> namespace : namespaces.entrySet()) {
+            List<Object[]> rows = new ArrayList<>();
+            namespace.getValue().forEach((key, value) -> {
+                long age = now - value.createdMillis;
+                boolean live = value.stale ? value.accessed && age <= maxAgeMillis : age <= ttlMillis;
+                if (live && ValueCodec.isSupported(key) && ValueCodec.isSupported(value.value)) {
+                    rows.add(new Object[]{key, value});
+                }
+            });
+            if (!rows.isEmpty()) {
+                persisted.put(namespace.getKey(), rows);
+                saved += rows.size();
+            }
+        }
+        Map<String, SnapshotRecord> persistedSnapshots = new LinkedHashMap<>(restoredSnapshots);
+        persistedSnapshots.putAll(snapshots);
+        persistedSnapshots.values().removeIf(record -> !record.isPersistable());
+
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeInt(persisted.size());
+                for (Map.Entry<String, List<Object[]>> namespace : persisted.entrySet()) {
+                    ValueCodec.writeString(out, namespace.getKey());
+                    out.writeInt(namespace.getValue().size());
+                    for (Object[] row : namespace.getValue()) {
+                        Entry entry = (Entry) row[1];
+                        out.writeLong(entry.createdMillis);
+                        ValueCodec.write(out, row[0]);
+                        ValueCodec.write(out, entry.value);
+                    }
+                }
+                out.writeInt(persistedSnapshots.size());
+                for (Map.Entry<String, SnapshotRecord> record : persistedSnapshots.entrySet()) {
+                    ValueCodec.writeString(out, record.getKey());
+                    writeSnapshot(out, record.getValue());
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return saved;
+    }
+
+    /**
+     * 按固定间隔在后台保存，重复调用无效。
+     *
+     * @param interval 保存间隔，需为正数
+     * @throws IllegalArgumentException 为空或不为正数时抛出
+     */
+    public synchronized void start(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("interval must be positive: " + interval);
+        }
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "translate-warm-start");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::safeSave, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 停止定期保存并做最后一次保存。
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        safeSave();
+    }
+
+    private BoundedCache<Object, Entry> namespace(String namespace) {
+        return namespaces.computeIfAbsent(namespace, k -> new BoundedCache<>(maxKeysPerNamespace));
+    }
+
+    private void safeSave() {
+        try {
+            save();
+        } catch (IOException | RuntimeException ex) {
+            // 保存失败保留上次的文件，等待下个周期
+            metrics.recordError("warmstart.save", ex);
+        }
+    }
+
+    private static void writeSnapshot(DataOutputStream out, SnapshotRecord record) throws IOException {
+        out.writeLong(record.createdMillis);
+        out.writeInt(record.valueColumns.size());
+        for (String column : record.valueColumns) {
+            ValueCodec.writeString(out, column);
+        }
+        ValueCodec.write(out, record.versionToken);
+        ValueCodec.write(out, record.snapshot.getVersion());
+        out.writeInt(record.snapshot.size());
+        IOException[] failure = new IOException[1];
+        record.snapshot.forEach((key, row) -> {
+            if (failure[0] != null) {
+                return;
+            }
+            try {
+                ValueCodec.write(out, key);
+                for (Object value : row) {
+                    ValueCodec.write(out, value);
+                }
+            } catch (IOException ex) {
+                failure[0] = ex;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private static SnapshotRecord readSnapshot(DataInputStream in) throws IOException {
+        long createdMillis = in.readLong();
+        int columnCount = in.readInt();
+        List<String> valueColumns = new ArrayList<>(columnCount);
+        for (int c = 0; c < columnCount; c++) {
+            valueColumns.add(ValueCodec.readString(in));
+        }
+        Object versionToken = ValueCodec.read(in);
+        Object version = ValueCodec.read(in);
+        int rowCount = in.readInt();
+        Map<Object, Object[]> rows = new HashMap<>(Math.max(16, rowCount * 2));
+        for (int r = 0; r < rowCount; r++) {
+            Object key = ValueCodec.read(in);
+            Object[] row = new Object[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                row[c] = ValueCodec.read(in);
+            }
+            rows.put(key, row);
+        }
+        return new SnapshotRecord(valueColumns, TableSnapshot.of(rows, columnCount, version), versionToken, createdMillis);
+    }
+
+    private static final class Entry {
+        private final Object value;
+        // 最初取得的时间（墙钟），跨进程有效
+        private final long createdMillis;
+        // 从文件读回、尚未刷新
+        private final boolean stale;
+        private final AtomicBoolean refreshing;
+        private volatile boolean accessed;
+
+        Entry(Object value, long createdMillis, boolean stale) {
+            this.value = value;
+            this.createdMillis = createdMillis;
+            this.stale = stale;
+            this.refreshing = stale ? new AtomicBoolean() : null;
+        }
+    }
+
+    /**
+     * 持久化的表快照及其版本信息。
+     */
+    public static final class SnapshotRecord {
+        private final List<String> valueColumns;
+        private final TableSnapshot snapshot;
+        private final Object versionToken;
+        private final long createdMillis;
+
+        SnapshotRecord(List<String> valueColumns, TableSnapshot snapshot, Object versionToken, long createdMillis) {
+            this.valueColumns = valueColumns;
+            this.snapshot = snapshot;
+            this.versionToken = versionToken;
+            this.createdMillis = createdMillis;
+        }
+
+        public TableSnapshot getSnapshot() {
+            return snapshot;
+        }
+
+        public Object getVersionToken() {
+            return versionToken;
+        }
+
+        /**
+         * 含不可编码的值时整个快照不持久化，避免读回残缺的数据。
+         */
+        boolean isPersistable() {
+            if (!ValueCodec.isSupported(versionToken) || !ValueCodec.isSupported(snapshot.getVersion())) {
+                return false;
+            }
+            boolean[] supported = {true};
+            snapshot.forEach((key, row) -> {
+                if (!supported[0]) {
+                    return;
+                }
+                if (!ValueCodec.isSupported(key)) {
+                    supported[0] = false;
+                    return;
+                }
+                for (Object value : row) {
+                    if (!ValueCodec.isSupported(value)) {
+                        supported[0] = false;
+                        return;
+                    }
+                }
+            });
+            return supported[0];
+        }
+    }
+}